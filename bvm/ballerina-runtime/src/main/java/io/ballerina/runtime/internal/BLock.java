@@ -19,55 +19,177 @@ package io.ballerina.runtime.internal;
 
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The owner strand is set with a CAS and strands which fail to acquire the lock are queued and yield. The lock is
+ * fair: each unlock hands the ownership over to the longest waiting strand before waking it up, so that a strand
+ * which has not been queued can not take the lock ahead of it. The lock is reentrant for the owner strand.
+ * <p>
+ * The lock is named after where it is declared. The contention statistics are kept per name, so that the locks of
+ * the same declaration, such as the field locks of the instances of a class, are reported together.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final Logger log = LoggerFactory.getLogger(BLock.class);
+    private static final Map<String, LockStats> LOCK_STATS = new ConcurrentHashMap<>();
 
-    private ArrayDeque<Strand> waitingForLock;
+    private final String name;
+    private final LockStats stats;
+    private final AtomicReference<Strand> owner = new AtomicReference<>();
+    /**
+     * Number of times the owner has acquired the lock. Only accessed by the owner strand.
+     */
+    private int holdCount;
+    private final Queue<Strand> waitingForLock = new ConcurrentLinkedQueue<>();
 
-    public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+    public BLock(String name) {
+        this.name = name;
+        // Looked up first, as the locks of the object fields are created with each object
+        LockStats lockStats = LOCK_STATS.get(name);
+        this.stats = lockStats != null ? lockStats : LOCK_STATS.computeIfAbsent(name, key -> new LockStats());
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
-            strand.acquiredLockCount++;
+    public boolean lock(Strand strand) {
+        if (tryAcquire(strand)) {
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
-
-        // Strand state change
+        // Strand state change, done before queueing so that an unlock can not be missed
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
-        return false;
+        if (strand.lockWaitStartTime == 0) {
+            strand.lockWaitStartTime = System.nanoTime();
+            stats.waitCount.increment();
+            registerMetrics();
+        }
+        this.waitingForLock.offer(strand);
+
+        // the lock may have been released before the strand got queued. Otherwise, the strand is handed the lock by
+        // an unlock and acquires it once rescheduled
+        if (!this.owner.compareAndSet(null, strand)) {
+            return false;
+        }
+        // waiting strands are only dequeued by the owner, hence the strand is still queued while the lock is free
+        this.waitingForLock.remove(strand);
+        strand.setState(State.RUNNABLE);
+        onAcquired(strand);
+        return true;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        Strand removedStrand = this.current.removeLast();
+    public void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        Strand removedStrand = this.owner.get();
         removedStrand.acquiredLockCount--;
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+        if (--this.holdCount > 0) {
+            return;
+        }
+        while (true) {
+            Strand strand = this.waitingForLock.poll();
+            if (strand != null) {
+                // hand over the lock, the strand acquires it once rescheduled
+                this.owner.set(strand);
+                strand.scheduler.unblockStrand(strand);
+                return;
+            }
+            this.owner.set(null);
+            // a strand may have been queued after the poll, without seeing the lock free. Take the lock back and
+            // hand it over, unless it has already been acquired by another strand, which will do so on its unlock
+            if (this.waitingForLock.isEmpty() || !this.owner.compareAndSet(null, removedStrand)) {
+                return;
+            }
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.owner.get() == null;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner.get() == ctx;
+    }
+
+    public long getAcquireCount() {
+        return stats.acquireCount.sum();
+    }
+
+    public long getWaitCount() {
+        return stats.waitCount.sum();
+    }
+
+    public long getWaitTimeNanos() {
+        return stats.waitTimeNanos.sum();
+    }
+
+    private boolean tryAcquire(Strand strand) {
+        Strand currentOwner = this.owner.get();
+        if (currentOwner == strand || (currentOwner == null && this.owner.compareAndSet(null, strand))) {
+            onAcquired(strand);
+            return true;
+        }
+        return false;
+    }
+
+    private void onAcquired(Strand strand) {
+        this.holdCount++;
+        strand.acquiredLockCount++;
+        stats.acquireCount.increment();
+        if (strand.lockWaitStartTime != 0) {
+            stats.waitTimeNanos.add(System.nanoTime() - strand.lockWaitStartTime);
+            strand.lockWaitStartTime = 0;
+        }
+    }
+
+    /**
+     * Registers the contention metrics of the locks of a name once one of them is contended for the first time, to
+     * keep the uncontended path free of any metric registry access.
+     */
+    private void registerMetrics() {
+        if (!ObserveUtils.isMetricsEnabled() || !stats.metricsRegistered.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+            Set<Tag> tags = Set.of(Tag.of("lock", name));
+            metricRegistry.polledGauge(new MetricId("lock_acquires_total", "Lock acquisitions", tags), stats,
+                    lockStats -> lockStats.acquireCount.sum());
+            metricRegistry.polledGauge(new MetricId("lock_waits_total", "Lock acquisitions which had to wait",
+                    tags), stats, lockStats -> lockStats.waitCount.sum());
+            metricRegistry.polledGauge(new MetricId("lock_wait_time_nanoseconds_total",
+                    "Total time spent waiting for the lock", tags), stats, lockStats -> lockStats.waitTimeNanos.sum());
+        } catch (RuntimeException e) {
+            // Metric Provider may throw exceptions if there is a mismatch in tags.
+            log.error("error registering metrics for lock " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Contention statistics shared by the locks of a name.
+     */
+    private static class LockStats {
+
+        private final LongAdder acquireCount = new LongAdder();
+        private final LongAdder waitCount = new LongAdder();
+        private final LongAdder waitTimeNanos = new LongAdder();
+        private final AtomicBoolean metricsRegistered = new AtomicBoolean();
     }
 }
@@ -62,6 +62,8 @@ import io.ballerina.runtime.internal.types.BTypeReferenceType;
 import io.ballerina.runtime.internal.types.BTypedescType;
 import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.types.BXmlType;
+import io.ballerina.runtime.internal.types.TypeCheckCache;
+import io.ballerina.runtime.internal.types.UniformTypeBits;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -559,11 +561,36 @@ public class TypeChecker {
 
     @Deprecated
     public static boolean checkIsType(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
+        // The cached results may depend on the members of any type checked on the way, see BType#structureChanged
+        markTypeChecked(sourceType);
+        markTypeChecked(targetType);
+
         // First check whether both types are the same.
         if (sourceType == targetType || (sourceType.getTag() == targetType.getTag() && sourceType.equals(targetType))) {
             return true;
         }
 
+        // Results which do not depend on assumptions made for recursive types can be cached.
+        if (unresolvedTypes == null && sourceType instanceof BType bType) {
+            TypeCheckCache cache = bType.getTypeCheckCache();
+            int cachedResult = cache.get(targetType);
+            if (cachedResult != TypeCheckCache.NOT_CACHED) {
+                return cachedResult == TypeCheckCache.SUBTYPE;
+            }
+            boolean result = checkIsTypeInternal(sourceType, targetType, null);
+            cache.put(targetType, result);
+            return result;
+        }
+        return checkIsTypeInternal(sourceType, targetType, unresolvedTypes);
+    }
+
+    private static void markTypeChecked(Type type) {
+        if (type instanceof BType bType) {
+            bType.markTypeChecked();
+        }
+    }
+
+    private static boolean checkIsTypeInternal(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
         if (checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(sourceType)) {
             return true;
         }
@@ -572,6 +599,11 @@ public class TypeChecker {
             return false;
         }
 
+        // A subtype can only have values of the uniform types its supertype has values of.
+        if (!UniformTypeBits.mayBeSubtype(sourceType, targetType)) {
+            return false;
+        }
+
         int sourceTypeTag = sourceType.getTag();
         int targetTypeTag = targetType.getTag();
 
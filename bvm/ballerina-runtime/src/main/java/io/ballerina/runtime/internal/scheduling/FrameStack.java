@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Growable stack of {@link FunctionFrame}s saved by the functions of a yielded strand.
+ * <p>
+ * A strand is only executed by one thread at a time, hence this stack is not synchronized. The generated code pushes
+ * the frames while a strand yields and pops them while it resumes.
+ *
+ * @since 2201.10.0
+ */
+public final class FrameStack {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final FunctionFrame[] EMPTY_SNAPSHOT = new FunctionFrame[0];
+
+    private FunctionFrame[] elements;
+    private int size;
+
+    public FrameStack() {
+        this.elements = new FunctionFrame[DEFAULT_CAPACITY];
+    }
+
+    public void push(FunctionFrame frame) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size << 1);
+        }
+        elements[size++] = frame;
+    }
+
+    public FunctionFrame pop() {
+        FunctionFrame frame = elements[--size];
+        elements[size] = null;
+        return frame;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the frames from the bottom to the top of the stack, to be used by threads other than the one
+     * executing the strand, such as the strand dump. If the frames are modified while being copied, an empty array is
+     * returned since the strand is no longer in the state that was being observed.
+     *
+     * @return copy of the frames in the stack
+     */
+    public FunctionFrame[] snapshot() {
+        FunctionFrame[] currentElements = elements;
+        int currentSize = Math.min(size, currentElements.length);
+        FunctionFrame[] frames = Arrays.copyOf(currentElements, currentSize);
+        for (FunctionFrame frame : frames) {
+            if (frame == null) {
+                return EMPTY_SNAPSHOT;
+            }
+        }
+        return frames;
+    }
+}
@@ -18,7 +18,8 @@
 
 package io.ballerina.runtime.internal.scheduling;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
@@ -36,9 +37,10 @@ public class ItemGroup {
 
     /**
      * Keep the list of items that should run on same thread.
-     * Using a stack to get advantage of the locality.
+     * Using a stack to get advantage of the locality. Not synchronized, hence must only be accessed while holding
+     * the group lock once the group is scheduled.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    Deque<SchedulerItem> items = new ArrayDeque<>();
 
     /**
      * Indicates this item is already in runnable list/executing or not.
@@ -66,6 +68,25 @@ public class ItemGroup {
         return items.pop();
     }
 
+    /**
+     * Removes the next item to be executed, or marks the group as not scheduled if there are no items left, so that
+     * the next item added puts the group back in the runnable list.
+     *
+     * @return next item to be executed or null if there are no items left
+     */
+    SchedulerItem getOrUnschedule() {
+        groupLock.lock();
+        try {
+            SchedulerItem item = items.pollFirst();
+            if (item == null) {
+                scheduled.set(false);
+            }
+            return item;
+        } finally {
+            groupLock.unlock();
+        }
+    }
+
     public void lock() {
         this.groupLock.lock();
     }
@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.diagnostics.RuntimeDiagnosticLog;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
 import io.ballerina.runtime.internal.util.RuntimeUtils;
 import io.ballerina.runtime.internal.values.ChannelDetails;
@@ -35,10 +36,7 @@ import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -64,7 +62,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private static final ConcurrentHashMap<Integer, Strand> currentStrands = new ConcurrentHashMap<>();
@@ -74,6 +72,13 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_MODE system variable to "work-stealing", in which case
+     * each worker thread gets its own runnable queue, or to "virtual-threads", in which case each runnable strand
+     * group is executed on a virtual thread. Default is a single queue shared among a fixed pool of workers.
+     */
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -100,8 +105,16 @@ public class Scheduler {
     }
 
     public Scheduler(int numThreads, boolean immortal) {
-        this.numThreads = numThreads;
         this.immortal = immortal;
+        // in virtual thread mode groups run on their own threads, a single worker is enough to wait for the poison
+        // pill
+        this.numThreads = RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS.equals(schedulerModeConf) ? 1 : numThreads;
+        RuntimeDiagnosticLog diagnosticLog = new RuntimeDiagnosticLog();
+        this.runnableList = createRunnableQueue(schedulerModeConf, this.numThreads, this::runGroupSafely,
+                diagnosticLog);
+        if (!diagnosticLog.getDiagnosticList().isEmpty()) {
+            RuntimeUtils.handleDiagnosticErrors(diagnosticLog);
+        }
         this.runtimeRegistry = new RuntimeRegistry(this);
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
@@ -294,8 +307,8 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
+        runnableList.registerWorker();
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -308,38 +321,47 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group);
+        }
+    }
 
-                item = group.get();
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+    /**
+     * Executes the items of the given group until the group runs out of runnable items.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item = group.getOrUnschedule();
+        while (item != null) {
+            Object result = null;
+            Throwable panic = null;
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+            } finally {
+                strandHolder.get().strand = previousStrand;
             }
+            postProcess(item, result, panic);
+            item = group.getOrUnschedule();
         }
     }
 
@@ -393,19 +415,21 @@ public class Scheduler {
 
                 justCompleted.setState(State.DONE);
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
+                if (justCompleted.waitingContexts != null) {
+                    for (WaitContext ctx : justCompleted.waitingContexts) {
+                        ctx.lock();
+                        if (!ctx.completed) {
+                            if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                                if (ctx.intermediate) {
+                                    ctx.runnable = true;
+                                } else {
+                                    ctx.completed = true;
+                                    reschedule(ctx.schedulerItem);
+                                }
                             }
                         }
+                        ctx.unLock();
                     }
-                    ctx.unLock();
                 }
 
                 cleanUp(justCompleted);
@@ -464,14 +488,17 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details : channels) {
             WorkerDataChannel wdChannel;
 
             if (details.channelInSameStrand) {
-                wdChannel = item.future.strand.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.getWDChannels().getWorkerDataChannel(details.name);
             } else {
-                wdChannel = item.future.strand.parent.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.parent.getWDChannels().getWorkerDataChannel(details.name);
             }
 
             if (details.send) {
@@ -513,7 +540,7 @@ public class Scheduler {
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
         FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
+        future.strand.frames = new FrameStack();
         return future;
     }
 
@@ -551,6 +578,17 @@ public class Scheduler {
         return poolSize;
     }
 
+    static RunnableQueue createRunnableQueue(String schedulerMode, int numThreads, Consumer<ItemGroup> groupRunner,
+                                             RuntimeDiagnosticLog diagnosticLog) {
+        if (RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS.equals(schedulerMode)) {
+            return new VirtualThreadRunnableQueue(groupRunner, diagnosticLog);
+        }
+        if (RuntimeConstants.SCHEDULER_MODE_WORK_STEALING.equals(schedulerMode)) {
+            return new WorkStealingRunnableQueue(numThreads);
+        }
+        return new SharedRunnableQueue();
+    }
+
     public void gracefulExit() {
         if (!this.immortal) {
             this.poison();
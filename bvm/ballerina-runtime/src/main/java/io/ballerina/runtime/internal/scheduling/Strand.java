@@ -34,7 +34,6 @@ import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -66,27 +65,32 @@ public class Strand {
     private final String name;
     private final StrandMetadata metadata;
 
-    public Stack<FunctionFrame> frames;
+    public FrameStack frames;
     public int resumeIndex;
     public int functionInvocation;
     public Object returnValue;
     public BError panic;
     public Scheduler scheduler;
     public Strand parent;
-    public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
-    public Set<ChannelDetails> channelDetails;
-    public Set<SchedulerItem> dependants;
     public boolean cancel;
     public int acquiredLockCount;
+    public long lockWaitStartTime;
 
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
     WaitContext waitContext;
     ItemGroup strandGroup;
 
+    // Most strands never use worker channels, wait on other strands or run transactions, so the related state is only
+    // created when it is first needed.
+    private volatile WDChannels wdChannels;
+    Set<ChannelDetails> channelDetails;
+    // Global properties are shared with the parent and the child strands until one of them updates them, at which
+    // point the updating strand takes a copy. Strands are created by the thread running their parent.
     private Map<String, Object> globalProps;
+    private boolean globalPropsShared;
     public TransactionLocalContext currentTrxContext;
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
@@ -106,35 +110,29 @@ public class Strand {
                   Map<String, Object> properties) {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
-        this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
 
-        //TODO: improve by using a copy on write map #26710
         if (properties != null) {
             this.globalProps = properties;
-        } else if (parent != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
-        } else {
-            this.globalProps = new HashMap<>();
+        } else if (parent != null && parent.globalProps != null) {
+            parent.globalPropsShared = true;
+            this.globalProps = parent.globalProps;
+            this.globalPropsShared = true;
         }
     }
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties, TransactionLocalContext currentTrxContext) {
         this(name, metadata, scheduler, parent, properties);
         if (currentTrxContext != null) {
-            this.trxContexts = parent.trxContexts;
+            this.trxContexts = parent.getTrxContexts();
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = currentTrxContext;
         } else {
-            Object currentContext = globalProps.get(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+            Object currentContext = getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
             if (currentContext != null) {
                 TransactionLocalContext branchedContext =
                         createTrxContextBranch((TransactionLocalContext) currentContext, this.id);
@@ -177,11 +175,49 @@ public class Strand {
     }
 
     public Object getProperty(String key) {
-        return this.globalProps.get(key);
+        return this.globalProps == null ? null : this.globalProps.get(key);
     }
 
     public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+        getWritableGlobalProps().put(key, value);
+    }
+
+    private Map<String, Object> getWritableGlobalProps() {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        } else if (this.globalPropsShared) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.globalPropsShared = false;
+        }
+        return this.globalProps;
+    }
+
+    private Stack<TransactionLocalContext> getTrxContexts() {
+        if (this.trxContexts == null) {
+            this.trxContexts = new Stack<>();
+        }
+        return this.trxContexts;
+    }
+
+    public WDChannels getWDChannels() {
+        WDChannels channels = this.wdChannels;
+        if (channels != null) {
+            return channels;
+        }
+        // Worker strands get the channels of their parent concurrently.
+        synchronized (this) {
+            if (this.wdChannels == null) {
+                this.wdChannels = new WDChannels();
+            }
+            return this.wdChannels;
+        }
+    }
+
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
     }
 
     public boolean isInTransaction() {
@@ -194,21 +230,25 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
-            globalProps.put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+            getWritableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
             return;
         }
-        globalProps.remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        if (getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY) != null) {
+            getWritableGlobalProps().remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        }
         this.currentTrxContext = null;
     }
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
-            this.trxContexts.push(this.currentTrxContext);
+            getTrxContexts().push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        if (getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY) == null) {
+            getWritableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        }
     }
 
     public ErrorValue handleFlush(ChannelDetails[] channels) throws Throwable {
@@ -290,7 +330,7 @@ public class Strand {
                 ctx.waitCount.decrementAndGet();
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -338,7 +378,7 @@ public class Strand {
                     }
                     future.setWaited(true);
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -366,15 +406,18 @@ public class Strand {
     }
 
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         Collections.addAll(this.channelDetails, channels);
     }
 
     private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
         WorkerDataChannel dataChannel;
         if (channel.channelInSameStrand) {
-            dataChannel = this.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.getWDChannels().getWorkerDataChannel(channel.name);
         } else {
-            dataChannel = this.parent.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.parent.getWDChannels().getWorkerDataChannel(channel.name);
         }
         return dataChannel;
     }
@@ -473,8 +516,9 @@ public class Strand {
     }
 
     private void getInfoFromYieldedState(StringBuilder strandInfo, String closingBracketWithNewLines) {
-        Stack<FunctionFrame> strandFrames = this.frames;
-        if ((strandFrames == null) || (strandFrames.isEmpty())) {
+        FrameStack frameStack = this.frames;
+        FunctionFrame[] strandFrames = frameStack == null ? null : frameStack.snapshot();
+        if ((strandFrames == null) || (strandFrames.length == 0)) {
             // this means the strand frames is changed, hence the state is runnable
             strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
             return;
@@ -484,22 +528,15 @@ public class Strand {
         String stringPrefix = "\t\tat\t";
         String yieldStatus = "BLOCKED";
         boolean noPickedYieldStatus = true;
-        try {
-            for (FunctionFrame frame : strandFrames) {
-                if (noPickedYieldStatus) {
-                    yieldStatus = frame.yieldStatus;
-                    noPickedYieldStatus = false;
-                }
-                String yieldLocation = frame.yieldLocation;
-                frameStackTrace.append(stringPrefix).append(yieldLocation);
-                frameStackTrace.append("\n");
-                stringPrefix = "\t\t  \t";
+        for (FunctionFrame frame : strandFrames) {
+            if (noPickedYieldStatus) {
+                yieldStatus = frame.yieldStatus;
+                noPickedYieldStatus = false;
             }
-        } catch (ConcurrentModificationException ce) {
-            // this exception can be thrown when frames get added or removed while it is being iterated
-            // that means now the strand state is changed from yielded state to runnable state
-            strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
-            return;
+            String yieldLocation = frame.yieldLocation;
+            frameStackTrace.append(stringPrefix).append(yieldLocation);
+            frameStackTrace.append("\n");
+            stringPrefix = "\t\t  \t";
         }
         if (!this.isYielded() || noPickedYieldStatus) {
             // if frames have got empty, noPickedYieldStatus is true, then the state has changed to runnable
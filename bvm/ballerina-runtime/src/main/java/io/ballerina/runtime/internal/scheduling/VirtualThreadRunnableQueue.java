@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.internal.diagnostics.RuntimeDiagnosticLog;
+import io.ballerina.runtime.internal.errors.ErrorCodes;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunnableQueue} which does not queue runnable groups at all, but starts a new virtual thread for each of them.
+ * A strand that blocks inside a Java interop call then only parks its own virtual thread instead of occupying one of
+ * a fixed number of scheduler worker threads. Only the poison pills are queued, to let the scheduler exit.
+ * <p>
+ * Virtual threads are only available from Java 21 onwards. When running on an older JVM, a new platform thread is
+ * started for each group instead, which keeps the blocking behaviour but not the low cost per thread.
+ *
+ * @since 2201.10.0
+ */
+class VirtualThreadRunnableQueue implements RunnableQueue {
+
+    private static final String THREAD_NAME_PREFIX = "jbal-strand-exec-virtual";
+
+    private final BlockingQueue<ItemGroup> poisonPills = new LinkedBlockingQueue<>();
+    private final ThreadFactory threadFactory;
+    private final Consumer<ItemGroup> groupRunner;
+
+    VirtualThreadRunnableQueue(Consumer<ItemGroup> groupRunner, RuntimeDiagnosticLog diagnosticLog) {
+        this.groupRunner = groupRunner;
+        this.threadFactory = createThreadFactory(diagnosticLog);
+    }
+
+    @Override
+    public void registerWorker() {
+        // nothing to do, each group gets its own thread
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        if (group == POISON_PILL) {
+            poisonPills.add(group);
+            return;
+        }
+        threadFactory.newThread(() -> groupRunner.accept(group)).start();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        return poisonPills.take();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return poisonPills.isEmpty();
+    }
+
+    private static ThreadFactory createThreadFactory(RuntimeDiagnosticLog diagnosticLog) {
+        try {
+            // Thread.ofVirtual().name(prefix, 0).factory(), looked up reflectively since we compile against Java 17
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, THREAD_NAME_PREFIX + "-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            diagnosticLog.warn(ErrorCodes.VIRTUAL_THREADS_NOT_SUPPORTED, null);
+            return new BLangThreadFactory(THREAD_NAME_PREFIX);
+        }
+    }
+}
@@ -172,7 +172,9 @@ public class WDChannels {
             // callCount is incremented to 2 when the message passing is completed.
             if (channel != null && channel.callCount == 2) {
                 this.wDChannels.remove(channelName);
-                strand.channelDetails.remove(new ChannelDetails(channelName, true, false));
+                if (strand.channelDetails != null) {
+                    strand.channelDetails.remove(new ChannelDetails(channelName, true, false));
+                }
             }
         }
     }
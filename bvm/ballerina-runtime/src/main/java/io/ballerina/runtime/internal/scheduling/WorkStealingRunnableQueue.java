@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunnableQueue} which gives each worker thread its own deque. Groups that become runnable on a worker thread
+ * are pushed to that worker's deque, groups submitted from any other thread go to a shared submission queue, and
+ * idle workers steal from the deques of the others. This avoids all the workers contending on a single queue lock.
+ *
+ * @since 2201.10.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    private final Deque<ItemGroup>[] workerQueues;
+    private final Queue<ItemGroup> submissionQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Deque<ItemGroup>> localQueue = new ThreadLocal<>();
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+
+    /**
+     * Incremented on every add, so that a worker about to park can detect groups added while it was scanning.
+     */
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition workAvailable = idleLock.newCondition();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunnableQueue(int numWorkers) {
+        this.workerQueues = new Deque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workerQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker() {
+        int index = registeredWorkers.getAndIncrement();
+        if (index < workerQueues.length) {
+            localQueue.set(workerQueues[index]);
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Deque<ItemGroup> local = localQueue.get();
+        if (local == null || group == POISON_PILL) {
+            submissionQueue.add(group);
+        } else {
+            local.addLast(group);
+        }
+        version.incrementAndGet();
+        if (idleWorkers.get() > 0) {
+            idleLock.lock();
+            try {
+                workAvailable.signal();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        while (true) {
+            long observedVersion = version.get();
+            ItemGroup group = poll();
+            if (group != null) {
+                return group;
+            }
+            idleWorkers.incrementAndGet();
+            idleLock.lock();
+            try {
+                // re-check under the lock, adders signal while holding it, hence no wake up can be lost
+                if (version.get() == observedVersion) {
+                    workAvailable.await();
+                }
+            } finally {
+                idleLock.unlock();
+                idleWorkers.decrementAndGet();
+            }
+        }
+    }
+
+    private ItemGroup poll() {
+        Deque<ItemGroup> local = localQueue.get();
+        ItemGroup group;
+        if (local != null && (group = local.pollFirst()) != null) {
+            return group;
+        }
+        if ((group = submissionQueue.poll()) != null) {
+            return group;
+        }
+        return steal(local);
+    }
+
+    private ItemGroup steal(Deque<ItemGroup> local) {
+        int numQueues = workerQueues.length;
+        int start = ThreadLocalRandom.current().nextInt(numQueues);
+        for (int i = 0; i < numQueues; i++) {
+            Deque<ItemGroup> victim = workerQueues[(start + i) % numQueues];
+            if (victim == local) {
+                continue;
+            }
+            ItemGroup group = victim.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!submissionQueue.isEmpty()) {
+            return false;
+        }
+        for (Deque<ItemGroup> queue : workerQueues) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -69,7 +69,7 @@ public class BArrayType extends BType implements ArrayType {
 
     public BArrayType(Type elemType, int size, boolean readonly, int typeFlags) {
         this(typeFlags, size, readonly, TypeChecker.hasFillerValue(elemType));
-        setElementType(elemType, 1, elemType.isReadOnly());
+        initElementType(elemType, 1, elemType.isReadOnly());
         setFlagsBasedOnElementType();
     }
 
@@ -85,6 +85,11 @@ public class BArrayType extends BType implements ArrayType {
     }
 
     public void setElementType(Type elementType, int dimensions, boolean elementRO) {
+        initElementType(elementType, dimensions, elementRO);
+        structureChanged();
+    }
+
+    private void initElementType(Type elementType, int dimensions, boolean elementRO) {
         this.elementType = readonly && !elementRO ? ReadOnlyUtils.getReadOnlyType(elementType) : elementType;
         this.dimensions = dimensions;
     }
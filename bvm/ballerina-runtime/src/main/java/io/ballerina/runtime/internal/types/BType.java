@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code BType} represents a type in Ballerina.
@@ -38,12 +39,17 @@ import java.util.Objects;
  * @since 0.995.0
  */
 public abstract class BType implements Type {
+    private static final AtomicInteger structureVersion = new AtomicInteger();
+
     protected String typeName;
     protected Module pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
     private Type cachedReferredType = null;
     private Type cachedImpliedType = null;
+    private volatile TypeCheckCache typeCheckCache = null;
+    private volatile boolean typeChecked = false;
+    UniformTypeBits.Bounds uniformTypeBounds = null;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -212,4 +218,44 @@ public abstract class BType implements Type {
     public Type getCachedImpliedType() {
         return this.cachedImpliedType;
     }
+
+    /**
+     * Returns the cache of value independent type check results where this type is the source type.
+     *
+     * @return type check cache of this type
+     */
+    public TypeCheckCache getTypeCheckCache() {
+        TypeCheckCache cache = this.typeCheckCache;
+        if (cache == null) {
+            cache = new TypeCheckCache();
+            this.typeCheckCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Marks this type as having been checked against another type, so that the type relations cached so far may
+     * depend on its members.
+     */
+    public void markTypeChecked() {
+        if (!typeChecked) {
+            typeChecked = true;
+        }
+    }
+
+    /**
+     * Invalidates the cached type relations of all types, if this type was checked against another type. This is
+     * called when the members of a type are changed after the type is created, since the relations cached for other
+     * types may depend on the members of this type. A type which was never checked, such as an error type which only
+     * gets its detail type set while creating errors, does not invalidate any cached relation.
+     */
+    void structureChanged() {
+        if (typeChecked) {
+            structureVersion.incrementAndGet();
+        }
+    }
+
+    static int getStructureVersion() {
+        return structureVersion.get();
+    }
 }
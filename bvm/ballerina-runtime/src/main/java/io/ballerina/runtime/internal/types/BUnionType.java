@@ -167,6 +167,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        structureChanged();
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
@@ -239,6 +240,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         this.memberTypes.addAll(Arrays.asList(types));
         setFlagsBasedOnMembers();
         this.originalMemberTypes.addAll(Arrays.asList(types));
+        structureChanged();
     }
 
     private void setFlagsBasedOnMembers() {
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Caches the results of value independent type checks with a given source type, keyed on the identity of the target
+ * type. Lookups do not allocate, since the entries are kept in an array which is replaced on each insertion.
+ * <p>
+ * The number of entries per source type is bounded, and the oldest entry is evicted once the bound is reached. Target
+ * types are weakly referenced, so that types created at runtime are not kept alive by the types they were checked
+ * against. The cached results are only valid for the structure version of the types they were computed with, see
+ * {@link BType#structureChanged()}.
+ *
+ * @since 2201.10.0
+ */
+public final class TypeCheckCache {
+
+    public static final int NOT_CACHED = -1;
+    public static final int NOT_A_SUBTYPE = 0;
+    public static final int SUBTYPE = 1;
+
+    static final int MAX_ENTRIES = 32;
+    private static final Entries EMPTY = new Entries(0, new Entry[0]);
+
+    private volatile Entries entries = EMPTY;
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the given target type.
+     *
+     * @param targetType target type of the check
+     * @return {@link #SUBTYPE}, {@link #NOT_A_SUBTYPE} or {@link #NOT_CACHED}
+     */
+    public int get(Type targetType) {
+        Entries current = entries;
+        if (current.version != BType.getStructureVersion()) {
+            return NOT_CACHED;
+        }
+        for (Entry entry : current.entries) {
+            if (entry.targetType.get() == targetType) {
+                return entry.result ? SUBTYPE : NOT_A_SUBTYPE;
+            }
+        }
+        return NOT_CACHED;
+    }
+
+    public void put(Type targetType, boolean result) {
+        int version = BType.getStructureVersion();
+        Entries current = entries;
+        Entry[] currentEntries = current.version == version ? current.entries : EMPTY.entries;
+        // drop the entries of collected target types, and the oldest entry if the cache is still full
+        Entry[] liveEntries = new Entry[currentEntries.length + 1];
+        int size = 0;
+        for (Entry entry : currentEntries) {
+            if (entry.targetType.get() != null) {
+                liveEntries[size++] = entry;
+            }
+        }
+        Entry[] updated = Arrays.copyOfRange(liveEntries, size < MAX_ENTRIES ? 0 : size - MAX_ENTRIES + 1, size + 1);
+        updated[updated.length - 1] = new Entry(new WeakReference<>(targetType), result);
+        // a concurrent insertion may get lost here, which only results in the check being repeated
+        entries = new Entries(version, updated);
+    }
+
+    private record Entries(int version, Entry[] entries) {
+    }
+
+    private record Entry(WeakReference<Type> targetType, boolean result) {
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the set of uniform types (as in the semantic subtyping model of the {@code semtypes} module, ignoring the
+ * mutability halves) that the values of a runtime type may belong to. Since a subtype can only contain values of the
+ * uniform types its supertype contains, comparing these bit sets lets a type check be rejected without walking the
+ * structure of the types.
+ * <p>
+ * Two sets are computed for each type. The upper bound contains every uniform type the type may have values of, and
+ * is used for target types. The lower bound contains only uniform types the type definitely has values of, and is
+ * used for source types. Structured types are left out of the lower bound, since they may be empty (e.g. a record with
+ * a required {@code never} field).
+ *
+ * @since 2201.10.0
+ */
+public final class UniformTypeBits {
+
+    public static final int UT_NIL = 1;
+    public static final int UT_BOOLEAN = 1 << 1;
+    public static final int UT_INT = 1 << 2;
+    public static final int UT_FLOAT = 1 << 3;
+    public static final int UT_DECIMAL = 1 << 4;
+    public static final int UT_STRING = 1 << 5;
+    public static final int UT_ERROR = 1 << 6;
+    public static final int UT_FUNCTION = 1 << 7;
+    public static final int UT_TYPEDESC = 1 << 8;
+    public static final int UT_HANDLE = 1 << 9;
+    public static final int UT_XML = 1 << 10;
+    public static final int UT_LIST = 1 << 11;
+    public static final int UT_MAPPING = 1 << 12;
+    public static final int UT_TABLE = 1 << 13;
+    public static final int UT_OBJECT = 1 << 14;
+    public static final int UT_FUTURE = 1 << 15;
+    public static final int UT_STREAM = 1 << 16;
+
+    public static final int UT_ALL = (1 << 17) - 1;
+    static final int UT_ANY = UT_ALL & ~UT_ERROR;
+    static final int UT_SIMPLE = UT_NIL | UT_BOOLEAN | UT_INT | UT_FLOAT | UT_DECIMAL | UT_STRING;
+    static final int UT_JSON = UT_SIMPLE | UT_LIST | UT_MAPPING;
+    static final int UT_ANYDATA = UT_JSON | UT_XML | UT_TABLE;
+
+    private UniformTypeBits() {
+    }
+
+    /**
+     * Checks whether the source type can be a subtype of the target type, judging only by the uniform types.
+     *
+     * @param sourceType source type of the check
+     * @param targetType target type of the check
+     * @return false if the source type is definitely not a subtype of the target type
+     */
+    public static boolean mayBeSubtype(Type sourceType, Type targetType) {
+        return (lowerBound(sourceType) & ~upperBound(targetType)) == 0;
+    }
+
+    static int upperBound(Type type) {
+        if (type instanceof BType bType) {
+            return getBounds(bType).upper;
+        }
+        return computeUpperBound(type, new ArrayList<>());
+    }
+
+    static int lowerBound(Type type) {
+        if (type instanceof BType bType) {
+            return getBounds(bType).lower;
+        }
+        return computeLowerBound(type, new ArrayList<>());
+    }
+
+    private static Bounds getBounds(BType type) {
+        // the bounds of unions, intersections and type references depend on their members, which may be changed
+        int version = BType.getStructureVersion();
+        Bounds bounds = type.uniformTypeBounds;
+        if (bounds == null || bounds.version != version) {
+            bounds = new Bounds(version, computeUpperBound(type, new ArrayList<>()),
+                    computeLowerBound(type, new ArrayList<>()));
+            type.uniformTypeBounds = bounds;
+        }
+        return bounds;
+    }
+
+    private static int computeUpperBound(Type type, List<Type> visited) {
+        switch (type.getTag()) {
+            case TypeTags.NULL_TAG:
+                return UT_NIL;
+            case TypeTags.BOOLEAN_TAG:
+                return UT_BOOLEAN;
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                return UT_INT;
+            case TypeTags.FLOAT_TAG:
+                return UT_FLOAT;
+            case TypeTags.DECIMAL_TAG:
+                return UT_DECIMAL;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                return UT_STRING;
+            case TypeTags.HANDLE_TAG:
+                return UT_HANDLE;
+            case TypeTags.ERROR_TAG:
+                return UT_ERROR;
+            case TypeTags.FUNCTION_POINTER_TAG:
+                return UT_FUNCTION;
+            case TypeTags.TYPEDESC_TAG:
+                return UT_TYPEDESC;
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                return UT_XML;
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                return UT_LIST;
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                return UT_MAPPING;
+            case TypeTags.TABLE_TAG:
+                return UT_TABLE;
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.SERVICE_TAG:
+                return UT_OBJECT;
+            case TypeTags.FUTURE_TAG:
+                return UT_FUTURE;
+            case TypeTags.STREAM_TAG:
+                return UT_STREAM;
+            case TypeTags.NEVER_TAG:
+                return 0;
+            case TypeTags.ANY_TAG:
+                return UT_ANY;
+            case TypeTags.ANYDATA_TAG:
+                return UT_ANYDATA;
+            case TypeTags.JSON_TAG:
+                return UT_JSON;
+            case TypeTags.FINITE_TYPE_TAG:
+                int finiteBits = 0;
+                for (Object value : ((BFiniteType) type).valueSpace) {
+                    int valueBits = getValueBits(value);
+                    finiteBits |= valueBits == 0 ? UT_ALL : valueBits;
+                }
+                return finiteBits;
+            case TypeTags.UNION_TAG:
+                if (visited.contains(type)) {
+                    // the bits of a cyclic union are given by its non cyclic members
+                    return 0;
+                }
+                visited.add(type);
+                int unionBits = 0;
+                for (Type memberType : ((BUnionType) type).getMemberTypes()) {
+                    unionBits |= computeUpperBound(memberType, visited);
+                }
+                return unionBits;
+            case TypeTags.INTERSECTION_TAG:
+                Type effectiveType = ((BIntersectionType) type).getEffectiveType();
+                return effectiveType == null ? UT_ALL : computeUpperBound(effectiveType, visited);
+            case TypeTags.TYPE_REFERENCED_TYPE_TAG:
+                Type referredType = ((BTypeReferenceType) type).getReferredType();
+                return referredType == null ? UT_ALL : computeUpperBound(referredType, visited);
+            default:
+                return UT_ALL;
+        }
+    }
+
+    private static int computeLowerBound(Type type, List<Type> visited) {
+        switch (type.getTag()) {
+            case TypeTags.NULL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+            case TypeTags.HANDLE_TAG:
+                return computeUpperBound(type, visited);
+            case TypeTags.FINITE_TYPE_TAG:
+                int finiteBits = 0;
+                for (Object value : ((BFiniteType) type).valueSpace) {
+                    finiteBits |= getValueBits(value);
+                }
+                return finiteBits;
+            case TypeTags.UNION_TAG:
+                if (visited.contains(type)) {
+                    return 0;
+                }
+                visited.add(type);
+                int unionBits = 0;
+                for (Type memberType : ((BUnionType) type).getMemberTypes()) {
+                    unionBits |= computeLowerBound(memberType, visited);
+                }
+                return unionBits;
+            case TypeTags.INTERSECTION_TAG:
+                Type effectiveType = ((BIntersectionType) type).getEffectiveType();
+                return effectiveType == null ? 0 : computeLowerBound(effectiveType, visited);
+            case TypeTags.TYPE_REFERENCED_TYPE_TAG:
+                Type referredType = ((BTypeReferenceType) type).getReferredType();
+                return referredType == null ? 0 : computeLowerBound(referredType, visited);
+            default:
+                return 0;
+        }
+    }
+
+    private static int getValueBits(Object value) {
+        if (value == null) {
+            return UT_NIL;
+        } else if (value instanceof Boolean) {
+            return UT_BOOLEAN;
+        } else if (value instanceof Long || value instanceof Integer) {
+            return UT_INT;
+        } else if (value instanceof Double) {
+            return UT_FLOAT;
+        } else if (value instanceof DecimalValue) {
+            return UT_DECIMAL;
+        } else if (value instanceof BString) {
+            return UT_STRING;
+        }
+        return 0;
+    }
+
+    /**
+     * Bit sets of a type, computed for a given structure version of the types.
+     */
+    record Bounds(int version, int upper, int lower) {
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.Arrays;
+
+import static io.ballerina.runtime.internal.TypeChecker.isEqual;
+
+/**
+ * Open addressing hash index from the keys of a keyed {@link TableValueImpl} to the positions of their rows.
+ * <p>
+ * Key hashes are kept in a primitive array next to the row positions, so probing compares hashes first and only
+ * compares keys of rows with an equal hash. Hash-collided keys simply occupy consecutive slots. Neither lookups nor
+ * insertions allocate, except when the index has to grow.
+ *
+ * @since 2201.10.0
+ */
+final class TableKeyIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = -1;
+    private static final int DELETED = -2;
+
+    private long[] hashes;
+    private int[] positions;
+    private int mask;
+    // Number of slots that are not empty, including deleted slots.
+    private int usedSlots;
+
+    TableKeyIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the position of the row with the given key.
+     *
+     * @param hash    hash of the key
+     * @param key     key to look for
+     * @param rowKeys keys of the rows, indexed by row position
+     * @return position of the row, or -1 if there is no row with the given key
+     */
+    int find(long hash, Object key, Object[] rowKeys) {
+        int slot = findSlot(hash, key, rowKeys);
+        return slot < 0 ? -1 : positions[slot];
+    }
+
+    /**
+     * Adds the position of a row whose key is not in the index yet.
+     *
+     * @param hash     hash of the key of the row
+     * @param position position of the row
+     */
+    void insert(long hash, int position) {
+        if ((usedSlots + 1) * 4L > positions.length * 3L) {
+            rehash();
+        }
+        int slot = spread(hash) & mask;
+        while (positions[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (positions[slot] == EMPTY) {
+            usedSlots++;
+        }
+        hashes[slot] = hash;
+        positions[slot] = position;
+    }
+
+    /**
+     * Removes the given key from the index.
+     *
+     * @param hash    hash of the key
+     * @param key     key to remove
+     * @param rowKeys keys of the rows, indexed by row position
+     * @return position of the removed row, or -1 if there is no row with the given key
+     */
+    int remove(long hash, Object key, Object[] rowKeys) {
+        int slot = findSlot(hash, key, rowKeys);
+        if (slot < 0) {
+            return -1;
+        }
+        int position = positions[slot];
+        positions[slot] = DELETED;
+        return position;
+    }
+
+    /**
+     * Removes all entries, resizing the index to hold the given number of rows without rehashing.
+     *
+     * @param expectedRows number of rows expected to be inserted
+     */
+    void clear(int expectedRows) {
+        int capacity = INITIAL_CAPACITY;
+        while (expectedRows * 4L > capacity * 3L) {
+            capacity <<= 1;
+        }
+        if (capacity == positions.length) {
+            Arrays.fill(positions, EMPTY);
+            usedSlots = 0;
+        } else {
+            allocate(capacity);
+        }
+    }
+
+    private int findSlot(long hash, Object key, Object[] rowKeys) {
+        int slot = spread(hash) & mask;
+        int position;
+        while ((position = positions[slot]) != EMPTY) {
+            if (position != DELETED && hashes[slot] == hash && isEqual(rowKeys[position], key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash() {
+        long[] oldHashes = hashes;
+        int[] oldPositions = positions;
+        int liveSlots = 0;
+        for (int position : oldPositions) {
+            if (position >= 0) {
+                liveSlots++;
+            }
+        }
+        // Only grow if most of the used slots are live, otherwise rehashing in place drops the deleted slots.
+        allocate(liveSlots * 2L > oldPositions.length ? oldPositions.length << 1 : oldPositions.length);
+        for (int i = 0; i < oldPositions.length; i++) {
+            if (oldPositions[i] >= 0) {
+                insert(oldHashes[i], oldPositions[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        hashes = new long[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, EMPTY);
+        mask = capacity - 1;
+        usedSlots = 0;
+    }
+
+    private static int spread(long hash) {
+        long h = hash * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
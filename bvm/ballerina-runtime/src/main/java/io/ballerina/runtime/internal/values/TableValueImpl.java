@@ -53,16 +53,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.TreeMap;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
@@ -86,20 +81,26 @@ import static io.ballerina.runtime.internal.util.StringUtils.getStringVal;
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_ROW_CAPACITY = 8;
+
     private Type type;
     private TableType tableType;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private LinkedHashMap<Long, List<V>> values;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private Map<Long, K> indexToKeyMap;
-    private Map<K, Long> keyToIndexMap;
-    private Map<K, V> keyValues;
+    // Rows are stored in insertion order. A removed row leaves a gap, with a null value, until the rows are compacted.
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private long[] rowHashes;
+    // Insertion sequence number of each row, which lets iterators find their position again after a compaction.
+    private long[] rowSequences;
+    private int rowCount = 0;
+    private int size = 0;
     private long noOfAddedEntries = 0;
+    private int noOfCompactions = 0;
+    private TableKeyIndex keyIndex;
 
     private boolean nextKeySupported;
 
@@ -109,12 +110,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType tableType) {
         this.type = this.tableType = tableType;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new TreeMap<>();
+        this.rowKeys = new Object[INITIAL_ROW_CAPACITY];
+        this.rowValues = new Object[INITIAL_ROW_CAPACITY];
+        this.rowHashes = new long[INITIAL_ROW_CAPACITY];
+        this.rowSequences = new long[INITIAL_ROW_CAPACITY];
         this.fieldNames = tableType.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (tableType.getFieldNames().length > 0) {
             this.valueHolder = new KeyHashValueHolder();
         } else {
@@ -251,18 +251,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                entrySet.add(new AbstractMap.SimpleEntry<>((K) rowKeys[i], (V) rowValues[i]));
+            }
         }
-        return new LinkedHashSet(entries.values());
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(size);
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                newValues.add((V) rowValues[i]);
+            }
         }
         return newValues;
     }
@@ -270,11 +273,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        Arrays.fill(rowKeys, 0, rowCount, null);
+        Arrays.fill(rowValues, 0, rowCount, null);
+        rowCount = 0;
+        size = 0;
+        noOfCompactions++;
+        if (keyIndex != null) {
+            keyIndex.clear(0);
+        }
     }
 
     @Override
@@ -303,7 +309,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return indexToKeyMap.isEmpty() ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -331,17 +337,24 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) indexToKeyMap.values().toArray();
+        Object[] keys = new Object[size];
+        int index = 0;
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                keys[index++] = rowKeys[i];
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return values().size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -369,8 +382,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(parent);
     }
 
     @Override
@@ -380,43 +392,26 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getStringVal(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getStringVal(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+        for (V data : values()) {
+            sj.add(getStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = tableType.getFieldNames();
         for (int i = 0; i < keysList.length; i++) {
             keyJoiner.add(keysList[i]);
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getExpressionStringVal(struct.getValue().get(0), new CycleUtils.Node(this, parent)));
-            }
+        for (V data : values()) {
+            sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -505,37 +500,47 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        private int noOfCompactionsSeen;
+        private long lastSequence = -1;
 
         TableIterator() {
             this.cursor = 0;
+            this.noOfCompactionsSeen = noOfCompactions;
         }
 
         @Override
         public Object next() {
-            if (indexToKeyMap.containsKey(cursor)) {
-                K key = indexToKeyMap.get(cursor);
-                V value = keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            if (!hasNext()) {
+                return null;
             }
+            K key = (K) rowKeys[cursor];
+            V value = (V) rowValues[cursor];
+            lastSequence = rowSequences[cursor];
+            cursor++;
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries && !values.isEmpty();
+            if (noOfCompactionsSeen != noOfCompactions) {
+                // Rows have moved, continue from the first row added after the last returned row.
+                cursor = getFirstRowAddedAfter(lastSequence);
+                noOfCompactionsSeen = noOfCompactions;
+            }
+            while (cursor < rowCount && rowValues[cursor] == null) {
+                cursor++;
+            }
+            return cursor < rowCount;
         }
     }
 
@@ -557,18 +562,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, tableType);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            Long hash = (long) uuid.hashCode();
-            updateIndexKeyMappings(hash, (K) data, data);
-            entries.put(hash, entryList);
-            values.put(hash, newData);
+            addRow(data, data, 0);
             return data;
         }
 
@@ -593,6 +587,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public KeyHashValueHolder() {
             super();
+            keyIndex = new TableKeyIndex();
             if (fieldNames.length > 1) {
                 keyWrapper = new MultiKeyWrapper();
             } else {
@@ -604,146 +599,70 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
+            long hash = TableUtils.hash(key, null);
 
-            if (containsKey(key)) {
+            if (keyIndex.find(hash, key, rowKeys) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (indexToKeyMap.isEmpty() || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-
-            if (entries.containsKey(hash)) {
-                updateIndexKeyMappings(hash, key, data);
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                return;
-            }
-
-            putNewData(key, data, entry, hash);
+            addRow(key, data, hash);
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
-                return null;
-            }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            int position = keyIndex.find(TableUtils.hash(key, null), key, rowKeys);
+            return position < 0 ? null : (V) rowValues[position];
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long actualHash = TableUtils.hash(actualKey, null);
+            long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != actualHash) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
-
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V putNewData(K key, V value, Map.Entry<K, V> entry, Long hash) {
-            List<V> data = new ArrayList<>();
-            data.add(value);
-            updateIndexKeyMappings(hash, key, value);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            values.put(hash, data);
-            return data.get(0);
+            return putRow(key, data, hash);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
+            return putRow(key, data, TableUtils.hash(key, null));
+        }
 
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V updateExistingEntry(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            updateIndexKeyMappings(hash, key, data);
-            List<V> valueList = values.get(hash);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> extEntry: entryList) {
-                // Handle hash-collided entries
-                if (TypeChecker.isEqual(key, extEntry.getKey())) {
-                    entryList.remove(extEntry);
-                    valueList.remove(extEntry.getValue());
-                    break;
-                }
+        // An existing row with the same key is updated in place, so that it keeps its position in the iteration order.
+        private V putRow(K key, V data, long hash) {
+            int position = keyIndex.find(hash, key, rowKeys);
+            if (position >= 0) {
+                rowKeys[position] = key;
+                rowValues[position] = data;
+                return data;
             }
-            entryList.add(entry);
-            values.get(hash).add(data);
+            addRow(key, data, hash);
             return data;
         }
 
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            if (entryList != null) {
-                Long index = keyToIndexMap.remove(entryList.get(0).getKey());
-                indexToKeyMap.remove(index);
-                if (index != null && index == noOfAddedEntries - 1) {
-                    noOfAddedEntries--;
-                }
-            }
-            entries.remove(hash);
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
+            int position = keyIndex.remove(TableUtils.hash(key, null), key, rowKeys);
+            if (position < 0) {
                 return null;
             }
-            return removedValue.get(0);
+            V value = (V) rowValues[position];
+            rowKeys[position] = null;
+            rowValues[position] = null;
+            size--;
+            return value;
         }
 
         public boolean containsKey(K key) {
-            if (entries.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return keyIndex.find(TableUtils.hash(key, null), key, rowKeys) >= 0;
         }
 
         public Type getKeyType() {
@@ -794,25 +713,67 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash, K key, V value) {
-        if (entries.containsKey(hash)) {
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(entry.getKey(), key)) {
-                    long index = keyToIndexMap.remove(entry.getKey());
-                    keyToIndexMap.put(key, index);
-                    indexToKeyMap.put(index, key);
-                    keyValues.remove(entry.getKey());
-                    keyValues.put(key, value);
-                    return;
-                }
+    // Appends a row, the key of which is known to be absent from the table
+    private void addRow(Object key, Object value, long hash) {
+        if (rowCount == rowValues.length) {
+            if (rowCount - size >= rowCount / 2) {
+                compactRows();
+            } else {
+                int capacity = rowCount << 1;
+                rowKeys = Arrays.copyOf(rowKeys, capacity);
+                rowValues = Arrays.copyOf(rowValues, capacity);
+                rowHashes = Arrays.copyOf(rowHashes, capacity);
+                rowSequences = Arrays.copyOf(rowSequences, capacity);
+            }
+        }
+        int position = rowCount++;
+        rowKeys[position] = key;
+        rowValues[position] = value;
+        rowHashes[position] = hash;
+        rowSequences[position] = noOfAddedEntries++;
+        size++;
+        if (keyIndex != null) {
+            keyIndex.insert(hash, position);
+        }
+    }
+
+    // Closes the gaps left by removed rows, preserving the order of the remaining rows
+    private void compactRows() {
+        int position = 0;
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] == null) {
+                continue;
+            }
+            rowKeys[position] = rowKeys[i];
+            rowValues[position] = rowValues[i];
+            rowHashes[position] = rowHashes[i];
+            rowSequences[position] = rowSequences[i];
+            position++;
+        }
+        Arrays.fill(rowKeys, position, rowCount, null);
+        Arrays.fill(rowValues, position, rowCount, null);
+        rowCount = position;
+        noOfCompactions++;
+        if (keyIndex != null) {
+            keyIndex.clear(rowValues.length);
+            for (int i = 0; i < rowCount; i++) {
+                keyIndex.insert(rowHashes[i], i);
+            }
+        }
+    }
+
+    private int getFirstRowAddedAfter(long sequence) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rowSequences[mid] <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        keyToIndexMap.put(key, noOfAddedEntries);
-        indexToKeyMap.put(noOfAddedEntries, key);
-        keyValues.put(key, value);
-        noOfAddedEntries++;
+        return low;
     }
 
     // This method checks for inherent table type violation
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the {@link BLock}.
+ *
+ * @since 2201.10.0
+ */
+public class BLockTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testReentrantLock() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        Strand strand = scheduler.newStrand();
+        BLock lock = new BLock("testReentrantLock");
+        Assert.assertTrue(lock.isLockFree());
+
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        Assert.assertEquals(strand.acquiredLockCount, 2);
+
+        lock.unlock();
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(strand.acquiredLockCount, 0);
+        Assert.assertEquals(lock.getAcquireCount(), 2);
+        Assert.assertEquals(lock.getWaitCount(), 0);
+        Assert.assertTrue(scheduler.unblocked.isEmpty());
+    }
+
+    @Test
+    public void testLocksOfSameNameShareStats() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        Strand strand = scheduler.newStrand();
+        BLock lock = new BLock("testLocksOfSameNameShareStats");
+        BLock otherLock = new BLock("testLocksOfSameNameShareStats");
+
+        Assert.assertTrue(lock.lock(strand));
+        lock.unlock();
+        Assert.assertTrue(otherLock.lock(strand));
+        otherLock.unlock();
+        Assert.assertEquals(lock.getAcquireCount(), 2);
+        Assert.assertEquals(otherLock.getAcquireCount(), 2);
+        Assert.assertEquals(new BLock("testLocksOfOtherName").getAcquireCount(), 0);
+    }
+
+    @Test
+    public void testUnlockHandsLockToLongestWaitingStrand() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        Strand owner = scheduler.newStrand();
+        Strand first = scheduler.newStrand();
+        Strand second = scheduler.newStrand();
+        Strand latecomer = scheduler.newStrand();
+        BLock lock = new BLock("testUnlockHandsLockToLongestWaitingStrand");
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(first));
+        Assert.assertFalse(lock.lock(second));
+
+        // The lock is handed to the first waiting strand, a strand which was not waiting can not take it
+        lock.unlock();
+        Assert.assertSame(scheduler.unblocked.poll(), first);
+        Assert.assertTrue(lock.lockedBySameContext(first));
+        Assert.assertFalse(lock.lock(latecomer));
+        Assert.assertTrue(lock.lock(first));
+        Assert.assertEquals(first.acquiredLockCount, 1);
+
+        // Strands which could not take the lock keep their position in the queue
+        lock.unlock();
+        Assert.assertSame(scheduler.unblocked.poll(), second);
+        Assert.assertTrue(lock.lock(second));
+        lock.unlock();
+        Assert.assertSame(scheduler.unblocked.poll(), latecomer);
+        Assert.assertTrue(lock.lock(latecomer));
+        lock.unlock();
+
+        Assert.assertTrue(scheduler.unblocked.isEmpty());
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(lock.getAcquireCount(), 4);
+        Assert.assertEquals(lock.getWaitCount(), 3);
+    }
+
+    @Test
+    public void testMutualExclusionUnderContention() throws Exception {
+        int numStrands = 8;
+        int iterations = 20000;
+        RecordingScheduler scheduler = new RecordingScheduler();
+        BLock lock = new BLock("testMutualExclusionUnderContention");
+        AtomicInteger holders = new AtomicInteger();
+        int[] counter = new int[1];
+        CountDownLatch ready = new CountDownLatch(numStrands);
+        ExecutorService executor = Executors.newFixedThreadPool(numStrands);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < numStrands; i++) {
+                Strand strand = scheduler.newStrand();
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    boolean exclusive = true;
+                    for (int j = 0; j < iterations; j++) {
+                        scheduler.acquire(lock, strand);
+                        exclusive &= holders.incrementAndGet() == 1;
+                        counter[0]++;
+                        holders.decrementAndGet();
+                        lock.unlock();
+                    }
+                    return exclusive;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(counter[0], numStrands * iterations);
+            Assert.assertTrue(lock.isLockFree());
+            Assert.assertEquals(lock.getAcquireCount(), numStrands * iterations);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWaitingStrandIsNotStarved() throws Exception {
+        // A strand which takes the lock again right after releasing it can not keep a waiting strand from taking it
+        RecordingScheduler scheduler = new RecordingScheduler();
+        BLock lock = new BLock("testWaitingStrandIsNotStarved");
+        Strand greedy = scheduler.newStrand();
+        Strand waiting = scheduler.newStrand();
+        CountDownLatch greedyHoldsLock = new CountDownLatch(1);
+        AtomicBoolean waitingAcquired = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> greedyAcquires = executor.submit(() -> {
+                scheduler.acquire(lock, greedy);
+                greedyHoldsLock.countDown();
+                while (!waitingAcquired.get()) {
+                    lock.unlock();
+                    scheduler.acquire(lock, greedy);
+                }
+                lock.unlock();
+                return null;
+            });
+            Assert.assertTrue(greedyHoldsLock.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Future<?> waitingAcquire = executor.submit(() -> {
+                scheduler.acquire(lock, waiting);
+                waitingAcquired.set(true);
+                lock.unlock();
+                return null;
+            });
+            waitingAcquire.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            greedyAcquires.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Assert.assertTrue(lock.isLockFree());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Scheduler which records the strands unblocked by a lock, instead of rescheduling them.
+     */
+    private static class RecordingScheduler extends Scheduler {
+
+        private final BlockingQueue<Strand> unblocked = new LinkedBlockingQueue<>();
+        private final Map<Strand, Semaphore> wakeUps = new ConcurrentHashMap<>();
+
+        RecordingScheduler() {
+            super(1, false);
+        }
+
+        Strand newStrand() {
+            Strand strand = new Strand("test", null, this, null, null);
+            wakeUps.put(strand, new Semaphore(0));
+            return strand;
+        }
+
+        /**
+         * Acquires the lock like a strand does, by yielding until it is unblocked and retrying the lock.
+         */
+        void acquire(BLock lock, Strand strand) throws InterruptedException {
+            while (!lock.lock(strand)) {
+                wakeUps.get(strand).acquire();
+                unblocked.remove(strand);
+            }
+        }
+
+        @Override
+        public void unblockStrand(Strand strand) {
+            unblocked.add(strand);
+            wakeUps.get(strand).release();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Test cases for the {@link FrameStack} of a strand and the items of an {@link ItemGroup}.
+ *
+ * @since 2201.10.0
+ */
+public class FrameStackTest {
+
+    @Test
+    public void testPushAndPopBeyondInitialCapacity() {
+        FrameStack stack = new FrameStack();
+        Assert.assertTrue(stack.isEmpty());
+        TestFrame[] frames = new TestFrame[100];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new TestFrame("frame" + i);
+            stack.push(frames[i]);
+        }
+        Assert.assertEquals(stack.size(), frames.length);
+        for (int i = frames.length - 1; i >= 0; i--) {
+            Assert.assertSame(stack.pop(), frames[i]);
+        }
+        Assert.assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testSnapshotIsOrderedCopy() {
+        FrameStack stack = new FrameStack();
+        TestFrame bottom = new TestFrame("bottom");
+        TestFrame top = new TestFrame("top");
+        stack.push(bottom);
+        stack.push(top);
+
+        FunctionFrame[] snapshot = stack.snapshot();
+        stack.pop();
+        stack.push(new TestFrame("other"));
+        Assert.assertEquals(snapshot.length, 2);
+        Assert.assertSame(snapshot[0], bottom);
+        Assert.assertSame(snapshot[1], top);
+
+        stack.pop();
+        stack.pop();
+        Assert.assertEquals(stack.snapshot().length, 0);
+    }
+
+    @Test
+    public void testSnapshotWhileStrandYieldsAndResumes() throws Exception {
+        // The strand dump takes snapshots from another thread while the strand pushes and pops its frames
+        FrameStack stack = new FrameStack();
+        AtomicBoolean done = new AtomicBoolean();
+        CompletableFuture<Void> strand = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 100000; i++) {
+                for (int j = 0; j < 20; j++) {
+                    stack.push(new TestFrame("frame" + j));
+                }
+                for (int j = 0; j < 20; j++) {
+                    stack.pop();
+                }
+            }
+            done.set(true);
+        });
+        while (!done.get()) {
+            for (FunctionFrame frame : stack.snapshot()) {
+                Assert.assertNotNull(frame);
+            }
+        }
+        strand.get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testItemGroupRunsLastAddedItemFirstAndUnschedulesWhenEmpty() {
+        SchedulerItem first = newItem();
+        SchedulerItem second = newItem();
+        ItemGroup group = new ItemGroup(first);
+        group.add(second);
+        group.scheduled.set(true);
+
+        Assert.assertSame(group.getOrUnschedule(), second);
+        Assert.assertTrue(group.isScheduled());
+        Assert.assertSame(group.getOrUnschedule(), first);
+        Assert.assertTrue(group.isScheduled());
+        Assert.assertNull(group.getOrUnschedule());
+        Assert.assertFalse(group.isScheduled());
+    }
+
+    private static SchedulerItem newItem() {
+        return new SchedulerItem((Function<Object[], Object>) params -> null, new Object[0], null);
+    }
+
+    private static class TestFrame extends FunctionFrame {
+
+        TestFrame(String yieldLocation) {
+            this.yieldLocation = yieldLocation;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.internal.diagnostics.RuntimeDiagnostic;
+import io.ballerina.runtime.internal.diagnostics.RuntimeDiagnosticLog;
+import io.ballerina.runtime.internal.errors.ErrorCodes;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for selecting the {@link RunnableQueue} of the scheduler based on the scheduler mode.
+ *
+ * @since 2201.10.0
+ */
+public class RunnableQueueSelectionTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testDefaultMode() {
+        RuntimeDiagnosticLog diagnosticLog = new RuntimeDiagnosticLog();
+        Assert.assertTrue(Scheduler.createRunnableQueue(null, 2, group -> { }, diagnosticLog)
+                instanceof SharedRunnableQueue);
+        Assert.assertTrue(Scheduler.createRunnableQueue("unknown", 2, group -> { }, diagnosticLog)
+                instanceof SharedRunnableQueue);
+        Assert.assertTrue(diagnosticLog.getDiagnosticList().isEmpty());
+    }
+
+    @Test
+    public void testWorkStealingMode() {
+        RuntimeDiagnosticLog diagnosticLog = new RuntimeDiagnosticLog();
+        RunnableQueue queue = Scheduler.createRunnableQueue(RuntimeConstants.SCHEDULER_MODE_WORK_STEALING, 2,
+                group -> { }, diagnosticLog);
+        Assert.assertTrue(queue instanceof WorkStealingRunnableQueue);
+        Assert.assertTrue(diagnosticLog.getDiagnosticList().isEmpty());
+    }
+
+    @Test
+    public void testVirtualThreadMode() throws Exception {
+        RuntimeDiagnosticLog diagnosticLog = new RuntimeDiagnosticLog();
+        CompletableFuture<Thread> groupThread = new CompletableFuture<>();
+        RunnableQueue queue = Scheduler.createRunnableQueue(RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS, 2,
+                group -> groupThread.complete(Thread.currentThread()), diagnosticLog);
+        Assert.assertTrue(queue instanceof VirtualThreadRunnableQueue);
+
+        // Groups are executed on their own threads instead of being queued
+        queue.add(new ItemGroup());
+        Thread thread = groupThread.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertNotSame(thread, Thread.currentThread());
+        Assert.assertTrue(thread.getName().startsWith("jbal-strand-exec-virtual"));
+        Assert.assertTrue(queue.isEmpty());
+
+        // Only the poison pills are queued
+        queue.add(ItemGroup.POISON_PILL);
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertSame(queue.take(), ItemGroup.POISON_PILL);
+
+        List<RuntimeDiagnostic> diagnostics = diagnosticLog.getDiagnosticList();
+        if (Runtime.version().feature() >= 21) {
+            Assert.assertTrue(diagnostics.isEmpty());
+            Assert.assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        } else {
+            // Falls back to platform threads with a warning
+            Assert.assertEquals(diagnostics.size(), 1);
+            RuntimeDiagnostic diagnostic = diagnostics.get(0);
+            Assert.assertEquals(diagnostic.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+            Assert.assertEquals(diagnostic.diagnosticInfo().code(),
+                    ErrorCodes.VIRTUAL_THREADS_NOT_SUPPORTED.diagnosticId());
+            Assert.assertEquals(diagnostic.toString(), "warning: virtual threads are not supported by the current " +
+                    "Java runtime, falling back to platform threads for the scheduler");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the {@link WorkStealingRunnableQueue}.
+ *
+ * @since 2201.10.0
+ */
+public class WorkStealingRunnableQueueTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testOwnerTakesInOrderAndThiefStealsFromTail() throws Exception {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(2);
+        ItemGroup first = new ItemGroup();
+        ItemGroup second = new ItemGroup();
+        ItemGroup third = new ItemGroup();
+        ExecutorService owner = Executors.newSingleThreadExecutor();
+        ExecutorService thief = Executors.newSingleThreadExecutor();
+        try {
+            owner.submit(() -> {
+                queue.registerWorker();
+                queue.add(first);
+                queue.add(second);
+                queue.add(third);
+            }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            // Other workers steal from the tail of the owner's queue
+            Future<ItemGroup> stolen = thief.submit(() -> {
+                queue.registerWorker();
+                return queue.take();
+            });
+            Assert.assertSame(stolen.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), third);
+
+            // The owner takes from the head of its queue
+            Assert.assertSame(owner.submit(queue::take).get(TIMEOUT_SECONDS, TimeUnit.SECONDS), first);
+            Assert.assertSame(owner.submit(queue::take).get(TIMEOUT_SECONDS, TimeUnit.SECONDS), second);
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            owner.shutdownNow();
+            thief.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGroupsFromNonWorkersAreTakenByWorkers() throws Exception {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(1);
+        ItemGroup group = new ItemGroup();
+        queue.add(group);
+        queue.add(ItemGroup.POISON_PILL);
+        Assert.assertFalse(queue.isEmpty());
+
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<ItemGroup>> taken = worker.submit(() -> {
+                queue.registerWorker();
+                return List.of(queue.take(), queue.take());
+            });
+            Assert.assertEquals(taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), List.of(group, ItemGroup.POISON_PILL));
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAllGroupsAreDrainedOnce() throws Exception {
+        int numWorkers = 4;
+        int groupsPerWorker = 10000;
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(numWorkers);
+        Set<ItemGroup> taken = ConcurrentHashMap.newKeySet();
+        CountDownLatch registered = new CountDownLatch(numWorkers);
+        ExecutorService workers = Executors.newFixedThreadPool(numWorkers);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < numWorkers; i++) {
+                results.add(workers.submit(() -> {
+                    queue.registerWorker();
+                    registered.countDown();
+                    registered.await();
+                    for (int j = 0; j < groupsPerWorker; j++) {
+                        queue.add(new ItemGroup());
+                    }
+                    int duplicates = 0;
+                    ItemGroup group;
+                    while ((group = queue.take()) != ItemGroup.POISON_PILL) {
+                        if (!taken.add(group)) {
+                            duplicates++;
+                        }
+                        if (taken.size() == numWorkers * groupsPerWorker) {
+                            for (int j = 0; j < numWorkers; j++) {
+                                queue.add(ItemGroup.POISON_PILL);
+                            }
+                        }
+                    }
+                    return duplicates;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).intValue(), 0);
+            }
+            Assert.assertEquals(taken.size(), numWorkers * groupsPerWorker);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testIdleWorkerWakesUpWhenGroupIsAdded() throws Exception {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(2);
+        ExecutorService workers = Executors.newFixedThreadPool(2);
+        try {
+            // Groups are added while the other worker is between finding the queues empty and waiting
+            for (int i = 0; i < 1000; i++) {
+                ItemGroup group = new ItemGroup();
+                Future<ItemGroup> taken = workers.submit(() -> {
+                    queue.registerWorker();
+                    return queue.take();
+                });
+                workers.submit(() -> queue.add(group)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                Assert.assertSame(taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), group);
+            }
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+}
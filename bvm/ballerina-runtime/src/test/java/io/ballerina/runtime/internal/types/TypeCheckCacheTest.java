@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the {@link TypeCheckCache} of the runtime types.
+ *
+ * @since 2201.10.0
+ */
+public class TypeCheckCacheTest {
+
+    @Test
+    public void testCachedTypeCheckResults() {
+        Type intOrNil = TypeCreator.createUnionType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_NULL));
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(intOrNil, PredefinedTypes.TYPE_ANYDATA));
+            Assert.assertFalse(TypeChecker.checkIsType(intOrNil, PredefinedTypes.TYPE_INT));
+        }
+    }
+
+    @Test
+    public void testOldestEntryIsEvicted() {
+        TypeCheckCache cache = new TypeCheckCache();
+        List<Type> targetTypes = new ArrayList<>();
+        for (int i = 0; i <= TypeCheckCache.MAX_ENTRIES; i++) {
+            Type targetType = new BArrayType(PredefinedTypes.TYPE_INT);
+            targetTypes.add(targetType);
+            cache.put(targetType, i % 2 == 0);
+        }
+        Assert.assertEquals(cache.get(targetTypes.get(0)), TypeCheckCache.NOT_CACHED);
+        for (int i = 1; i < targetTypes.size(); i++) {
+            Assert.assertEquals(cache.get(targetTypes.get(i)),
+                    i % 2 == 0 ? TypeCheckCache.SUBTYPE : TypeCheckCache.NOT_A_SUBTYPE);
+        }
+    }
+
+    @Test
+    public void testResultsAreInvalidatedWhenSourceTypeChanges() {
+        BTupleType tupleType = new BTupleType(List.of(PredefinedTypes.TYPE_INT));
+        Type intArrayType = new BArrayType(PredefinedTypes.TYPE_INT);
+        Assert.assertTrue(TypeChecker.checkIsType(tupleType, intArrayType));
+
+        tupleType.setMemberTypes(List.of(PredefinedTypes.TYPE_STRING), null);
+        Assert.assertFalse(TypeChecker.checkIsType(tupleType, intArrayType));
+    }
+
+    @Test
+    public void testResultsAreInvalidatedWhenTargetTypeChanges() {
+        // The result is cached on the source type, while the target type is changed
+        Type sourceType = new BTupleType(List.of(PredefinedTypes.TYPE_BYTE));
+        BTupleType targetType = new BTupleType(List.of(PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+
+        targetType.setMemberTypes(List.of(PredefinedTypes.TYPE_STRING), null);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    public void testResultsAreInvalidatedWhenNestedTypeChanges() {
+        Type sourceType = new BTupleType(List.of(PredefinedTypes.TYPE_BYTE));
+        BTupleType memberType = new BTupleType(List.of(PredefinedTypes.TYPE_INT));
+        Type targetType = TypeCreator.createUnionType(List.of(memberType, PredefinedTypes.TYPE_STRING));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+
+        memberType.setMemberTypes(List.of(PredefinedTypes.TYPE_STRING), null);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    public void testResultsAreInvalidatedWhenCheckedErrorTypeChanges() {
+        BErrorType sourceType = new BErrorType("SourceError", PredefinedTypes.TYPE_ERROR.getPackage(),
+                TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        BErrorType targetType = new BErrorType("TargetError", PredefinedTypes.TYPE_ERROR.getPackage(),
+                TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+
+        sourceType.setDetailType(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    public void testCreatingErrorsDoesNotInvalidateResults() {
+        BErrorType errorType = new BErrorType("UncheckedError", PredefinedTypes.TYPE_ERROR.getPackage());
+        int version = BType.getStructureVersion();
+        ErrorCreator.createError(errorType, StringUtils.fromString("first error"), null,
+                ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING)));
+        ErrorCreator.createError(errorType, StringUtils.fromString("second error"), null,
+                ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_INT)));
+        Assert.assertEquals(BType.getStructureVersion(), version);
+    }
+}
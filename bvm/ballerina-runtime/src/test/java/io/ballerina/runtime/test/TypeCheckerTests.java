@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.types.UniformTypeBits;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test cases for the type relation checks in the runtime {@link TypeChecker}.
+ *
+ * @since 2201.10.0
+ */
+public class TypeCheckerTests {
+
+    @Test
+    public void testUniformTypeBitsRejectDisjointTypes() {
+        Type intOrString = TypeCreator.createUnionType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        Type floatOrNil = TypeCreator.createUnionType(List.of(PredefinedTypes.TYPE_FLOAT, PredefinedTypes.TYPE_NULL));
+        Assert.assertFalse(UniformTypeBits.mayBeSubtype(intOrString, floatOrNil));
+        Assert.assertFalse(UniformTypeBits.mayBeSubtype(PredefinedTypes.TYPE_INT, floatOrNil));
+        Assert.assertFalse(TypeChecker.checkIsType(intOrString, floatOrNil));
+    }
+
+    @Test
+    public void testUniformTypeBitsKeepPossibleSubtypes() {
+        Type intOrString = TypeCreator.createUnionType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        Assert.assertTrue(UniformTypeBits.mayBeSubtype(PredefinedTypes.TYPE_BYTE, intOrString));
+        Assert.assertTrue(UniformTypeBits.mayBeSubtype(intOrString, PredefinedTypes.TYPE_ANYDATA));
+        Assert.assertTrue(UniformTypeBits.mayBeSubtype(PredefinedTypes.TYPE_JSON, PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_BYTE, intOrString));
+        Assert.assertTrue(TypeChecker.checkIsType(intOrString, PredefinedTypes.TYPE_JSON));
+    }
+
+    @Test
+    public void testUniformTypeBitsFollowChangedMembers() {
+        BUnionType sourceType = new BUnionType(List.of(PredefinedTypes.TYPE_STRING));
+        BUnionType targetType = new BUnionType(List.of(PredefinedTypes.TYPE_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, PredefinedTypes.TYPE_INT));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, targetType));
+
+        sourceType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT});
+        targetType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING});
+        Assert.assertTrue(UniformTypeBits.mayBeSubtype(sourceType, PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, targetType));
+    }
+}
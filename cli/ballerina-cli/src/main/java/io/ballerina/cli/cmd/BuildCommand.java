@@ -162,6 +162,10 @@ public class BuildCommand implements BLauncherCmd {
             "the executable JAR file(s).")
     private Boolean remoteManagement;
 
+    @CommandLine.Option(names = "--optimize-bir", description = "fold constant expressions and remove unreachable " +
+            "code in the generated BIR.")
+    private Boolean optimizeBir;
+
     @CommandLine.Option(names = "--list-conflicted-classes",
             description = "list conflicted classes when generating executable")
     private Boolean listConflictedClasses;
@@ -302,6 +306,7 @@ public class BuildCommand implements BLauncherCmd {
                 .setObservabilityIncluded(observabilityIncluded)
                 .setCloud(cloud)
                 .setRemoteManagement(remoteManagement)
+                .setOptimizeBir(optimizeBir)
                 .setDumpBir(dumpBIR)
                 .setDumpBirFile(dumpBIRFile)
                 .setDumpGraph(dumpGraph)
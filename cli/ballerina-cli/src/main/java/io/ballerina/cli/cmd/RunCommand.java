@@ -95,6 +95,10 @@ public class RunCommand implements BLauncherCmd {
             "executable when run is used with a source file or a module.")
     private Boolean remoteManagement;
 
+    @CommandLine.Option(names = "--optimize-bir", description = "fold constant expressions and remove unreachable " +
+            "code in the generated BIR.")
+    private Boolean optimizeBir;
+
     @CommandLine.Option(names = "--sticky", description = "stick to exact versions locked (if exists)")
     private Boolean sticky;
 
@@ -304,6 +308,7 @@ public class RunCommand implements BLauncherCmd {
                 .setTestReport(false)
                 .setObservabilityIncluded(observabilityIncluded)
                 .setRemoteManagement(remoteManagement)
+                .setOptimizeBir(optimizeBir)
                 .setSticky(sticky)
                 .setDumpGraph(dumpGraph)
                 .setDumpRawGraphs(dumpRawGraphs)
@@ -80,6 +80,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.stream.Stream;
 
 import static io.ballerina.compiler.api.symbols.SymbolKind.CLASS_FIELD;
@@ -106,9 +107,24 @@ public class BallerinaSemanticModel implements SemanticModel {
     private final SymbolFactory symbolFactory;
     private final TypesFactory typesFactory;
     private final SymbolTable symbolTable;
+    private final BiPredicate<String, String> mayReferTo;
 
     public BallerinaSemanticModel(BLangPackage bLangPackage, CompilerContext context) {
+        this(bLangPackage, context, (compUnitName, name) -> true);
+    }
+
+    /**
+     * Creates a semantic model which uses the given predicate to skip the compilation units which cannot refer to a
+     * symbol when looking for the references of a module-level symbol.
+     *
+     * @param bLangPackage package to create the semantic model for
+     * @param context      compiler context
+     * @param mayReferTo   tells whether the compilation unit of the given name may refer to the given symbol name
+     */
+    public BallerinaSemanticModel(BLangPackage bLangPackage, CompilerContext context,
+                                  BiPredicate<String, String> mayReferTo) {
         this.compilerContext = context;
+        this.mayReferTo = mayReferTo;
         this.bLangPackage = bLangPackage;
         this.symbolFactory = SymbolFactory.getInstance(context);
         this.typesFactory = TypesFactory.getInstance(context);
@@ -312,9 +328,32 @@ public class BallerinaSemanticModel implements SemanticModel {
 
     private List<Location> getReferences(BSymbol symbol, BLangNode node, boolean withDefinition) {
         ReferenceFinder refFinder = new ReferenceFinder(withDefinition);
+        if (node instanceof BLangPackage pkgNode && isReferredToByName(symbol)) {
+            // Only the compilation units in which the name of the symbol appears are searched
+            String name = symbol.getOriginalName().value;
+            return refFinder.findReferences(pkgNode, symbol, compUnitName -> mayReferTo.test(compUnitName, name));
+        }
         return refFinder.findReferences(node, symbol);
     }
 
+    private boolean isReferredToByName(BSymbol symbol) {
+        // Module prefixes and compiler generated names are not spelled out as they are in the source
+        if (symbol.getKind() == SymbolKind.PACKAGE) {
+            return false;
+        }
+        String name = symbol.getOriginalName().value;
+        if (name == null || name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
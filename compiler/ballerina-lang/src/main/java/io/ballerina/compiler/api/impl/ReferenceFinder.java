@@ -213,6 +213,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangUserDefinedType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -228,6 +229,7 @@ public class ReferenceFinder extends BaseVisitor {
     private final boolean withDefinition;
     private List<Location> referenceLocations;
     private BSymbol targetSymbol;
+    private Predicate<String> compUnitFilter = compUnitName -> true;
 
     public ReferenceFinder(boolean withDefinition) {
         this.withDefinition = withDefinition;
@@ -240,6 +242,20 @@ public class ReferenceFinder extends BaseVisitor {
         return this.referenceLocations;
     }
 
+    /**
+     * Finds the references of the given symbol in the top level nodes of the package which belong to the compilation
+     * units accepted by the given filter.
+     *
+     * @param pkgNode        package to search in
+     * @param symbol         symbol to find the references of
+     * @param compUnitFilter filter on the names of the compilation units to search in
+     * @return the locations of the references
+     */
+    public List<Location> findReferences(BLangPackage pkgNode, BSymbol symbol, Predicate<String> compUnitFilter) {
+        this.compUnitFilter = compUnitFilter;
+        return findReferences(pkgNode, symbol);
+    }
+
     void find(BLangNode node) {
         if (node == null) {
             return;
@@ -256,19 +272,19 @@ public class ReferenceFinder extends BaseVisitor {
 
     @Override
     public void visit(BLangPackage pkgNode) {
-        find(pkgNode.imports);
-        find(pkgNode.xmlnsList);
-        find(pkgNode.constants);
-        find(pkgNode.globalVars);
-        find(pkgNode.services);
-        find(pkgNode.annotations);
-        find(pkgNode.typeDefinitions);
-        find(pkgNode.classDefinitions.stream()
+        find(filterByCompUnit(pkgNode.imports));
+        find(filterByCompUnit(pkgNode.xmlnsList));
+        find(filterByCompUnit(pkgNode.constants));
+        find(filterByCompUnit(pkgNode.globalVars));
+        find(filterByCompUnit(pkgNode.services));
+        find(filterByCompUnit(pkgNode.annotations));
+        find(filterByCompUnit(pkgNode.typeDefinitions));
+        find(filterByCompUnit(pkgNode.classDefinitions.stream()
                      .filter(c -> !isGeneratedClassDefForService(c))
-                     .collect(Collectors.toList()));
-        find(pkgNode.functions.stream()
+                     .collect(Collectors.toList())));
+        find(filterByCompUnit(pkgNode.functions.stream()
                      .filter(f -> !f.flagSet.contains(Flag.LAMBDA))
-                     .collect(Collectors.toList()));
+                     .collect(Collectors.toList())));
 
         if (!(pkgNode instanceof BLangTestablePackage)) {
             find(pkgNode.getTestablePkg());
@@ -1504,6 +1520,16 @@ public class ReferenceFinder extends BaseVisitor {
         return false;
     }
 
+    private List<? extends BLangNode> filterByCompUnit(List<? extends BLangNode> nodes) {
+        List<BLangNode> filteredNodes = new ArrayList<>(nodes.size());
+        for (BLangNode node : nodes) {
+            if (node.pos == null || this.compUnitFilter.test(node.pos.lineRange().fileName())) {
+                filteredNodes.add(node);
+            }
+        }
+        return filteredNodes;
+    }
+
     private boolean isGeneratedClassDefForService(BLangClassDefinition clazz) {
         return clazz.flagSet.contains(Flag.ANONYMOUS) && clazz.flagSet.contains(Flag.SERVICE);
     }
@@ -110,6 +110,10 @@ public class BuildOptions {
         return this.compilationOptions.remoteManagement();
     }
 
+    public boolean optimizeBir() {
+        return this.compilationOptions.optimizeBir();
+    }
+
     CompilationOptions compilationOptions() {
         return this.compilationOptions;
     }
@@ -212,6 +216,7 @@ public class BuildOptions {
         buildOptionsBuilder.setExportComponentModel(compilationOptions.exportComponentModel);
         buildOptionsBuilder.setEnableCache(compilationOptions.enableCache);
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
+        buildOptionsBuilder.setOptimizeBir(compilationOptions.optimizeBir);
 
         return buildOptionsBuilder.build();
     }
@@ -411,6 +416,11 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setOptimizeBir(Boolean value) {
+            compilationOptionsBuilder.setOptimizeBir(value);
+            return this;
+        }
+
         public BuildOptionsBuilder setShowDependencyDiagnostics(Boolean value) {
             showDependencyDiagnostics = value;
             return this;
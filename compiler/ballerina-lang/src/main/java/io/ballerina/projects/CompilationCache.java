@@ -37,6 +37,35 @@ public abstract class CompilationCache {
 
     public abstract void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent);
 
+    /**
+     * Returns the content hash of the sources the cached BIR of the given module was generated from.
+     * <p>
+     * A cached BIR without a content hash is never reused for a module that can be compiled from sources.
+     *
+     * @param moduleName name of the module
+     * @return content hash of the cached BIR, or empty if the cache does not record one
+     */
+    public Optional<String> getBirContentHash(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the content hash of the sources the cached BIR of the given module was generated from.
+     *
+     * @param moduleName  name of the module
+     * @param contentHash content hash of the module sources
+     */
+    public void cacheBirContentHash(ModuleName moduleName, String contentHash) {
+    }
+
+    /**
+     * Forgets the content hash of the cached BIR of the given module, so that the cached BIR is not reused.
+     *
+     * @param moduleName name of the module
+     */
+    public void removeBirContentHash(ModuleName moduleName) {
+    }
+
     public abstract Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName);
 
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
@@ -85,6 +85,21 @@ public abstract class CompilerBackend {
     // TODO this method should be moved to some other class owned by the CompilerBackend
     public abstract void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache);
 
+    /**
+     * Generates the platform-specific library of a module and runs the given action once the library is written to
+     * the compilation cache without errors. A backend may generate the library after this method returns.
+     *
+     * @param moduleContext    the module to generate the library of
+     * @param compilationCache the compilation cache to write the library to
+     * @param onLibraryCached  the action to run once the library is written
+     */
+    void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache, Runnable onLibraryCached) {
+        performCodeGen(moduleContext, compilationCache);
+        if (!Diagnostics.hasErrors(moduleContext.diagnostics())) {
+            onLibraryCached.run();
+        }
+    }
+
     public abstract String libraryFileExtension();
 
     /**
@@ -23,6 +23,8 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.internal.ModuleLevelSignatureBuilder;
+import io.ballerina.projects.internal.ReferencedNamesCollector;
 import io.ballerina.projects.internal.TransactionImportValidator;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
@@ -37,6 +39,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Names;
 
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 
@@ -54,6 +57,9 @@ class DocumentContext {
     private SyntaxTree syntaxTree;
     private TextDocument textDocument;
     private Set<ModuleLoadRequest> moduleLoadRequests;
+    private String moduleLevelSignature;
+    private Set<String> referencedNames;
+    private boolean referencedNamesCollected;
     private BLangCompilationUnit compilationUnit;
     private NodeCloner nodeCloner;
     private final DocumentId documentId;
@@ -122,6 +128,41 @@ class DocumentContext {
         return this.nodeCloner.cloneCUnit(this.compilationUnit);
     }
 
+    /**
+     * Returns a hash of the module-level signature of this document, which excludes the bodies of the functions.
+     *
+     * @return the signature hash, or empty if the syntax tree of the document is not retained
+     */
+    Optional<String> moduleLevelSignature() {
+        if (this.moduleLevelSignature != null) {
+            return Optional.of(this.moduleLevelSignature);
+        }
+        if (this.disableSyntaxTree) {
+            return Optional.empty();
+        }
+
+        this.moduleLevelSignature = ModuleLevelSignatureBuilder.build(syntaxTree().rootNode());
+        return Optional.of(this.moduleLevelSignature);
+    }
+
+    /**
+     * Returns the names that appear in this document.
+     *
+     * @return the names, or empty if they are not known
+     */
+    Optional<Set<String>> referencedNames() {
+        if (this.referencedNamesCollected) {
+            return Optional.ofNullable(this.referencedNames);
+        }
+        if (this.disableSyntaxTree) {
+            return Optional.empty();
+        }
+
+        this.referencedNames = ReferencedNamesCollector.collect(syntaxTree().rootNode()).orElse(null);
+        this.referencedNamesCollected = true;
+        return Optional.ofNullable(this.referencedNames);
+    }
+
     Set<ModuleLoadRequest> moduleLoadRequests(ModuleDescriptor currentModuleDesc, PackageDependencyScope scope) {
         if (this.moduleLoadRequests != null) {
             return this.moduleLoadRequests;
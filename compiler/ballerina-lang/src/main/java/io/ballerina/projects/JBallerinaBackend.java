@@ -22,6 +22,7 @@ import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
 import io.ballerina.projects.internal.PackageDiagnostic;
 import io.ballerina.projects.internal.ProjectDiagnosticErrorCode;
+import io.ballerina.projects.internal.jballerina.CodeGenScheduler;
 import io.ballerina.projects.internal.jballerina.JarWriter;
 import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.util.ProjectConstants;
@@ -30,7 +31,7 @@ import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.io.FilenameUtils;
@@ -57,23 +58,30 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.ballerina.projects.util.FileUtils.getFileNameWithoutExtension;
 import static io.ballerina.projects.util.ProjectConstants.BIN_DIR_NAME;
@@ -95,6 +103,9 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_NAME_SUFFIX = "";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final String OS = System.getProperty("os.name").toLowerCase(Locale.getDefault());
+    private static final String EXECUTABLE_FINGERPRINT_FILE_NAME = "executable.sha256";
+    // Dependency jars are opened in batches, so that packages with many dependencies do not run out of file handles
+    private static final int MAX_OPEN_JARS = 64;
 
     private final PackageResolution pkgResolution;
     private final JvmTarget jdkVersion;
@@ -108,6 +119,9 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    // The backend code of the modules is generated concurrently once the BIR of all the modules is generated, and
+    // the thin JAR of a module is written to the compilation cache while its dependents are being generated.
+    private CodeGenScheduler<ModuleDescriptor> codeGenScheduler;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         return from(packageCompilation, jdkVersion, true);
@@ -156,9 +170,37 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.getResolution().diagnosticResult().allDiagnostics);
         // add ballerina toml diagnostics
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
+        List<ModuleContext> sortedModules = pkgResolution.topologicallySortedModuleList();
+        // Generate the BIR of the modules and schedule the generation of their backend code
+        boolean hasModuleErrors = this.packageContext.getResolution().diagnosticResult().hasErrors();
+        codeGenScheduler = new CodeGenScheduler<>();
+        try {
+            for (ModuleContext moduleContext : sortedModules) {
+                if (moduleContext.moduleId().packageId().equals(packageContext.packageId())
+                        && packageCompilation.diagnosticResult().hasErrors()) {
+                    hasModuleErrors = true;
+                    continue;
+                }
+                // We can't generate backend code when one of its dependencies have errors.
+                if (!hasModuleErrors) {
+                    // The modules of the dependencies are shared by the projects of the environment
+                    synchronized (compilerContext) {
+                        PackageCompilation.setCompilerOptions(compilerContext, packageContext,
+                                packageCompilation.compilationOptions());
+                        moduleContext.generatePlatformSpecificCode(compilerContext, this);
+                    }
+                }
+                hasModuleErrors = hasModuleErrors || hasErrors(moduleContext.diagnostics());
+            }
+        } finally {
+            // Generate the modules scheduled so far even if a module failed, so that none of them are left without
+            // their thin JARs
+            generateScheduledCode();
+        }
+
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
-        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+        for (ModuleContext moduleContext : sortedModules) {
             if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
                 if (packageCompilation.diagnosticResult().hasErrors()) {
                     for (Diagnostic diagnostic : moduleContext.diagnostics()) {
@@ -168,10 +210,6 @@ public class JBallerinaBackend extends CompilerBackend {
                     continue;
                 }
             }
-            // We can't generate backend code when one of its dependencies have errors.
-            if (!this.packageContext.getResolution().diagnosticResult().hasErrors() && !hasErrors(moduleDiagnostics)) {
-                moduleContext.generatePlatformSpecificCode(compilerContext, this);
-            }
             for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                 if (this.packageContext.project().buildOptions().showDependencyDiagnostics() ||
                         !ProjectKind.BALA_PROJECT.equals(moduleContext.project().kind()) ||
@@ -358,43 +396,102 @@ public class JBallerinaBackend extends CompilerBackend {
     // TODO This method should be moved to some other class owned by the JBallerinaBackend
     @Override
     public void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache) {
+        performCodeGen(moduleContext, compilationCache, () -> { });
+    }
+
+    @Override
+    void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache, Runnable onLibraryCached) {
         BLangPackage bLangPackage = moduleContext.bLangPackage();
         interopValidator.validate(moduleContext.moduleId(), this, bLangPackage);
         if (bLangPackage.getErrorCount() > 0) {
             return;
         }
+        boolean isScheduled = codeGenScheduler != null;
+        if (!isScheduled) {
+            codeGenScheduler = new CodeGenScheduler<>();
+        }
+        List<ModuleDescriptor> dependencies = new ArrayList<>();
+        for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+            dependencies.add(moduleDependency.descriptor());
+        }
+        List<GeneratedLibrary> generatedLibraries = new ArrayList<>();
+        codeGenScheduler.schedule(moduleContext.descriptor(), dependencies,
+                () -> generateLibraries(moduleContext, bLangPackage, generatedLibraries),
+                () -> writeLibraries(moduleContext, compilationCache, generatedLibraries, onLibraryCached));
+        if (!isScheduled) {
+            generateScheduledCode();
+        }
+    }
+
+    private boolean generateLibraries(ModuleContext moduleContext, BLangPackage bLangPackage,
+                                      List<GeneratedLibrary> generatedLibraries) {
         boolean isRemoteMgtEnabled = moduleContext.project().buildOptions().compilationOptions().remoteManagement();
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage, isRemoteMgtEnabled);
         if (compiledJarFile == null) {
             throw new IllegalStateException("Missing generated jar, module: " + moduleContext.moduleName());
         }
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, getResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        generatedLibraries.add(new GeneratedLibrary(jarFileName, compiledJarFile, getResources(moduleContext),
+                "Failed to cache generated jar, module: "));
         // skip generation of the test jar if --with-tests option is not provided
-        if (moduleContext.project().buildOptions().skipTests()) {
-            return;
+        if (!moduleContext.project().buildOptions().skipTests() && bLangPackage.hasTestablePackage()) {
+            String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
+            CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(
+                    bLangPackage.testablePkgs.get(0), isRemoteMgtEnabled);
+            generatedLibraries.add(new GeneratedLibrary(testJarFileName, compiledTestJarFile,
+                    getAllResources(moduleContext), "Failed to cache generated test jar, module: "));
         }
+        return bLangPackage.getErrorCount() == 0;
+    }
 
-        if (!bLangPackage.hasTestablePackage()) {
-            return;
+    private void writeLibraries(ModuleContext moduleContext, CompilationCache compilationCache,
+                                List<GeneratedLibrary> generatedLibraries, Runnable onLibraryCached) {
+        for (GeneratedLibrary generatedLibrary : generatedLibraries) {
+            try {
+                ByteArrayOutputStream byteStream = JarWriter.write(generatedLibrary.compiledJarFile(),
+                        generatedLibrary.resources());
+                compilationCache.cachePlatformSpecificLibrary(this, generatedLibrary.libraryName(), byteStream);
+            } catch (IOException | RuntimeException e) {
+                // The BIR cached by a previous build must not be reused with a partially written JAR
+                compilationCache.removeBirContentHash(moduleContext.moduleName());
+                throw new ProjectException(generatedLibrary.errorMessage() + moduleContext.moduleName(), e);
+            }
         }
+        onLibraryCached.run();
+    }
 
-        String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
-        CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0),
-                isRemoteMgtEnabled);
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile, getAllResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
+    private void generateScheduledCode() {
+        CodeGenScheduler<ModuleDescriptor> scheduler = codeGenScheduler;
+        codeGenScheduler = null;
+        // The modules are generated while holding the lock, since they use the compiler state shared by the projects
+        // of the environment
+        synchronized (compilerContext) {
+            PackageCompilation.setCompilerOptions(compilerContext, packageContext,
+                    packageCompilation.compilationOptions());
+            try {
+                scheduler.generate(Runtime.getRuntime().availableProcessors());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new ProjectException("Failed to generate code", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProjectException("Interrupted while generating code", e);
+            }
         }
     }
 
+    private record SelectedJarEntries(JarLibrary jarLibrary, List<ZipArchiveEntry> entries) {
+    }
+
+    private record GeneratedLibrary(String libraryName, CompiledJarFile compiledJarFile,
+                                    Map<String, byte[]> resources, String errorMessage) {
+    }
+
     @Override
     public String libraryFileExtension() {
         return JAR_FILE_EXTENSION;
@@ -434,16 +531,24 @@ public class JBallerinaBackend extends CompilerBackend {
         // service loader related information should be merged together in the final executable jar creation.
         HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
 
+        // Entries are selected even if the executable is up-to-date, so that jar conflicts are still reported
+        List<SelectedJarEntries> selectedJars = selectJarEntries(jarLibraries, copiedEntries, serviceEntries);
+        Path fingerprintPath = packageContext.project().targetDir()
+                .resolve(ProjectConstants.CACHES_DIR_NAME).resolve(EXECUTABLE_FINGERPRINT_FILE_NAME);
+        String inputFingerprint = getInputFingerprint(executableFilePath, manifest, selectedJars, serviceEntries);
+        if (isExecutableUpToDate(executableFilePath, fingerprintPath, inputFingerprint)) {
+            return;
+        }
+
         try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
                 new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
             writeManifest(manifest, outStream);
-
-            // Sort jar libraries list to avoid inconsistent jar reporting
-            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries);
+            copyJarEntries(selectedJars, outStream);
 
             // Copy merged spi services.
             copyMergedSpiServices(serviceEntries, outStream);
         }
+        writeExecutableFingerprint(executableFilePath, fingerprintPath, inputFingerprint);
     }
 
     private void assembleTestExecutableJar(Path executableFilePath,
@@ -462,8 +567,6 @@ public class JBallerinaBackend extends CompilerBackend {
         try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
                 new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
             writeManifest(manifest, outStream);
-
-            // Sort jar libraries list to avoid inconsistent jar reporting
             sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries);
 
             // Copy merged spi services.
@@ -500,15 +603,171 @@ public class JBallerinaBackend extends CompilerBackend {
     private void sortAndCopyJars(Collection<JarLibrary> jarLibraries, ZipArchiveOutputStream outStream,
                                  HashMap<String, JarLibrary> copiedEntries,
                                  HashMap<String, StringBuilder> serviceEntries) throws IOException {
+        List<SelectedJarEntries> selectedJars = selectJarEntries(jarLibraries, copiedEntries, serviceEntries);
+        copyJarEntries(selectedJars, outStream);
+    }
 
+    /**
+     * Selects the entries of the given jar files to be copied into the executable fat jar.
+     * <p>
+     * The jar files are opened in parallel, since reading their central directories dominates for large numbers of
+     * dependencies. Entries are selected in the order of the sorted jar libraries, so that the first jar providing an
+     * entry always wins.
+     *
+     * @param jarLibraries   jar libraries to be copied
+     * @param copiedEntries  Entries set will be used to ignore duplicate files.
+     * @param serviceEntries Services will be used to temporary hold merged spi files.
+     * @return jar libraries along with their entries to be copied
+     * @throws IOException If reading a jar file is failed.
+     */
+    private List<SelectedJarEntries> selectJarEntries(Collection<JarLibrary> jarLibraries,
+                                                      HashMap<String, JarLibrary> copiedEntries,
+                                                      HashMap<String, StringBuilder> serviceEntries)
+            throws IOException {
+        // Sort jar libraries list to avoid inconsistent jar reporting
         List<JarLibrary> sortedJarLibraries = jarLibraries.stream()
                 .sorted(Comparator.comparing(jarLibrary -> jarLibrary.path().getFileName()))
                 .toList();
 
-        // Copy all the jars
-        for (JarLibrary library : sortedJarLibraries) {
-            copyJar(outStream, library, copiedEntries, serviceEntries);
+        List<SelectedJarEntries> selectedJars = new ArrayList<>(sortedJarLibraries.size());
+        for (int start = 0; start < sortedJarLibraries.size(); start += MAX_OPEN_JARS) {
+            List<JarLibrary> batch = sortedJarLibraries.subList(start,
+                    Math.min(start + MAX_OPEN_JARS, sortedJarLibraries.size()));
+            ZipFile[] zipFiles = openJars(batch);
+            try {
+                for (int i = 0; i < zipFiles.length; i++) {
+                    selectedJars.add(new SelectedJarEntries(batch.get(i),
+                            selectEntries(zipFiles[i], batch.get(i), copiedEntries, serviceEntries)));
+                }
+            } finally {
+                closeJars(zipFiles);
+            }
         }
+        return selectedJars;
+    }
+
+    /**
+     * Transfers the selected entries to the output stream, while preserving their compression and all the other
+     * original attributes. Entries are neither inflated nor deflated again.
+     *
+     * @param selectedJars jar libraries along with their entries to be copied
+     * @param outStream    Output stream of the final uber jar.
+     * @throws IOException If jar file copying is failed.
+     */
+    private static void copyJarEntries(List<SelectedJarEntries> selectedJars, ZipArchiveOutputStream outStream)
+            throws IOException {
+        for (int start = 0; start < selectedJars.size(); start += MAX_OPEN_JARS) {
+            List<SelectedJarEntries> batch = selectedJars.subList(start,
+                    Math.min(start + MAX_OPEN_JARS, selectedJars.size()));
+            ZipFile[] zipFiles = openJars(batch.stream().map(SelectedJarEntries::jarLibrary).toList());
+            try {
+                for (int i = 0; i < zipFiles.length; i++) {
+                    for (ZipArchiveEntry selectedEntry : batch.get(i).entries()) {
+                        ZipArchiveEntry entry = zipFiles[i].getEntry(selectedEntry.getName());
+                        if (entry == null) {
+                            throw new IOException("jar file changed while creating the executable: "
+                                    + batch.get(i).jarLibrary().path());
+                        }
+                        outStream.addRawArchiveEntry(entry, zipFiles[i].getRawInputStream(entry));
+                    }
+                }
+            } finally {
+                closeJars(zipFiles);
+            }
+        }
+    }
+
+    private static ZipFile[] openJars(List<JarLibrary> jarLibraries) throws IOException {
+        ZipFile[] zipFiles = new ZipFile[jarLibraries.size()];
+        IOException[] failures = new IOException[jarLibraries.size()];
+        IntStream.range(0, zipFiles.length).parallel().forEach(i -> {
+            try {
+                zipFiles[i] = new ZipFile(jarLibraries.get(i).path().toFile());
+            } catch (IOException e) {
+                failures[i] = e;
+            }
+        });
+        for (IOException failure : failures) {
+            if (failure != null) {
+                closeJars(zipFiles);
+                throw failure;
+            }
+        }
+        return zipFiles;
+    }
+
+    private static void closeJars(ZipFile[] zipFiles) throws IOException {
+        for (ZipFile zipFile : zipFiles) {
+            if (zipFile != null) {
+                zipFile.close();
+            }
+        }
+    }
+
+    /**
+     * Returns a fingerprint of everything the executable fat jar is assembled from.
+     * <p>
+     * The content of the copied jar entries is identified by the CRC-32 checksums recorded in the central directories
+     * of the jar files, which are read anyway to select the entries, rather than by reading every entry again.
+     */
+    private static String getInputFingerprint(Path executableFilePath, Manifest manifest,
+                                              List<SelectedJarEntries> selectedJars,
+                                              Map<String, StringBuilder> serviceEntries) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        ByteArrayOutputStream manifestContent = new ByteArrayOutputStream();
+        manifest.write(manifestContent);
+        digest.update(executableFilePath.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(manifestContent.toByteArray());
+        for (SelectedJarEntries selectedJar : selectedJars) {
+            StringBuilder jarStamp = new StringBuilder("\n").append(selectedJar.jarLibrary().path().toAbsolutePath());
+            for (ZipArchiveEntry entry : selectedJar.entries()) {
+                jarStamp.append('\n').append(entry.getName()).append(':').append(entry.getCrc())
+                        .append(':').append(entry.getSize());
+            }
+            digest.update(jarStamp.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        for (Map.Entry<String, StringBuilder> serviceEntry : new TreeMap<>(serviceEntries).entrySet()) {
+            String serviceStamp = "\n" + serviceEntry.getKey() + "\n" + serviceEntry.getValue();
+            digest.update(serviceStamp.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static boolean isExecutableUpToDate(Path executableFilePath, Path fingerprintPath,
+                                                String inputFingerprint) {
+        if (!Files.exists(executableFilePath) || !Files.exists(fingerprintPath)) {
+            return false;
+        }
+        try {
+            return Files.readString(fingerprintPath).equals(getExecutableFingerprint(executableFilePath,
+                    inputFingerprint));
+        } catch (IOException e) {
+            // Reassemble the executable if the fingerprint cannot be read
+            return false;
+        }
+    }
+
+    private static void writeExecutableFingerprint(Path executableFilePath, Path fingerprintPath,
+                                                   String inputFingerprint) {
+        try {
+            Files.createDirectories(fingerprintPath.getParent());
+            Files.writeString(fingerprintPath, getExecutableFingerprint(executableFilePath, inputFingerprint));
+        } catch (IOException e) {
+            // The fingerprint only lets the next build skip assembling an unchanged executable
+        }
+    }
+
+    private static String getExecutableFingerprint(Path executableFilePath, String inputFingerprint)
+            throws IOException {
+        // Also record the executable itself, so that an executable modified after it was assembled is not reused
+        return inputFingerprint + ":" + Files.size(executableFilePath) + ":"
+                + Files.getLastModifiedTime(executableFilePath);
     }
 
     private void writeManifest(Manifest manifest, ZipArchiveOutputStream outStream) throws IOException {
@@ -549,26 +808,28 @@ public class JBallerinaBackend extends CompilerBackend {
     }
 
     /**
-     * Copies a given jar file into the executable fat jar.
+     * Selects the entries of a given jar file to be copied into the executable fat jar.
      *
-     * @param outStream     Output stream of the final uber jar.
+     * @param zipFile       jar file.
      * @param jarLibrary    jar library.
      * @param copiedEntries Entries set will be used to ignore duplicate files.
      * @param services      Services will be used to temporary hold merged spi files.
-     * @throws IOException If jar file copying is failed.
+     * @return entries to be copied, in their physical order in the jar file
+     * @throws IOException If reading the jar file is failed.
      */
-    private void copyJar(ZipArchiveOutputStream outStream, JarLibrary jarLibrary,
-                         HashMap<String, JarLibrary> copiedEntries, HashMap<String,
+    private List<ZipArchiveEntry> selectEntries(ZipFile zipFile, JarLibrary jarLibrary,
+                                                HashMap<String, JarLibrary> copiedEntries, HashMap<String,
             StringBuilder> services) throws IOException {
-
-        ZipFile zipFile = new ZipFile(jarLibrary.path().toFile());
-        ZipArchiveEntryPredicate predicate = entry -> {
+        List<ZipArchiveEntry> selectedEntries = new ArrayList<>();
+        Enumeration<ZipArchiveEntry> entries = zipFile.getEntriesInPhysicalOrder();
+        while (entries.hasMoreElements()) {
+            ZipArchiveEntry entry = entries.nextElement();
             String entryName = entry.getName();
             if (entryName.equals("META-INF/MANIFEST.MF")) {
-                return false;
+                continue;
             }
             if (entryName.equals("module-info.class")) {
-                return false;
+                continue;
             }
             if (entryName.startsWith("META-INF/services")) {
                 StringBuilder s = services.get(entryName);
@@ -584,35 +845,29 @@ public class JBallerinaBackend extends CompilerBackend {
                         c = (char) len;
                         s.append(c);
                     }
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
                 }
                 if (c != '\n') {
                     s.append('\n');
                 }
 
                 // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
-                // separately. Therefore the predicate should be set as false.
-                return false;
+                // separately.
+                continue;
             }
 
             // Skip already copied files or excluded extensions.
             if (isCopiedEntry(entryName, copiedEntries)) {
                 addConflictedJars(jarLibrary, copiedEntries, entryName);
-                return false;
+                continue;
             }
             if (isExcludedEntry(entryName)) {
-                return false;
+                continue;
             }
             // SPIs will be merged first and then put into jar separately.
             copiedEntries.put(entryName, jarLibrary);
-            return true;
-        };
-
-        // Transfers selected entries from this zip file to the output stream, while preserving its compression and
-        // all the other original attributes.
-        zipFile.copyRawEntries(outStream, predicate);
-        zipFile.close();
+            selectedEntries.add(entry);
+        }
+        return selectedEntries;
     }
 
     private static boolean isCopiedEntry(String entryName, HashMap<String, JarLibrary> copiedEntries) {
@@ -339,6 +339,13 @@ public class Module {
                     this.testResourceContextMap);
             moduleContextSet.add(newModuleContext);
 
+            // An edit confined to function bodies does not change anything the dependant modules see. Keep their
+            // compiled state so that only this module is compiled again.
+            if (isModuleLevelSignatureUnchanged(srcDocContextMap)) {
+                Package newPackage = this.packageInstance.modify().updateModules(moduleContextSet).apply();
+                return newPackage.module(this.moduleId);
+            }
+
             // add dependant modules including transitives
             Collection<ModuleDescriptor> dependants = getAllDependants(this.moduleDescriptor);
             for (ModuleDescriptor dependentDescriptor : dependants) {
@@ -356,6 +363,27 @@ public class Module {
             return newPackage.module(this.moduleId);
         }
 
+        private boolean isModuleLevelSignatureUnchanged(Map<DocumentId, DocumentContext> srcDocContextMap) {
+            ModuleContext oldModuleContext = this.packageInstance.module(this.moduleId).moduleContext();
+            Collection<DocumentId> oldSrcDocIds = oldModuleContext.srcDocumentIds();
+            if (oldSrcDocIds.size() != srcDocContextMap.size() || !srcDocContextMap.keySet().containsAll(oldSrcDocIds)) {
+                return false;
+            }
+
+            for (Map.Entry<DocumentId, DocumentContext> entry : srcDocContextMap.entrySet()) {
+                DocumentContext oldDocContext = oldModuleContext.documentContext(entry.getKey());
+                DocumentContext newDocContext = entry.getValue();
+                if (oldDocContext == newDocContext) {
+                    continue;
+                }
+                Optional<String> oldSignature = oldDocContext.moduleLevelSignature();
+                if (oldSignature.isEmpty() || !oldSignature.equals(newDocContext.moduleLevelSignature())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         Modifier updateModuleMd(MdDocumentContext moduleMd) {
             this.moduleMdContext = moduleMd;
             return this;
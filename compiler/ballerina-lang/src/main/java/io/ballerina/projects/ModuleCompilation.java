@@ -112,7 +112,11 @@ public class ModuleCompilation {
                         + ", version: " + sortedModuleDescriptor.version());
             }
             ModuleContext moduleContext = pkg.get().module(sortedModuleDescriptor.name()).moduleContext();
-            moduleContext.compile(compilerContext);
+            synchronized (compilerContext) {
+                PackageCompilation.setCompilerOptions(compilerContext, packageContext,
+                        packageContext.compilationOptions());
+                moduleContext.compile(compilerContext);
+            }
             for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                 diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
             }
@@ -123,7 +127,8 @@ public class ModuleCompilation {
     }
 
     public SemanticModel getSemanticModel() {
-        return new BallerinaSemanticModel(this.moduleContext.bLangPackage(), this.compilerContext);
+        return new BallerinaSemanticModel(this.moduleContext.bLangPackage(), this.compilerContext,
+                this.moduleContext::mayReferTo);
     }
 
     public DiagnosticResult diagnostics() {
@@ -26,6 +26,7 @@ import io.ballerina.projects.internal.ModuleContextDataHolder;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.TextDocument;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.Flag;
@@ -41,13 +42,21 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -74,6 +83,7 @@ class ModuleContext {
     private final Collection<DocumentId> testSrcDocIds;
     private final MdDocumentContext moduleMdContext;
     private final Map<DocumentId, DocumentContext> testDocContextMap;
+    private final Map<String, DocumentContext> docContextsByName;
     private final Collection<DocumentId> resourceIds;
     private final Collection<DocumentId> testResourceIds;
     private final Map<DocumentId, ResourceContext> resourceContextMap;
@@ -90,6 +100,7 @@ class ModuleContext {
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
+    private String contentHash;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -109,6 +120,13 @@ class ModuleContext {
         this.srcDocIds = Collections.unmodifiableCollection(srcDocContextMap.keySet());
         this.testDocContextMap = testDocContextMap;
         this.testSrcDocIds = Collections.unmodifiableCollection(testDocContextMap.keySet());
+        this.docContextsByName = new HashMap<>();
+        for (DocumentContext documentContext : srcDocContextMap.values()) {
+            this.docContextsByName.put(documentContext.name(), documentContext);
+        }
+        for (DocumentContext documentContext : testDocContextMap.values()) {
+            this.docContextsByName.put(documentContext.name(), documentContext);
+        }
         this.moduleMdContext = moduleMd;
         this.moduleDescDependencies = Collections.unmodifiableList(moduleDescDependencies);
         this.resourceContextMap = resourceContextMap;
@@ -186,6 +204,21 @@ class ModuleContext {
         }
     }
 
+    /**
+     * Returns whether the given document of this module may refer to a symbol with the given name.
+     *
+     * @param documentName name of the document
+     * @param name         name of the symbol
+     * @return false only if the name does not appear in the document
+     */
+    boolean mayReferTo(String documentName, String name) {
+        DocumentContext documentContext = this.docContextsByName.get(documentName);
+        if (documentContext == null) {
+            return true;
+        }
+        return documentContext.referencedNames().map(names -> names.contains(name)).orElse(true);
+    }
+
     ResourceContext resourceContext(DocumentId documentId) {
         if (this.resourceIds.contains(documentId)) {
             return this.resourceContextMap.get(documentId);
@@ -300,7 +333,7 @@ class ModuleContext {
         if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
-                && !this.project.buildOptions().enableCache()) {
+                && (!this.project.buildOptions().enableCache() || !isCachedBirUpToDate())) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else {
             moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
@@ -308,6 +341,114 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    private boolean isCachedBirUpToDate() {
+        Optional<String> cachedContentHash = compilationCache.getBirContentHash(moduleDescriptor.name());
+        return cachedContentHash.isPresent() && cachedContentHash.get().equals(contentHash());
+    }
+
+    /**
+     * Returns a hash of everything the BIR and the thin JAR of this module are generated from.
+     * <p>
+     * The hash covers the compiler version, the build options that affect code generation, the package manifests,
+     * the source and test documents and resources of the module, the descriptors of the modules it depends on, and
+     * recursively the content hashes of the modules of the same package it imports.
+     *
+     * @return hex encoded SHA-256 hash of the module contents
+     */
+    String contentHash() {
+        if (contentHash != null) {
+            return contentHash;
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        BuildOptions buildOptions = project.buildOptions();
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, String.valueOf(buildOptions.observabilityIncluded()));
+        updateDigest(digest, String.valueOf(buildOptions.remoteManagement()));
+        updateDigest(digest, String.valueOf(buildOptions.optimizeBir()));
+        updateDigest(digest, String.valueOf(buildOptions.skipTests()));
+        updateDigest(digest, String.valueOf(buildOptions.experimental()));
+        updateDigest(digest, buildOptions.cloud());
+        updateDigest(digest, moduleKey(moduleDescriptor));
+
+        PackageContext packageContext = project.currentPackage().packageContext();
+        packageContext.ballerinaTomlContext()
+                .ifPresent(toml -> updateDigest(digest, toml.tomlDocument().textDocument()));
+        packageContext.dependenciesTomlContext()
+                .ifPresent(toml -> updateDigest(digest, toml.tomlDocument().textDocument()));
+
+        updateDigest(digest, srcDocContextMap.values());
+        updateDigest(digest, testDocContextMap.values());
+        updateDigestWithResources(digest, resourceContextMap.values());
+        updateDigestWithResources(digest, testResourceContextMap.values());
+
+        List<ModuleDescriptor> dependencies = new ArrayList<>();
+        if (moduleDependencies != null) {
+            for (ModuleDependency moduleDependency : moduleDependencies) {
+                dependencies.add(moduleDependency.descriptor());
+            }
+        }
+        dependencies.sort(Comparator.comparing(ModuleContext::moduleKey));
+        for (ModuleDescriptor dependency : dependencies) {
+            updateDigest(digest, moduleKey(dependency));
+            if (dependency.org().equals(moduleDescriptor.org())
+                    && dependency.packageName().equals(moduleDescriptor.packageName())
+                    && !dependency.name().equals(moduleDescriptor.name())) {
+                ModuleContext dependencyContext = packageContext.moduleContext(dependency.name());
+                if (dependencyContext != null) {
+                    updateDigest(digest, dependencyContext.contentHash());
+                }
+            }
+        }
+
+        contentHash = HexFormat.of().formatHex(digest.digest());
+        return contentHash;
+    }
+
+    private static String moduleKey(ModuleDescriptor moduleDescriptor) {
+        return moduleDescriptor.org().value() + "/" + moduleDescriptor.name() + ":" + moduleDescriptor.version();
+    }
+
+    private static void updateDigest(MessageDigest digest, Collection<DocumentContext> documentContexts) {
+        List<DocumentContext> sortedDocContexts = new ArrayList<>(documentContexts);
+        sortedDocContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : sortedDocContexts) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.textDocument());
+        }
+    }
+
+    private static void updateDigestWithResources(MessageDigest digest,
+                                                  Collection<ResourceContext> resourceContexts) {
+        List<ResourceContext> sortedResourceContexts = new ArrayList<>(resourceContexts);
+        sortedResourceContexts.sort(Comparator.comparing(ResourceContext::name));
+        for (ResourceContext resourceContext : sortedResourceContexts) {
+            updateDigest(digest, resourceContext.name());
+            updateDigest(digest, resourceContext.content());
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, TextDocument textDocument) {
+        updateDigest(digest, String.valueOf(textDocument.toCharArray()));
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        updateDigest(digest, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void updateDigest(MessageDigest digest, byte[] bytes) {
+        // Prefix each value with its length so that adjacent values cannot be confused with each other
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
@@ -477,21 +618,26 @@ class ModuleContext {
         }
 
         // Generate and write the thin JAR to the file system
-        compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
-
-        // Skip bir caching if jar generation is not successful
-        if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
-            return;
-        }
+        // The BIR is cached only once the JAR is written without errors, which the backend may do in the background
+        compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache,
+                () -> cacheBir(moduleContext, birContent));
+    }
 
+    private static void cacheBir(ModuleContext moduleContext, ByteArrayOutputStream birContent) {
         if (birContent == null) {
             return;
         }
 
         // Write the bir to the file system
-        // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
         moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        if (moduleContext.project.kind() == ProjectKind.BUILD_PROJECT
+                && moduleContext.project.buildOptions().enableCache()) {
+            // Record what the cached BIR and JAR were generated from, so that the next build can reuse them
+            // only if nothing has changed
+            moduleContext.compilationCache.cacheBirContentHash(moduleContext.moduleName(),
+                    moduleContext.contentHash());
+        }
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
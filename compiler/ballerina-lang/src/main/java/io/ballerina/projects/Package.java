@@ -4,6 +4,7 @@ import io.ballerina.projects.environment.ResolutionOptions;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
 import io.ballerina.projects.internal.DependencyManifestBuilder;
 import io.ballerina.projects.internal.ManifestBuilder;
+import io.ballerina.projects.internal.environment.EnvironmentPackageCache;
 import io.ballerina.projects.internal.model.CompilerPluginDescriptor;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.ballerinalang.model.elements.PackageID;
@@ -644,6 +645,12 @@ public class Package {
             io.ballerina.projects.environment.PackageCache environmentPackageCache =
                     this.project.projectEnvironmentContext().environment().getService(
                             io.ballerina.projects.environment.PackageCache.class);
+            // The dependencies in a retaining cache are shared with the other projects of the environment, which are
+            // still compiled against them, hence they are kept as they are
+            if (environmentPackageCache instanceof EnvironmentPackageCache packageCache
+                    && packageCache.retainsPackages()) {
+                return;
+            }
             CompilerContext compilerContext = project.projectEnvironmentContext()
                     .getService(CompilerContext.class);
 
@@ -675,15 +682,18 @@ public class Package {
                 return;
             }
             PackageCache packageCache = PackageCache.getInstance(compilerContext);
-            for (ModuleId moduleId : dependency.packageInstance().moduleIds()) {
-                if (!dependency.packageInstance().descriptor().isLangLibPackage()) {
-                    Module module = dependency.packageInstance().module(moduleId);
-                    PackageID packageID = module.descriptor().moduleCompilationId();
-                    // remove the module from the compiler packageCache
-                    packageCache.remove(packageID);
-                    // reset the module in the project environment packageCache to make the module recompile
-                    // and add symbols
-                    module.moduleContext().setCompilationState(null);
+            // The compiler packageCache and the modules of the dependencies can be shared with other projects
+            synchronized (compilerContext) {
+                for (ModuleId moduleId : dependency.packageInstance().moduleIds()) {
+                    if (!dependency.packageInstance().descriptor().isLangLibPackage()) {
+                        Module module = dependency.packageInstance().module(moduleId);
+                        PackageID packageID = module.descriptor().moduleCompilationId();
+                        // remove the module from the compiler packageCache
+                        packageCache.remove(packageID);
+                        // reset the module in the project environment packageCache to make the module recompile
+                        // and add symbols
+                        module.moduleContext().setCompilationState(null);
+                    }
                 }
             }
             for (ResolvedPackageDependency directDependent : depGraph.getDirectDependents(dependency)) {
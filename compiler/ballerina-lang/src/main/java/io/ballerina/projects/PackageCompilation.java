@@ -41,9 +41,11 @@ import java.util.function.Function;
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
+import static org.ballerinalang.compiler.CompilerOptionName.OPTIMIZE_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.REMOTE_MANAGEMENT;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
 
 /**
  * Compilation at package level by resolving all the dependencies.
@@ -67,29 +69,38 @@ public class PackageCompilation {
         this.rootPackageContext = rootPackageContext;
         this.packageResolution = rootPackageContext.getResolution();
         this.compilationOptions = compilationOptions;
-        setupCompilation(compilationOptions);
+        setupCompilation();
     }
 
-    private void setupCompilation(CompilationOptions compilationOptions) {
+    private void setupCompilation() {
         ProjectEnvironment projectEnvContext = rootPackageContext.project().projectEnvironmentContext();
         this.compilerContext = projectEnvContext.getService(CompilerContext.class);
 
-        // Set compilation options retrieved from the build options
-        setCompilerOptions(compilationOptions);
-
         // We have only the jvm backend for now.
         this.compilerBackends = new HashMap<>(1);
         this.pluginDiagnostics = new ArrayList<>();
     }
 
-    private void setCompilerOptions(CompilationOptions compilationOptions) {
+    /**
+     * Sets the compiler options of the given package, which are retrieved from its compilation options. The compiler
+     * context can be shared by the projects of an environment, hence the options have to be set while holding the
+     * lock of the compiler context, right before the package is compiled or its code is generated.
+     *
+     * @param compilerContext    compiler context
+     * @param packageContext     root package of the compilation
+     * @param compilationOptions compilation options of the root package
+     */
+    static void setCompilerOptions(CompilerContext compilerContext, PackageContext packageContext,
+                                   CompilationOptions compilationOptions) {
         CompilerOptions options = CompilerOptions.getInstance(compilerContext);
+        options.put(PROJECT_DIR, packageContext.project().sourceRoot().toAbsolutePath().toString());
         options.put(OFFLINE, Boolean.toString(compilationOptions.offlineBuild()));
         options.put(OBSERVABILITY_INCLUDED, Boolean.toString(compilationOptions.observabilityIncluded()));
         options.put(DUMP_BIR, Boolean.toString(compilationOptions.dumpBir()));
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
         options.put(REMOTE_MANAGEMENT, Boolean.toString(compilationOptions.remoteManagement()));
+        options.put(OPTIMIZE_BIR, Boolean.toString(compilationOptions.optimizeBir()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext, CompilationOptions compilationOptions) {
@@ -153,7 +164,8 @@ public class PackageCompilation {
                     "This is an internal error which will be fixed in a later release.");
         }
 
-        return new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext);
+        return new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext,
+                moduleContext::mayReferTo);
     }
 
     public CodeActionManager getCodeActionManager() {
@@ -192,6 +204,7 @@ public class PackageCompilation {
             if (compiled) {
                 return;
             }
+            setCompilerOptions(compilerContext, rootPackageContext, compilationOptions);
             compileModulesInternal();
             compiled = true;
         }
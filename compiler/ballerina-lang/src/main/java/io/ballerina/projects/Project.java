@@ -123,8 +123,12 @@ public abstract class Project {
     // todo remove after introducing extension model
     protected void populateCompilerContext() {
         CompilerContext compilerContext = this.projectEnvironmentContext().getService(CompilerContext.class);
-        CompilerOptions options = CompilerOptions.getInstance(compilerContext);
-        options.put(PROJECT_DIR, this.sourceRoot().toAbsolutePath().toString());
+        // The compiler context can be shared by the projects of an environment, each of which sets its own project
+        // directory again before it is compiled
+        synchronized (compilerContext) {
+            CompilerOptions options = CompilerOptions.getInstance(compilerContext);
+            options.put(PROJECT_DIR, this.sourceRoot().toAbsolutePath().toString());
+        }
     }
 
     /**
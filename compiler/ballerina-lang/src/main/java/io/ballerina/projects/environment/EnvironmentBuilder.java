@@ -45,6 +45,7 @@ public class EnvironmentBuilder {
 
     private Path ballerinaHome;
     private Path userHome;
+    private boolean retainPackages;
 
     public static EnvironmentBuilder getBuilder() {
         return new EnvironmentBuilder();
@@ -64,6 +65,19 @@ public class EnvironmentBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the package cache of the environment retains the packages dropped from the dependency graph of a
+     * project. Environments shared by multiple projects should retain the packages, since the other projects may
+     * still depend on them.
+     *
+     * @param retainPackages whether the packages are retained
+     * @return this builder
+     */
+    public EnvironmentBuilder setRetainPackages(boolean retainPackages) {
+        this.retainPackages = retainPackages;
+        return this;
+    }
+
     public Environment build() {
         DefaultEnvironment environment = new DefaultEnvironment();
 
@@ -77,7 +91,7 @@ public class EnvironmentBuilder {
         PackageRepository distributionRepository = ballerinaDistribution.packageRepository();
         environment.addService(PackageRepository.class, distributionRepository);
 
-        PackageCache packageCache = new EnvironmentPackageCache();
+        PackageCache packageCache = new EnvironmentPackageCache(retainPackages);
         environment.addService(PackageCache.class, packageCache);
 
         // Creating a Ballerina user home instance
@@ -693,6 +693,8 @@ public class ManifestBuilder {
                 BuildOptions.OptionName.GRAAL_VM_BUILD_OPTIONS.toString());
         Boolean remoteManagement = getBooleanFromBuildOptionsTableNode(tableNode,
                 CompilerOptionName.REMOTE_MANAGEMENT.toString());
+        Boolean optimizeBir = getBooleanFromBuildOptionsTableNode(tableNode,
+                CompilerOptionName.OPTIMIZE_BIR.toString());
         Boolean showDependencyDiagnostics = getBooleanFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.SHOW_DEPENDENCY_DIAGNOSTICS.toString());
 
@@ -710,6 +712,7 @@ public class ManifestBuilder {
                 .setExportComponentModel(exportComponentModel)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setRemoteManagement(remoteManagement)
+                .setOptimizeBir(optimizeBir)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics);
 
         if (targetDir != null) {
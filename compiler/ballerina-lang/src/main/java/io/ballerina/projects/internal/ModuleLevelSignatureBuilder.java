@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.projects.internal;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes a hash of the module-level signature of a document.
+ * <p>
+ * The hash covers the kind and text of every token of the document, except the tokens inside the bodies of function
+ * definitions. Positions and minutiae are not covered, so that an edit which only moves the module-level constructs
+ * of a document, such as a function body edit which changes the number of lines, leaves the hash unchanged. Two
+ * versions of a document with the same hash declare the same module-level constructs, hence an edit which leaves the
+ * hash unchanged cannot affect the types of the modules that depend on the module of the document.
+ *
+ * @since 2201.10.0
+ */
+public class ModuleLevelSignatureBuilder extends NodeVisitor {
+
+    private static final String FUNCTION_BODY = "{...}";
+    private final MessageDigest digest;
+
+    private ModuleLevelSignatureBuilder() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String build(ModulePartNode modulePartNode) {
+        ModuleLevelSignatureBuilder builder = new ModuleLevelSignatureBuilder();
+        modulePartNode.accept(builder);
+        return HexFormat.of().formatHex(builder.digest.digest());
+    }
+
+    @Override
+    public void visit(FunctionDefinitionNode functionDefinitionNode) {
+        for (Node child : functionDefinitionNode.children()) {
+            // Block and expression bodies do not contribute to the signature, but an external body does
+            if (child.kind() == SyntaxKind.FUNCTION_BODY_BLOCK || child.kind() == SyntaxKind.EXPRESSION_FUNCTION_BODY) {
+                update(FUNCTION_BODY);
+                continue;
+            }
+            child.accept(this);
+        }
+    }
+
+    @Override
+    public void visit(Token token) {
+        update(token.kind().name());
+        update(token.text());
+    }
+
+    private void update(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Prefix each value with its length so that adjacent values cannot be confused with each other
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+}
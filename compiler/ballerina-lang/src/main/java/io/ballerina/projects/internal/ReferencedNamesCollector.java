@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.projects.internal;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Collects the names that appear in a document.
+ * <p>
+ * A symbol can be referred to in a document only if its name appears in the document, so the collected names are
+ * used to skip the documents that cannot refer to a symbol when looking for its references.
+ *
+ * @since 2201.10.0
+ */
+public class ReferencedNamesCollector extends NodeVisitor {
+
+    private static final String IDENTIFIER_LITERAL_PREFIX = "'";
+    private static final char ESCAPE_CHAR = '\\';
+
+    private final Set<String> names = new HashSet<>();
+    private boolean hasEscapedIdentifiers;
+
+    private ReferencedNamesCollector() {
+    }
+
+    /**
+     * Returns the names used in the given document.
+     *
+     * @param modulePartNode root node of the document
+     * @return the names, or empty if the document has identifiers with escapes whose names cannot be indexed
+     */
+    public static Optional<Set<String>> collect(ModulePartNode modulePartNode) {
+        ReferencedNamesCollector collector = new ReferencedNamesCollector();
+        modulePartNode.accept(collector);
+        if (collector.hasEscapedIdentifiers) {
+            return Optional.empty();
+        }
+        return Optional.of(collector.names);
+    }
+
+    @Override
+    public void visit(Token token) {
+        String text = token.text();
+        if (token.kind() == SyntaxKind.STRING_LITERAL_TOKEN) {
+            // Record fields and resource path segments can be referred to using string literals
+            if (text.length() >= 2) {
+                names.add(text.substring(1, text.length() - 1));
+            }
+            return;
+        }
+
+        if (token.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+            if (text.indexOf(ESCAPE_CHAR) >= 0) {
+                hasEscapedIdentifiers = true;
+                return;
+            }
+            if (text.startsWith(IDENTIFIER_LITERAL_PREFIX)) {
+                text = text.substring(1);
+            }
+        }
+        names.add(text);
+    }
+}
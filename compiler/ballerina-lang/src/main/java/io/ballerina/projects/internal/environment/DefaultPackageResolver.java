@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -59,6 +60,7 @@ public class DefaultPackageResolver implements PackageResolver {
     private final PackageRepository localRepo;
     private final Map<String, PackageRepository> customRepos;
     private final WritablePackageCache packageCache;
+    private final Map<PackageDescriptor, Object> resolutionLocks = new ConcurrentHashMap<>();
 
     public DefaultPackageResolver(PackageRepository distributionRepo,
                                   PackageRepository centralRepo,
@@ -211,12 +213,19 @@ public class DefaultPackageResolver implements PackageResolver {
     }
 
     private ResolutionResponse resolvePackage(ResolutionRequest resolutionReq, ResolutionOptions options) {
-        // 1) Load the package from the cache
-        Optional<Package> resolvedPackage = loadFromCache(resolutionReq);
-        if (resolvedPackage.isEmpty()) {
-            // 2) If not try to resolve from local, dist and central repositories
-            resolvedPackage = resolveFromRepository(resolutionReq, options);
-            resolvedPackage.ifPresent(packageCache::cache);
+        Optional<Package> resolvedPackage;
+        // The cache is shared by the projects of the environment, hence a package is loaded from the repositories
+        // only by the first project that resolves it, while different packages are resolved concurrently
+        Object resolutionLock = resolutionLocks.computeIfAbsent(resolutionReq.packageDescriptor(),
+                packageDescriptor -> new Object());
+        synchronized (resolutionLock) {
+            // 1) Load the package from the cache
+            resolvedPackage = loadFromCache(resolutionReq);
+            if (resolvedPackage.isEmpty()) {
+                // 2) If not try to resolve from local, dist and central repositories
+                resolvedPackage = resolveFromRepository(resolutionReq, options);
+                resolvedPackage.ifPresent(packageCache::cache);
+            }
         }
 
         ResolutionStatus resolutionStatus = resolvedPackage.isPresent() ?
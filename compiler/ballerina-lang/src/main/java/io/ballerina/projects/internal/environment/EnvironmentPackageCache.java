@@ -17,6 +17,10 @@ import java.util.Optional;
 
 /**
  * Environment-level Package cache.
+ * <p>
+ * The cache is shared by all the projects of the environment, hence its methods are synchronized. When the
+ * environment is shared by projects with different dependency graphs, the cache can be created to retain the
+ * packages, so that a package dropped from the dependency graph of one project is still available to the others.
  *
  * @since 2.0.0
  */
@@ -25,8 +29,26 @@ public class EnvironmentPackageCache implements WritablePackageCache {
     private final Map<PackageId, Project> projectsById = new HashMap<>();
     private final Map<PackageOrg, Map<PackageName, Map<PackageVersion, Project>>>
             projectsByOrgNameVersion = new HashMap<>();
+    private final boolean retainPackages;
 
-    public void cache(Package pkg) {
+    public EnvironmentPackageCache() {
+        this(false);
+    }
+
+    public EnvironmentPackageCache(boolean retainPackages) {
+        this.retainPackages = retainPackages;
+    }
+
+    /**
+     * Returns whether this cache retains the packages dropped from the dependency graph of a project.
+     *
+     * @return true if the packages are retained
+     */
+    public boolean retainsPackages() {
+        return retainPackages;
+    }
+
+    public synchronized void cache(Package pkg) {
         projectsById.put(pkg.packageId(), pkg.project());
         projectsByOrgNameVersion.computeIfAbsent(pkg.packageOrg(), k -> new HashMap<>())
                 .computeIfAbsent(pkg.packageName(), k -> new HashMap<>())
@@ -34,7 +56,7 @@ public class EnvironmentPackageCache implements WritablePackageCache {
     }
 
     @Override
-    public Optional<Package> getPackage(PackageId packageId) {
+    public synchronized Optional<Package> getPackage(PackageId packageId) {
         Project project = projectsById.get(packageId);
         if (project == null) {
             return Optional.empty();
@@ -44,7 +66,7 @@ public class EnvironmentPackageCache implements WritablePackageCache {
     }
 
     @Override
-    public Package getPackageOrThrow(PackageId packageId) {
+    public synchronized Package getPackageOrThrow(PackageId packageId) {
         Project project = projectsById.get(packageId);
         if (project == null) {
             throw new IllegalStateException("Cannot find a Package for the given PackageId: " + packageId);
@@ -53,16 +75,16 @@ public class EnvironmentPackageCache implements WritablePackageCache {
     }
 
     @Override
-    public Optional<Package> getPackage(PackageOrg packageOrg,
-                                        PackageName packageName,
-                                        PackageVersion version) {
+    public synchronized Optional<Package> getPackage(PackageOrg packageOrg,
+                                                     PackageName packageName,
+                                                     PackageVersion version) {
         return Optional.ofNullable(projectsByOrgNameVersion.getOrDefault(packageOrg, new HashMap<>())
                 .getOrDefault(packageName, new HashMap<>())
                 .get(version)).map(Project::currentPackage);
     }
 
     @Override
-    public List<Package> getPackages(PackageOrg packageOrg, PackageName packageName) {
+    public synchronized List<Package> getPackages(PackageOrg packageOrg, PackageName packageName) {
         List<Package> foundList = new ArrayList<>();
         for (Project project : projectsById.values()) {
             PackageManifest pkgDesc = project.currentPackage().manifest();
@@ -75,7 +97,10 @@ public class EnvironmentPackageCache implements WritablePackageCache {
     }
 
     @Override
-    public void removePackage(PackageId packageId) {
+    public synchronized void removePackage(PackageId packageId) {
+        if (retainPackages) {
+            return;
+        }
         Optional<Project> project = Optional.ofNullable(projectsById.get(packageId));
         if (project.isEmpty()) {
             return;
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.projects.internal.jballerina;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Generates the backend code of modules concurrently. A module is generated only after all of its dependencies are
+ * generated, so that modules which do not depend on each other are generated at the same time. Once the code of a
+ * module is generated, it is written while its dependents are being generated.
+ *
+ * @param <T> type of the modules
+ * @since 2201.10.0
+ */
+public class CodeGenScheduler<T> {
+
+    private final Map<T, ScheduledModule<T>> scheduledModules = new HashMap<>();
+    private final List<ScheduledModule<T>> sortedModules = new ArrayList<>();
+
+    /**
+     * Schedules the code generation of a module. Modules have to be scheduled after their dependencies.
+     *
+     * @param module       module to be generated
+     * @param dependencies modules that the module depends on, of which the modules that are not scheduled are
+     *                     considered to be already generated
+     * @param generator    generates the code of the module and returns whether it was generated without errors
+     * @param writer       writes the generated code of the module, which is run only if it was generated without
+     *                     errors
+     */
+    public void schedule(T module, Collection<T> dependencies, BooleanSupplier generator, Runnable writer) {
+        List<ScheduledModule<T>> scheduledDependencies = new ArrayList<>();
+        for (T dependency : dependencies) {
+            ScheduledModule<T> scheduledDependency = scheduledModules.get(dependency);
+            if (scheduledDependency != null) {
+                scheduledDependencies.add(scheduledDependency);
+            }
+        }
+        ScheduledModule<T> scheduledModule = new ScheduledModule<>(module, scheduledDependencies, generator, writer);
+        scheduledModules.put(module, scheduledModule);
+        sortedModules.add(scheduledModule);
+    }
+
+    /**
+     * Generates and writes the code of the scheduled modules, and returns once all of them are done. Modules that
+     * depend on a module which failed to generate are skipped.
+     *
+     * @param parallelism maximum number of modules to be generated at the same time
+     * @throws ExecutionException   if generating or writing the code of a module failed. The first failure in the
+     *                              scheduled order is thrown once the rest of the modules are done.
+     * @throws InterruptedException if interrupted while waiting for the modules, in which case the modules that are
+     *                              not started yet are skipped
+     */
+    public void generate(int parallelism) throws ExecutionException, InterruptedException {
+        if (sortedModules.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, sortedModules.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ballerina-codegen");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Map<T, CompletableFuture<Boolean>> generatedModules = new HashMap<>();
+        List<CompletableFuture<Void>> writtenModules = new ArrayList<>();
+        try {
+            for (ScheduledModule<T> scheduledModule : sortedModules) {
+                List<CompletableFuture<Boolean>> generatedDependencies = new ArrayList<>();
+                for (ScheduledModule<T> dependency : scheduledModule.dependencies()) {
+                    generatedDependencies.add(generatedModules.get(dependency.module()));
+                }
+                CompletableFuture<Boolean> generated = CompletableFuture
+                        .allOf(generatedDependencies.toArray(new CompletableFuture<?>[0]))
+                        .thenApplyAsync(ignored -> generatedDependencies.stream().allMatch(CompletableFuture::join)
+                                && scheduledModule.generator().getAsBoolean(), executor);
+                generatedModules.put(scheduledModule.module(), generated);
+                writtenModules.add(generated.thenAcceptAsync(success -> {
+                    if (success) {
+                        scheduledModule.writer().run();
+                    }
+                }, executor));
+            }
+
+            ExecutionException failure = null;
+            for (CompletableFuture<Void> written : writtenModules) {
+                try {
+                    written.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            sortedModules.clear();
+            scheduledModules.clear();
+            shutdown(executor);
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) {
+        // Modules that are being generated use the shared compiler state, so wait for them even if interrupted
+        executor.shutdownNow();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record ScheduledModule<T>(T module, List<ScheduledModule<T>> dependencies, BooleanSupplier generator,
+                                      Runnable writer) {
+    }
+}
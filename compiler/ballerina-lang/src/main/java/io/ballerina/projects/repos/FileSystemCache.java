@@ -28,10 +28,10 @@ import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 
 /**
@@ -44,7 +44,9 @@ import java.util.Optional;
  * - version
  * - bir
  * - mod1.bir
+ * - mod1.bir.sha256
  * - mod2.bir
+ * - mod2.bir.sha256
  * - jar
  * - org-package-name-version.jar
  *
@@ -78,16 +80,55 @@ public class FileSystemCache extends CompilationCache {
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
-        if (!Files.exists(birFilePath)) {
-            try {
-                File tempBirFile = birPath.resolve(".tmp").toFile();
-                // TODO Can we improve this logic
-                FileUtils.writeByteArrayToFile(tempBirFile, birContent.toByteArray());
-                FileUtils.moveFile(tempBirFile, birFilePath.toFile());
-            } catch (IOException e) {
-                // TODO proper error handling
-                throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
-            }
+        try {
+            // Write to a temporary file first so that a partially written bir is never picked up. The modules are
+            // cached concurrently, so each of them has its own temporary file.
+            Path tempBirFile = birPath.resolve(moduleName + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT + ".tmp");
+            FileUtils.writeByteArrayToFile(tempBirFile.toFile(), birContent.toByteArray());
+            Files.move(tempBirFile, birFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public Optional<String> getBirContentHash(ModuleName moduleName) {
+        Path hashFilePath = getBirPath().resolve(moduleName.toString()
+                + ProjectConstants.BLANG_COMPILED_PKG_BIR_HASH_EXT);
+        if (!Files.exists(hashFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readString(hashFilePath).trim());
+        } catch (IOException e) {
+            // An unreadable hash only means that the cached bir cannot be reused
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheBirContentHash(ModuleName moduleName, String contentHash) {
+        Path hashFilePath = getBirPath().resolve(moduleName.toString()
+                + ProjectConstants.BLANG_COMPILED_PKG_BIR_HASH_EXT);
+        try {
+            createDirectories(birPath);
+            Files.writeString(hashFilePath, contentHash);
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the bir content hash of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public void removeBirContentHash(ModuleName moduleName) {
+        Path hashFilePath = getBirPath().resolve(moduleName.toString()
+                + ProjectConstants.BLANG_COMPILED_PKG_BIR_HASH_EXT);
+        try {
+            Files.deleteIfExists(hashFilePath);
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to remove the bir content hash of module: " + moduleName, e);
         }
     }
 
@@ -89,6 +89,7 @@ public class ProjectConstants {
 
     public static final String BLANG_COMPILED_PKG_BINARY_EXT = ".bala";
     public static final String BLANG_COMPILED_PKG_BIR_EXT = ".bir";
+    public static final String BLANG_COMPILED_PKG_BIR_HASH_EXT = ".bir.sha256";
     public static final String BLANG_COMPILED_JAR_EXT = ".jar";
     public static final String RESOURCE_DIR_NAME = "resources";
 
@@ -64,6 +64,7 @@ public enum CompilerOptionName {
 
     ENABLE_CACHE("enableCache"),
     REMOTE_MANAGEMENT("remoteManagement"),
+    OPTIMIZE_BIR("optimizeBir"),
 
     /**
      * We've introduced this temporary option to support old-project structure and the new package structure.
@@ -104,7 +104,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -174,7 +174,7 @@ public class BIRPackageSymbolEnter {
     }
 
     public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
+        BPackageSymbol pkgSymbol = definePackage(packageId, new BIRInputStream(packageBinaryContent));
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -186,12 +186,13 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol definePackage(PackageID packageId, BIRInputStream programFileInStream) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            this.env.birInStream = programFileInStream;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -227,10 +228,10 @@ public class BIRPackageSymbolEnter {
 
         PackageCPEntry pkgCpEntry = (PackageCPEntry) this.env.constantPool[pkgCpIndex];
 
-        String orgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String moduleName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.moduleNameCPIndex]).value;
-        String pkgVersion = ((StringCPEntry) this.env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String moduleName = getStringCPEntryValue(pkgCpEntry.moduleNameCPIndex);
+        String pkgVersion = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
 
         PackageID pkgId = createPackageID(orgName, pkgName, moduleName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
@@ -314,6 +315,8 @@ public class BIRPackageSymbolEnter {
         int constantPoolSize = dataInStream.readInt();
         CPEntry[] constantPool = new CPEntry[constantPoolSize];
         this.env.constantPool = constantPool;
+        this.env.unparsedCPOffsets = new int[constantPoolSize];
+        this.env.unparsedCPLengths = new int[constantPoolSize];
         for (int i = 0; i < constantPoolSize; i++) {
             byte cpTag = dataInStream.readByte();
             CPEntry.Type cpEntryType = CPEntry.Type.values()[cpTag - 1];
@@ -334,22 +337,21 @@ public class BIRPackageSymbolEnter {
                 return new CPEntry.BooleanCPEntry(dataInStream.readBoolean());
             case CP_ENTRY_STRING:
                 int length = dataInStream.readInt();
-                String strValue = null;
 
                 // If the length of the bytes is -1, that means no UTF value has been written.
                 // i.e: string value represented by the UTF should be null.
-                // Therefore we read the UTF value only if the length >= 0.
-                if (length >= 0) {
-                    byte[] bytes = new byte[length];
-                    dataInStream.read(bytes, 0, length);
-                    strValue = new String(bytes);
+                // Otherwise the UTF value is decoded only when it is first looked up, since most of the strings are
+                // only used by the skipped function bodies.
+                if (length < 0) {
+                    return new CPEntry.StringCPEntry(null);
                 }
-                return new CPEntry.StringCPEntry(strValue);
+                skipUnparsedCPEntry(dataInStream, i, length);
+                return null;
             case CP_ENTRY_PACKAGE:
                 return new CPEntry.PackageCPEntry(dataInStream.readInt(), dataInStream.readInt(),
                         dataInStream.readInt(), dataInStream.readInt());
             case CP_ENTRY_SHAPE:
-                env.unparsedBTypeCPs.put(i, readByteArray(dataInStream));
+                skipUnparsedCPEntry(dataInStream, i, dataInStream.readInt());
                 return null;
             case CP_ENTRY_BYTE:
                 return new CPEntry.ByteCPEntry(dataInStream.readInt());
@@ -359,11 +361,18 @@ public class BIRPackageSymbolEnter {
         }
     }
 
-    private byte[] readByteArray(DataInputStream dataInStream) throws IOException {
-        int length = dataInStream.readInt();
-        byte[] bytes = new byte[length];
-        dataInStream.readFully(bytes);
-        return bytes;
+    /**
+     * Records where the content of a constant pool entry is, so that it can be decoded on first use, and skips it.
+     */
+    private void skipUnparsedCPEntry(DataInputStream dataInStream, int cpIndex, int length) throws IOException {
+        this.env.unparsedCPOffsets[cpIndex] = this.env.birInStream.position();
+        this.env.unparsedCPLengths[cpIndex] = length;
+        dataInStream.skipBytes(length);
+    }
+
+    private DataInputStream getUnparsedCPEntryStream(int cpIndex) {
+        return new DataInputStream(this.env.birInStream.slice(this.env.unparsedCPOffsets[cpIndex],
+                this.env.unparsedCPLengths[cpIndex]));
     }
 
     private void defineSymbols(DataInputStream dataInStream,
@@ -671,8 +680,7 @@ public class BIRPackageSymbolEnter {
             }
         }
         if (type == null) {
-            byte[] e = env.unparsedBTypeCPs.get(typeCpIndex);
-            type = new BIRTypeReader(new DataInputStream(new ByteArrayInputStream(e))).readType(typeCpIndex);
+            type = new BIRTypeReader(getUnparsedCPEntryStream(typeCpIndex)).readType(typeCpIndex);
             addShapeCP(type, typeCpIndex);
         }
         return type;
@@ -1067,13 +1075,16 @@ public class BIRPackageSymbolEnter {
 
     // private utility methods
     private String getStringCPEntryValue(DataInputStream dataInStream) throws IOException {
-        int pkgNameCPIndex = dataInStream.readInt();
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[pkgNameCPIndex];
-        return stringCPEntry.value;
+        return getStringCPEntryValue(dataInStream.readInt());
     }
 
-    private String getStringCPEntryValue(int cpIndex) throws IOException {
+    private String getStringCPEntryValue(int cpIndex) {
         StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[cpIndex];
+        if (stringCPEntry == null) {
+            stringCPEntry = new StringCPEntry(this.env.birInStream.decodeString(this.env.unparsedCPOffsets[cpIndex],
+                    this.env.unparsedCPLengths[cpIndex]));
+            this.env.constantPool[cpIndex] = stringCPEntry;
+        }
         return stringCPEntry.value;
     }
 
@@ -1113,9 +1124,13 @@ public class BIRPackageSymbolEnter {
      */
     private static class BIRPackageSymbolEnv {
         PackageID requestedPackageId;
-        Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+        BIRInputStream birInStream;
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
+        // Offsets and lengths of the string and shape constant pool entries that are decoded on first use,
+        // indexed by their constant pool index.
+        int[] unparsedCPOffsets;
+        int[] unparsedCPLengths;
         List<UnresolvedType> unresolvedTypes;
 
         BIRPackageSymbolEnv() {
@@ -1123,6 +1138,29 @@ public class BIRPackageSymbolEnter {
         }
     }
 
+    /**
+     * Input stream over the binary content of a BIR package that keeps track of the read position, so that parts of
+     * the content can be skipped and decoded later without copying them.
+     */
+    private static class BIRInputStream extends ByteArrayInputStream {
+
+        BIRInputStream(byte[] content) {
+            super(content);
+        }
+
+        int position() {
+            return this.pos;
+        }
+
+        ByteArrayInputStream slice(int offset, int length) {
+            return new ByteArrayInputStream(this.buf, offset, length);
+        }
+
+        String decodeString(int offset, int length) {
+            return new String(this.buf, offset, length, StandardCharsets.UTF_8);
+        }
+    }
+
     private static class UnresolvedType {
         String typeSig;
         Consumer<BType> completer;
@@ -1883,10 +1921,10 @@ public class BIRPackageSymbolEnter {
 
     private PackageID getPackageId(int pkgCPIndex) {
         PackageCPEntry pkgCpEntry = (PackageCPEntry) env.constantPool[pkgCPIndex];
-        String orgName = ((StringCPEntry) env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String moduleName = ((StringCPEntry) env.constantPool[pkgCpEntry.moduleNameCPIndex]).value;
-        String version = ((StringCPEntry) env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String moduleName = getStringCPEntryValue(pkgCpEntry.moduleNameCPIndex);
+        String version = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
         return new PackageID(names.fromString(orgName), names.fromString(pkgName),
                 names.fromString(moduleName), names.fromString(version), null);
     }
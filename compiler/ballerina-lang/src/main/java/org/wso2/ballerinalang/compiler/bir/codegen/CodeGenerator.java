@@ -32,6 +32,10 @@ import java.util.HashMap;
 
 /**
  * JVM byte code generator from BIR model.
+ * <p>
+ * Modules that do not depend on each other may be generated concurrently. A module is generated only after its
+ * dependencies are generated, and the shared compiler state used here is only read or accessed while holding its
+ * lock.
  *
  * @since 1.2.0
  */
@@ -76,9 +80,9 @@ public class CodeGenerator {
         // Re-arrange basic blocks and error entries
         BIRGenUtils.rearrangeBasicBlocks(packageSymbol.bir);
 
-        dlog.setCurrentPackageId(packageSymbol.pkgID);
-        final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog, types,
-                isRemoteMgtEnabled);
+        // Modules are generated concurrently, so the diagnostics are logged against the package explicitly
+        final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog, packageSymbol.pkgID,
+                types, isRemoteMgtEnabled);
 
         //Rewrite identifier names with encoding special characters
         HashMap<String, String> originalIdentifierMap = JvmDesugarPhase.encodeModuleIdentifiers(packageSymbol.bir);
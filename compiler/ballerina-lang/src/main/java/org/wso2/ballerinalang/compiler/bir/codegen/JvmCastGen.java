@@ -1274,7 +1274,8 @@ public class JvmCastGen {
 
     public void generateCheckCastToAnyData(MethodVisitor mv, BType type) {
         BType sourceType = JvmCodeGenUtil.getImpliedType(type);
-        if (sourceType.tag == TypeTags.UNION || (types.isAssignable(sourceType, symbolTable.anyType) &&
+        if (sourceType.tag == TypeTags.UNION ||
+                (JvmCodeGenUtil.isAssignable(types, sourceType, symbolTable.anyType) &&
                         !Symbols.isFlagOn(sourceType.flags, Flags.READONLY))) {
             checkCast(mv, symbolTable.anydataType);
         } else {
@@ -41,6 +41,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BirScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BStructureTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
@@ -152,7 +153,6 @@ import static org.wso2.ballerinalang.compiler.util.CompilerUtils.getMajorVersion
  * The common functions used in CodeGen.
  */
 public class JvmCodeGenUtil {
-    public static final Unifier UNIFIER = new Unifier();
     private static final Pattern JVM_RESERVED_CHAR_SET = Pattern.compile("[\\.:/<>]");
     public static final String SCOPE_PREFIX = "_SCOPE_";
     public static final NameHashComparator NAME_HASH_COMPARATOR = new NameHashComparator();
@@ -351,18 +351,20 @@ public class JvmCodeGenUtil {
         return name.replace(".", FILE_NAME_PERIOD_SEPERATOR);
     }
 
-    public static String getMethodDesc(List<BType> paramTypes, BType retType) {
-        return INITIAL_METHOD_DESC + getMethodDescParams(paramTypes) + generateReturnType(retType);
+    public static String getMethodDesc(List<BType> paramTypes, BType retType, Unifier unifier) {
+        return INITIAL_METHOD_DESC + getMethodDescParams(paramTypes) + generateReturnType(retType, unifier);
     }
 
-    public static String getMethodDesc(List<BType> paramTypes, BType retType, BType attachedType) {
+    public static String getMethodDesc(List<BType> paramTypes, BType retType, BType attachedType,
+                                       Unifier unifier) {
         return INITIAL_METHOD_DESC + getArgTypeSignature(attachedType) + getMethodDescParams(paramTypes) +
-                generateReturnType(retType);
+                generateReturnType(retType, unifier);
     }
 
-    public static String getMethodDesc(List<BType> paramTypes, BType retType, String attachedTypeClassName) {
+    public static String getMethodDesc(List<BType> paramTypes, BType retType, String attachedTypeClassName,
+                                       Unifier unifier) {
         return INITIAL_METHOD_DESC + "L" + attachedTypeClassName + ";" + getMethodDescParams(paramTypes) +
-                generateReturnType(retType);
+                generateReturnType(retType, unifier);
     }
 
     public static String getMethodDescParams(List<BType> paramTypes) {
@@ -430,13 +432,13 @@ public class JvmCodeGenUtil {
         }
     }
 
-    public static String generateReturnType(BType bType) {
+    public static String generateReturnType(BType bType, Unifier unifier) {
         bType = JvmCodeGenUtil.getImpliedType(bType);
         if (bType == null) {
             return RETURN_JOBJECT;
         }
 
-        bType = JvmCodeGenUtil.UNIFIER.build(bType);
+        bType = unifier.build(bType);
         if (bType == null || bType.tag == TypeTags.NIL || bType.tag == TypeTags.NEVER) {
             return RETURN_JOBJECT;
         } else if (TypeTags.isIntegerTypeTag(bType.tag)) {
@@ -565,6 +567,7 @@ public class JvmCodeGenUtil {
                                                     Set<BirScope> visitedScopesSet, BirScope lastScope) {
 
         int insCount = bb.instructions.size();
+        instGen.startBasicBlock();
         for (int i = 0; i < insCount; i++) {
             Label insLabel = labelGen.getLabel(funcName + bb.id.value + "ins" + i);
             mv.visitLabel(insLabel);
@@ -741,6 +744,34 @@ public class JvmCodeGenUtil {
         return constraint;
     }
 
+    /**
+     * Checks whether a type is assignable to another type. The types are shared by the modules generated
+     * concurrently, so they are checked while holding the lock of the type checker.
+     *
+     * @param types  type checker
+     * @param source source type
+     * @param target target type
+     * @return whether the source type is assignable to the target type
+     */
+    public static boolean isAssignable(Types types, BType source, BType target) {
+        synchronized (types) {
+            return types.isAssignable(source, target);
+        }
+    }
+
+    /**
+     * Checks whether a type has a filler value, while holding the lock of the type checker.
+     *
+     * @param types type checker
+     * @param type  type to be checked
+     * @return whether the type has a filler value
+     */
+    public static boolean hasFillerValue(Types types, BType type) {
+        synchronized (types) {
+            return types.hasFillerValue(type);
+        }
+    }
+
     public static void loadConstantValue(BType bType, Object constVal, MethodVisitor mv,
                                          JvmConstantsGen jvmConstantsGen) {
 
@@ -36,6 +36,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.interop.JMethodCallInstructio
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JType;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JTypeTags;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
@@ -48,6 +49,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
@@ -80,6 +82,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -103,6 +106,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -274,6 +278,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_SET_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeDescClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.isOptionalRecordField;
 
 /**
  * Instruction generator helper class to hold its enclosing pkg and index map.
@@ -298,6 +303,8 @@ public class JvmInstructionGen {
     private final JvmTypeTestGen typeTestGen;
     private final Map<String, LambdaFunction> functions;
     private final String moduleInitClass;
+    // String constants loaded to variables in the current basic block, used to resolve the keys of field accesses.
+    private final Map<BIRNode.BIRVariableDcl, String> stringConstants;
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -313,6 +320,7 @@ public class JvmInstructionGen {
         this.jvmConstantsGen = jvmConstantsGen;
         typeTestGen = new JvmTypeTestGen(this, types, mv, jvmTypeGen, jvmCastGen);
         this.functions = new HashMap<>();
+        this.stringConstants = new HashMap<>();
         this.moduleInitClass = JvmCodeGenUtil.getModuleLevelClassName(currentPackage, MODULE_INIT_CLASS_NAME);
     }
 
@@ -1478,9 +1486,14 @@ public class JvmInstructionGen {
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+        BType varRefType = JvmCodeGenUtil.getImpliedType(mapLoadIns.rhsOp.variableDcl.type);
+        Label loadEndLabel = null;
+        if (varRefType.tag == TypeTags.RECORD && !mapLoadIns.fillingRead) {
+            loadEndLabel = generateRecordFieldLoad(mapLoadIns, (BRecordType) varRefType);
+        }
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
-        BType varRefType = JvmCodeGenUtil.getImpliedType(mapLoadIns.rhsOp.variableDcl.type);
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
 
         // visit key_expr
@@ -1508,6 +1521,47 @@ public class JvmInstructionGen {
             jvmCastGen.addUnboxInsn(this.mv, targetType);
         }
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        if (loadEndLabel != null) {
+            this.mv.visitLabel(loadEndLabel);
+        }
+    }
+
+    private Label generateRecordFieldLoad(BIRNonTerminator.FieldAccess mapLoadIns, BRecordType recordType) {
+        String fieldName = this.stringConstants.get(mapLoadIns.keyOp.variableDcl);
+        if (fieldName == null) {
+            return null;
+        }
+        BField field = recordType.fields.get(fieldName);
+        if (field == null || isOptionalRecordField(field)) {
+            return null;
+        }
+        BIRNode.BIRTypeDefinition typeDef = jvmPackageGen.lookupValueClassDef(recordType.tsymbol);
+        if (typeDef == null) {
+            return null;
+        }
+
+        // A value of the static record type can be of another record type, so the field of the generated class is
+        // read only if the value is an instance of that class. Otherwise, the field is looked up by its name.
+        String className = getTypeValueClassName(this.currentPackageName, typeDef.internalName.value);
+        Label mapGetLabel = new Label();
+        Label loadEndLabel = new Label();
+        BIRNode.BIRVariableDcl mapVar = mapLoadIns.rhsOp.variableDcl;
+        this.loadVar(mapVar);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, mapGetLabel);
+        this.loadVar(mapVar);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        String fieldDesc = getTypeDesc(field.type);
+        this.mv.visitFieldInsn(GETFIELD, className, fieldName, fieldDesc);
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        if (!fieldDesc.equals(getTypeDesc(targetType))) {
+            jvmCastGen.addBoxInsn(this.mv, field.type);
+            jvmCastGen.addUnboxInsn(this.mv, targetType);
+        }
+        this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        this.mv.visitJumpInsn(GOTO, loadEndLabel);
+        this.mv.visitLabel(mapGetLabel);
+        return loadEndLabel;
     }
 
     boolean generateMapGet(BType mapType, BType expectedType) {
@@ -2258,6 +2312,14 @@ public class JvmInstructionGen {
 
         JvmCodeGenUtil.loadConstantValue(loadIns.type, loadIns.value, this.mv, jvmConstantsGen);
         this.storeToVar(loadIns.lhsOp.variableDcl);
+        if (TypeTags.isStringTypeTag(JvmCodeGenUtil.getImpliedType(loadIns.type).tag)) {
+            this.stringConstants.put(loadIns.lhsOp.variableDcl, String.valueOf(loadIns.value));
+        }
+    }
+
+    void startBasicBlock() {
+        // Constants loaded in another basic block may be overwritten on some path to this block.
+        this.stringConstants.clear();
     }
 
     private void loadListInitialValues(BIRNonTerminator.NewArray arrayNewIns) {
@@ -2313,6 +2375,9 @@ public class JvmInstructionGen {
     }
 
     void generateInstructions(int localVarOffset, BIRInstruction inst) {
+        if (inst instanceof BIRAbstractInstruction abstractInst && abstractInst.lhsOp != null) {
+            this.stringConstants.remove(abstractInst.lhsOp.variableDcl);
+        }
         if (inst instanceof BIRNonTerminator.BinaryOp) {
             generateBinaryOpIns((BIRNonTerminator.BinaryOp) inst);
         } else {
@@ -42,6 +42,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MainMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGenUtils;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.ModuleStopMethodGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.YieldPointAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmMethodsSplitter;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -61,6 +62,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BNilType;
@@ -137,33 +139,39 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethod
  */
 public class JvmPackageGen {
 
-    private static final Unifier unifier = new Unifier();
-
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
+    public final Unifier unifier;
     private final MethodGen methodGen;
     private final FrameClassGen frameClassGen;
     private final InitMethodGen initMethodGen;
     private final ConfigMethodGen configMethodGen;
     private final Map<String, BIRFunctionWrapper> birFunctionMap;
     private final Map<String, String> globalVarClassMap;
+    private final Map<BTypeSymbol, BIRTypeDefinition> valueClassDefMap;
     private final Set<PackageID> dependentModules;
     private final BLangDiagnosticLog dlog;
+    private final PackageID diagnosticPackageID;
     private final Types types;
     private final boolean isRemoteMgtEnabled;
+    private YieldPointAnalyzer yieldPointAnalyzer;
 
-    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog, Types types,
-                  boolean isRemoteMgtEnabled) {
+    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog,
+                  PackageID diagnosticPackageID, Types types, boolean isRemoteMgtEnabled) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
+        valueClassDefMap = new HashMap<>();
         dependentModules = new LinkedHashSet<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
+        this.diagnosticPackageID = diagnosticPackageID;
         this.types = types;
         this.isRemoteMgtEnabled = isRemoteMgtEnabled;
+        // The unifier keeps the state of the type being built, so each module being generated uses its own
+        unifier = new Unifier();
         methodGen = new MethodGen(this, types);
-        initMethodGen = new InitMethodGen(symbolTable);
+        initMethodGen = new InitMethodGen(symbolTable, unifier);
         configMethodGen = new ConfigMethodGen();
         frameClassGen = new FrameClassGen();
         JvmInstructionGen.anyType = symbolTable.anyType;
@@ -319,7 +327,7 @@ public class JvmPackageGen {
     }
 
     public static BIRFunctionWrapper getFunctionWrapper(BIRFunction currentFunc, PackageID packageID,
-                                                        String moduleClass) {
+                                                        String moduleClass, Unifier unifier) {
         BInvokableType functionTypeDesc = currentFunc.type;
         BIRVariableDcl receiver = currentFunc.receiver;
 
@@ -330,9 +338,10 @@ public class JvmPackageGen {
 
         String jvmMethodDescription;
         if (receiver == null) {
-            jvmMethodDescription = JvmCodeGenUtil.getMethodDesc(functionTypeDesc.paramTypes, retType);
+            jvmMethodDescription = JvmCodeGenUtil.getMethodDesc(functionTypeDesc.paramTypes, retType, unifier);
         } else {
-            jvmMethodDescription = JvmCodeGenUtil.getMethodDesc(functionTypeDesc.paramTypes, retType, receiver.type);
+            jvmMethodDescription = JvmCodeGenUtil.getMethodDesc(functionTypeDesc.paramTypes, retType, receiver.type,
+                                                                unifier);
         }
 
         return new BIRFunctionWrapper(packageID, currentFunc, moduleClass, jvmMethodDescription);
@@ -505,7 +514,7 @@ public class JvmPackageGen {
                             getBirFunctionWrapper(isEntry, module.packageID, func, className);
                     birFunctionMap.put(pkgName + lookupKey, birFuncWrapperOrError);
                 } catch (JInteropException e) {
-                    dlog.error(func.pos, e.getCode(), e.getMessage());
+                    dlog.error(diagnosticPackageID, func.pos, e.getCode(), e.getMessage());
                 }
             }
         }
@@ -516,7 +525,7 @@ public class JvmPackageGen {
         BIRFunction moduleStopFunction = new BIRFunction(null, new Name(funcName), 0, funcType, new Name(""), 0,
                                                         VIRTUAL);
         birFunctionMap.put(JvmCodeGenUtil.getPackageName(packageID) + funcName,
-                           getFunctionWrapper(moduleStopFunction, packageID, initClass));
+                           getFunctionWrapper(moduleStopFunction, packageID, initClass, unifier));
     }
 
     private void linkModuleFunctions(BIRPackage birPackage, String initClass, boolean isEntry,
@@ -539,20 +548,20 @@ public class JvmPackageGen {
         PackageID packageID = birPackage.packageID;
         jvmClassMap.put(initClass, klass);
         String pkgName = JvmCodeGenUtil.getPackageName(packageID);
-        birFunctionMap.put(pkgName + functionName, getFunctionWrapper(initFunc, packageID, initClass));
+        birFunctionMap.put(pkgName + functionName, getFunctionWrapper(initFunc, packageID, initClass, unifier));
         count += 1;
 
         // Add start function
         BIRFunction startFunc = functions.get(1);
         functionName = Utils.encodeFunctionIdentifier(startFunc.name.value);
-        birFunctionMap.put(pkgName + functionName, getFunctionWrapper(startFunc, packageID, initClass));
+        birFunctionMap.put(pkgName + functionName, getFunctionWrapper(startFunc, packageID, initClass, unifier));
         klass.functions.add(1, startFunc);
         count += 1;
 
         // Add stop function
         BIRFunction stopFunc = functions.get(2);
         functionName = Utils.encodeFunctionIdentifier(stopFunc.name.value);
-        birFunctionMap.put(pkgName + functionName, getFunctionWrapper(stopFunc, packageID, initClass));
+        birFunctionMap.put(pkgName + functionName, getFunctionWrapper(stopFunc, packageID, initClass, unifier));
         klass.functions.add(2, stopFunc);
         count += 1;
         int genMethodsCount = 0;
@@ -602,7 +611,7 @@ public class JvmPackageGen {
                                                                                  birModuleClassName);
                 birFunctionMap.put(pkgName + birFuncName, birFuncWrapperOrError);
             } catch (JInteropException e) {
-                dlog.error(birFunc.pos, e.getCode(), e.getMessage());
+                dlog.error(diagnosticPackageID, birFunc.pos, e.getCode(), e.getMessage());
             }
         }
     }
@@ -611,12 +620,13 @@ public class JvmPackageGen {
                                                      BIRFunction birFunc, String birModuleClassName) {
         BIRFunctionWrapper birFuncWrapperOrError;
         if (isExternFunc(birFunc) && isEntry) {
-            birFuncWrapperOrError = createExternalFunctionWrapper(isEntry, birFunc, packageID, birModuleClassName);
+            birFuncWrapperOrError = createExternalFunctionWrapper(isEntry, birFunc, packageID, birModuleClassName,
+                                                                  unifier);
         } else {
             if (isEntry && birFunc.receiver == null) {
                 addDefaultableBooleanVarsToSignature(birFunc);
             }
-            birFuncWrapperOrError = getFunctionWrapper(birFunc, packageID, birModuleClassName);
+            birFuncWrapperOrError = getFunctionWrapper(birFunc, packageID, birModuleClassName, unifier);
         }
         return birFuncWrapperOrError;
     }
@@ -630,15 +640,15 @@ public class JvmPackageGen {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
             if (func != null && func.pos != null) {
-                dlog.error(func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
+                dlog.error(diagnosticPackageID, func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
                         Utils.decodeIdentifier(func.name.value));
             } else {
-                dlog.error(node.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
+                dlog.error(diagnosticPackageID, node.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
                         Utils.decodeIdentifier(funcName));
             }
             result = new byte[0];
         } catch (ClassTooLargeException e) {
-            dlog.error(node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
+            dlog.error(diagnosticPackageID, node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
                     Utils.decodeIdentifier(e.getClassName()));
             result = new byte[0];
         } catch (Throwable e) {
@@ -651,13 +661,40 @@ public class JvmPackageGen {
     private void clearPackageGenInfo() {
         birFunctionMap.clear();
         globalVarClassMap.clear();
+        valueClassDefMap.clear();
         dependentModules.clear();
+        yieldPointAnalyzer = null;
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
         return this.birFunctionMap.get(lookupKey);
     }
 
+    public YieldPointAnalyzer getYieldPointAnalyzer() {
+        return this.yieldPointAnalyzer;
+    }
+
+    /**
+     * Returns the type definition of the current module for which a value class with the given type symbol is
+     * generated. Value classes are generated for classes and records.
+     *
+     * @param typeSymbol type symbol of the class or record
+     * @return the type definition, or null if no value class is generated for the type in the current module
+     */
+    BIRTypeDefinition lookupValueClassDef(BTypeSymbol typeSymbol) {
+        return this.valueClassDefMap.get(typeSymbol);
+    }
+
+    private void linkValueClassDefs(List<BIRTypeDefinition> typeDefs) {
+        for (BIRTypeDefinition typeDef : typeDefs) {
+            BType type = typeDef.type;
+            if (type.tag == TypeTags.RECORD ||
+                    (type.tag == TypeTags.OBJECT && Symbols.isFlagOn(type.tsymbol.flags, Flags.CLASS))) {
+                valueClassDefMap.put(type.tsymbol, typeDef);
+            }
+        }
+    }
+
     BType lookupTypeDef(NewInstance objectNewIns) {
 
         if (!objectNewIns.isExternalDef) {
@@ -735,8 +772,8 @@ public class JvmPackageGen {
         final Map<String, byte[]> jarEntries = new HashMap<>();
 
         // desugar parameter initialization
-        injectDefaultParamInits(module, initMethodGen);
-        injectDefaultParamInitsToAttachedFuncs(module, initMethodGen);
+        injectDefaultParamInits(module, initMethodGen, unifier);
+        injectDefaultParamInitsToAttachedFuncs(module, initMethodGen, unifier);
 
         // create imported modules flat list
         List<PackageID> flattenedModuleImports = flattenModuleImports(moduleImports);
@@ -762,6 +799,10 @@ public class JvmPackageGen {
         removeSourceAnnotationTypeDefs(module.typeDefs);
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
+        linkValueClassDefs(module.typeDefs);
+
+        // find the functions that never yield, they are generated without frame handling
+        yieldPointAnalyzer = YieldPointAnalyzer.analyze(module);
 
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, typeHashVisitor, types);
@@ -770,7 +811,7 @@ public class JvmPackageGen {
         valueGen.generateValueClasses(jarEntries, jvmConstantsGen, jvmTypeGen, asyncDataCollector);
 
         // generate frame classes
-        frameClassGen.generateFrameClasses(module, jarEntries);
+        frameClassGen.generateFrameClasses(module, jarEntries, yieldPointAnalyzer);
 
         // generate module classes
         generateModuleClasses(module, jarEntries, moduleInitClass, typesClass, jvmTypeGen, jvmCastGen, jvmConstantsGen,
@@ -39,6 +39,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.interop.JType;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JTypeTags;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JavaMethodCall;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.split.values.JvmObjectGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
@@ -91,6 +92,7 @@ import static org.objectweb.asm.Opcodes.IFGT;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -209,6 +211,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.TRY_TAKE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VALUE_OF_DECIMAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.WAIT_RESULT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen.genVarArg;
 
 /**
@@ -252,7 +255,7 @@ public class JvmTerminatorGen {
         this.symbolTable = jvmPackageGen.symbolTable;
         this.currentPackageName = JvmCodeGenUtil.getPackageName(packageID);
         this.moduleInitClass = JvmCodeGenUtil.getModuleLevelClassName(packageID, MODULE_INIT_CLASS_NAME);
-        this.unifier = new Unifier();
+        this.unifier = jvmPackageGen.unifier;
         this.asyncDataCollector = asyncDataCollector;
         this.strandMetadataClass = jvmConstantsGen.getStrandMetadataConstantsClass();
     }
@@ -903,7 +906,7 @@ public class JvmTerminatorGen {
                                                               JvmCodeGenUtil.cleanupPathSeparators(balFileName));
             //TODO: add receiver:  BType attachedType = type.r != null ? receiver.type : null;
             BType retType = unifier.build(type.retType);
-            methodDesc = JvmCodeGenUtil.getMethodDesc(params, retType);
+            methodDesc = JvmCodeGenUtil.getMethodDesc(params, retType, unifier);
         }
         this.mv.visitMethodInsn(INVOKESTATIC, jvmClass, encodedMethodName, methodDesc, false);
     }
@@ -912,6 +915,18 @@ public class JvmTerminatorGen {
         // load self
         BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
         this.loadVar(selfArg);
+
+        Label callEndLabel = null;
+        BType selfType = JvmCodeGenUtil.getImpliedType(selfArg.type);
+        if (selfType.tag == TypeTags.OBJECT) {
+            BIRNode.BIRTypeDefinition classDef = jvmPackageGen.lookupValueClassDef(selfType.tsymbol);
+            BIRNode.BIRFunction func = classDef == null ? null : getDirectlyCallableMethod(classDef, callIns);
+            if (func != null) {
+                callEndLabel = new Label();
+                genDirectVirtualCall(callIns, localVarOffset, classDef, func, callEndLabel);
+            }
+        }
+
         this.mv.visitTypeInsn(CHECKCAST, B_OBJECT);
 
         // load the strand
@@ -948,6 +963,67 @@ public class JvmTerminatorGen {
 
         BType returnType = callIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, returnType);
+        if (callEndLabel != null) {
+            this.mv.visitLabel(callEndLabel);
+        }
+    }
+
+    private BIRNode.BIRFunction getDirectlyCallableMethod(BIRNode.BIRTypeDefinition classDef,
+                                                          BIRTerminator.Call callIns) {
+        String methodName = JvmCodeGenUtil.rewriteVirtualCallTypeName(callIns.name.value);
+        for (BIRNode.BIRFunction func : classDef.attachedFuncs) {
+            if (!func.name.value.equals(methodName)) {
+                continue;
+            }
+            // `attach` of listeners also registers the service, which is only done by the `call` method
+            if (func.type.paramTypes.size() != callIns.args.size() - 1 || JvmObjectGen.isListenerAttach(func)) {
+                return null;
+            }
+            return func;
+        }
+        return null;
+    }
+
+    private void genDirectVirtualCall(BIRTerminator.Call callIns, int localVarOffset,
+                                      BIRNode.BIRTypeDefinition classDef, BIRNode.BIRFunction func,
+                                      Label callEndLabel) {
+        // The static type of self does not guarantee its class, since another class can be a subtype of it. So the
+        // method is called directly only if self is an instance of the class and through `call` otherwise.
+        String className = getTypeValueClassName(this.currentPackageName, classDef.internalName.value);
+        Label boxedCallLabel = new Label();
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, boxedCallLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+
+        // load the strand
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+
+        List<BType> paramTypes = func.type.paramTypes;
+        for (int i = 0; i < paramTypes.size(); i++) {
+            // i + 1 is used since we skip the first argument (self)
+            BIRNode.BIRVariableDcl arg = callIns.args.get(i + 1).variableDcl;
+            this.loadVar(arg);
+            BType paramType = paramTypes.get(i);
+            if (!JvmCodeGenUtil.getArgTypeSignature(arg.type).equals(
+                    JvmCodeGenUtil.getArgTypeSignature(paramType))) {
+                jvmCastGen.addBoxInsn(this.mv, arg.type);
+                jvmCastGen.addUnboxInsn(this.mv, paramType);
+            }
+        }
+
+        BType retType = func.type.retType;
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, className, func.name.value,
+                                JvmCodeGenUtil.getMethodDesc(paramTypes, retType, unifier), false);
+
+        BType returnType = callIns.lhsOp.variableDcl.type;
+        if (!JvmCodeGenUtil.generateReturnType(retType, unifier)
+                .equals(JvmCodeGenUtil.generateReturnType(returnType, unifier))) {
+            jvmCastGen.addBoxInsn(this.mv, retType);
+            jvmCastGen.addUnboxInsn(this.mv, returnType);
+        }
+        this.mv.visitJumpInsn(GOTO, callEndLabel);
+        this.mv.visitLabel(boxedCallLabel);
     }
 
     private void genAsyncCallTerm(BIRTerminator.AsyncCall callIns, int localVarOffset, String moduleClassName,
@@ -1223,7 +1299,7 @@ public class JvmTerminatorGen {
         if (!ins.isSameStrand) {
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", GET_STRAND);
         }
-        this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", GET_WD_CHANNELS);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getWDChannels", GET_WD_CHANNELS, false);
         this.mv.visitVarInsn(ILOAD, invocationVarIndex);
         this.mv.visitInvokeDynamicInsn(MAKE_CONCAT_WITH_CONSTANTS, INT_TO_STRING,
                 new Handle(H_INVOKESTATIC, STRING_CONCAT_FACTORY, MAKE_CONCAT_WITH_CONSTANTS,
@@ -1271,7 +1347,7 @@ public class JvmTerminatorGen {
         if (!ins.isSameStrand) {
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", GET_STRAND);
         }
-        this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", GET_WD_CHANNELS);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getWDChannels", GET_WD_CHANNELS, false);
         this.mv.visitVarInsn(ALOAD, localVarOffset);
         this.mv.visitVarInsn(ALOAD, channelIndex);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "receiveDataAlternateChannels", ALT_RECEIVE_CALL, false);
@@ -1310,7 +1386,7 @@ public class JvmTerminatorGen {
         if (!ins.isSameStrand) {
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", GET_STRAND);
         }
-        this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", GET_WD_CHANNELS);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getWDChannels", GET_WD_CHANNELS, false);
         this.mv.visitVarInsn(ALOAD, localVarOffset);
         this.mv.visitVarInsn(ALOAD, channelIndex);
         jvmTypeGen.loadType(this.mv, ins.targetType);
@@ -1325,7 +1401,7 @@ public class JvmTerminatorGen {
         if (!ins.isSameStrand) {
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", GET_STRAND);
         }
-        this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", GET_WD_CHANNELS);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getWDChannels", GET_WD_CHANNELS, false);
         this.mv.visitVarInsn(ILOAD, invocationVarIndex);
         this.mv.visitInvokeDynamicInsn(MAKE_CONCAT_WITH_CONSTANTS, INT_TO_STRING,
                 new Handle(H_INVOKESTATIC, STRING_CONCAT_FACTORY, MAKE_CONCAT_WITH_CONSTANTS,
@@ -1474,7 +1550,7 @@ public class JvmTerminatorGen {
                     if (Symbols.isFlagOn(func.flags, Flags.WORKER)) {
                         this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", GET_STRAND);
                     }
-                    this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", GET_WD_CHANNELS);
+                    this.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getWDChannels", GET_WD_CHANNELS, false);
                     this.mv.visitVarInsn(ALOAD, localVarOffset);
                     this.mv.visitVarInsn(ILOAD, invocationVarIndex);
                     this.mv.visitInvokeDynamicInsn(MAKE_CONCAT_WITH_CONSTANTS, INT_TO_STRING,
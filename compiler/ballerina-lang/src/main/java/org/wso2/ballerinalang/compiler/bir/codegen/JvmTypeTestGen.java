@@ -95,7 +95,7 @@ public class JvmTypeTestGen {
      */
     private boolean canOptimizeNilCheck(BType sourceType, BType targetType) {
         return JvmCodeGenUtil.getImpliedType(targetType).tag == TypeTags.NIL &&
-                types.isAssignable(targetType, sourceType);
+                JvmCodeGenUtil.isAssignable(types, targetType, sourceType);
     }
 
     /**
@@ -145,8 +145,8 @@ public class JvmTypeTestGen {
                 errorType = bType;
             }
         }
-        return (foundError == 1 && types.isAssignable(errorType, targetType)) || (foundError > 0 && "error".equals(
-                targetType.tsymbol.name.value));
+        return (foundError == 1 && JvmCodeGenUtil.isAssignable(types, errorType, targetType)) ||
+                (foundError > 0 && "error".equals(targetType.tsymbol.name.value));
     }
 
     /**
@@ -41,6 +41,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.Unifier;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.util.List;
@@ -98,6 +99,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.CAST_B_M
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MAP_ARRAY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MAP_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_TYPEDESC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_WITH_STRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INSTANTIATE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INSTANTIATE_WITH_INITIAL_VALUES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.OBJECT_TYPE_IMPL_INIT;
@@ -134,27 +136,29 @@ public class JvmValueGen {
         this.methodGen = methodGen;
         this.booleanType = jvmPackageGen.symbolTable.booleanType;
         this.jvmRecordGen = new JvmRecordGen(jvmPackageGen.symbolTable);
-        this.jvmObjectGen = new JvmObjectGen();
+        this.jvmObjectGen = new JvmObjectGen(jvmPackageGen.unifier);
         this.typeHashVisitor = typeHashVisitor;
         this.types = types;
     }
 
-    static void injectDefaultParamInitsToAttachedFuncs(BIRNode.BIRPackage module, InitMethodGen initMethodGen) {
+    static void injectDefaultParamInitsToAttachedFuncs(BIRNode.BIRPackage module, InitMethodGen initMethodGen,
+                                                      Unifier unifier) {
         List<BIRNode.BIRTypeDefinition> typeDefs = module.typeDefs;
         for (BIRNode.BIRTypeDefinition optionalTypeDef : typeDefs) {
             BType bType = JvmCodeGenUtil.getImpliedType(optionalTypeDef.type);
             if ((bType.tag == TypeTags.OBJECT && Symbols.isFlagOn(
                     bType.tsymbol.flags, Flags.CLASS)) || bType.tag == TypeTags.RECORD) {
-                desugarObjectMethods(optionalTypeDef.attachedFuncs, initMethodGen);
+                desugarObjectMethods(optionalTypeDef.attachedFuncs, initMethodGen, unifier);
             }
         }
     }
 
-    private static void desugarObjectMethods(List<BIRFunction> attachedFuncs, InitMethodGen initMethodGen) {
+    private static void desugarObjectMethods(List<BIRFunction> attachedFuncs, InitMethodGen initMethodGen,
+                                             Unifier unifier) {
         for (BIRNode.BIRFunction birFunc : attachedFuncs) {
             if (JvmCodeGenUtil.isExternFunc(birFunc)) {
                 if (birFunc instanceof JMethodBIRFunction) {
-                    desugarInteropFuncs((JMethodBIRFunction) birFunc, initMethodGen);
+                    desugarInteropFuncs((JMethodBIRFunction) birFunc, initMethodGen, unifier);
                     initMethodGen.resetIds();
                 } else if (!(birFunc instanceof JFieldBIRFunction)) {
                     initMethodGen.resetIds();
@@ -476,7 +480,7 @@ public class JvmValueGen {
                     jvmConstantsGen, asyncDataCollector);
         }
 
-        this.createObjectInit(cw, fields, className);
+        this.createObjectInit(cw, fields, className, getLockNamePrefix(objectType, typeDef));
         jvmObjectGen.createAndSplitCallMethod(cw, attachedFuncs, className, jvmCastGen);
         jvmObjectGen.createAndSplitGetMethod(cw, fields, className, jvmCastGen);
         jvmObjectGen.createAndSplitSetMethod(cw, fields, className, jvmCastGen);
@@ -554,7 +558,8 @@ public class JvmValueGen {
         }
     }
 
-    private void createObjectInit(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createObjectInit(ClassWriter cw, Map<String, BField> fields, String className,
+                                  String lockNamePrefix) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, OBJECT_TYPE_IMPL_INIT, null,
                 null);
@@ -578,7 +583,8 @@ public class JvmValueGen {
             mv.visitVarInsn(ALOAD, 0);
             mv.visitTypeInsn(NEW, LOCK_VALUE);
             mv.visitInsn(DUP);
-            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+            mv.visitLdcInsn(lockNamePrefix + field.name.value);
+            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, INIT_WITH_STRING, false);
             mv.visitFieldInsn(PUTFIELD, className, computeLockNameFromString(field.name.value), lockClass);
         }
 
@@ -587,6 +593,12 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
+    private static String getLockNamePrefix(BObjectType objectType, BIRNode.BIRTypeDefinition typeDef) {
+        // The field locks are named after the object type and the field, as in 'org/module:Type.field'
+        PackageID packageID = objectType.tsymbol.pkgID;
+        return packageID.orgName.value + "/" + packageID.name.value + ":" + typeDef.name.value + ".";
+    }
+
     private void createRecordClearMethod(ClassWriter cw, String className) {
         // throw an UnsupportedOperationException, since clear is not supported by for records.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "clear", VOID_METHOD_DESC, null, null);
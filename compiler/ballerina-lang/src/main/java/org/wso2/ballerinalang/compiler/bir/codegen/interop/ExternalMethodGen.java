@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Unifier;
 
 import java.util.List;
 
@@ -60,7 +61,7 @@ public class ExternalMethodGen {
         }
     }
 
-    public static void injectDefaultParamInits(BIRPackage module, InitMethodGen initMethodGen) {
+    public static void injectDefaultParamInits(BIRPackage module, InitMethodGen initMethodGen, Unifier unifier) {
         // filter out functions.
         List<BIRFunction> functions = module.functions;
         if (!functions.isEmpty()) {
@@ -71,7 +72,7 @@ public class ExternalMethodGen {
                 BIRFunction birFunc = functions.get(count);
                 count = count + 1;
                 if (birFunc instanceof JMethodBIRFunction) {
-                    desugarInteropFuncs((JMethodBIRFunction) birFunc, initMethodGen);
+                    desugarInteropFuncs((JMethodBIRFunction) birFunc, initMethodGen, unifier);
                     initMethodGen.resetIds();
                 } else if (!(birFunc instanceof JFieldBIRFunction)) {
                     initMethodGen.resetIds();
@@ -81,11 +82,12 @@ public class ExternalMethodGen {
     }
 
     public static BIRFunctionWrapper createExternalFunctionWrapper(boolean isEntry, BIRFunction birFunc,
-                                                                   PackageID packageID, String birModuleClassName) {
+                                                                   PackageID packageID, String birModuleClassName,
+                                                                   Unifier unifier) {
         if (isEntry) {
             addDefaultableBooleanVarsToSignature(birFunc);
         }
-        return getFunctionWrapper(birFunc, packageID, birModuleClassName);
+        return getFunctionWrapper(birFunc, packageID, birModuleClassName, unifier);
     }
 
     private ExternalMethodGen() {
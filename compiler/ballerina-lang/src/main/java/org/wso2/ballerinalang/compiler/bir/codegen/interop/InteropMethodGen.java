@@ -48,6 +48,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.Unifier;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
@@ -130,10 +131,10 @@ public class InteropMethodGen {
         BType retType = birFunc.type.retType;
 
         if (Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = JvmCodeGenUtil.UNIFIER.build(birFunc.type.retType);
+            retType = jvmPackageGen.unifier.build(birFunc.type.retType);
         }
 
-        String desc = JvmCodeGenUtil.getMethodDesc(birFunc.type.paramTypes, retType);
+        String desc = JvmCodeGenUtil.getMethodDesc(birFunc.type.paramTypes, retType, jvmPackageGen.unifier);
         int access = birFunc.receiver != null ? ACC_PUBLIC : ACC_PUBLIC + ACC_STATIC;
         MethodVisitor mv = classWriter.visitMethod(access, birFunc.name.value, desc, null, null);
         JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, birModule, jvmPackageGen, jvmTypeGen,
@@ -246,11 +247,12 @@ public class InteropMethodGen {
         mv.visitEnd();
     }
 
-    public static void desugarInteropFuncs(JMethodBIRFunction birFunc, InitMethodGen initMethodGen) {
+    public static void desugarInteropFuncs(JMethodBIRFunction birFunc, InitMethodGen initMethodGen,
+                                           Unifier unifier) {
         // resetting the variable generation index
         BType retType = birFunc.type.retType;
         if (Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = JvmCodeGenUtil.UNIFIER.build(birFunc.type.retType);
+            retType = unifier.build(birFunc.type.retType);
         }
         JMethod jMethod = birFunc.jMethod;
         Class<?>[] jMethodParamTypes = jMethod.getParamTypes();
@@ -29,6 +29,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.Unifier;
 
 import java.lang.reflect.Field;
 import java.net.MalformedURLException;
@@ -55,11 +56,13 @@ public class InteropValidator {
     private static final CompilerContext.Key<InteropValidator> INTEROP_VALIDATE = new CompilerContext.Key<>();
     private final SymbolTable symbolTable;
     private final BLangDiagnosticLog dlog;
+    private final Unifier unifier;
 
     private InteropValidator(CompilerContext compilerContext) {
         compilerContext.put(INTEROP_VALIDATE, this);
         this.symbolTable = SymbolTable.getInstance(compilerContext);
         this.dlog = BLangDiagnosticLog.getInstance(compilerContext);
+        this.unifier = new Unifier();
     }
 
     public static InteropValidator getInstance(CompilerContext context) {
@@ -199,7 +202,7 @@ public class InteropValidator {
     JMethod validateAndGetJMethod(InteropValidationRequest.MethodValidationRequest methodValidationRequest,
                                   ClassLoader classLoader) {
         // Populate JMethodRequest from the BValue
-        JMethodRequest jMethodRequest = JMethodRequest.build(methodValidationRequest, classLoader);
+        JMethodRequest jMethodRequest = JMethodRequest.build(methodValidationRequest, classLoader, unifier);
 
         // Find the most specific Java method or constructor for the given request
         JMethodResolver methodResolver = new JMethodResolver(classLoader, symbolTable);
@@ -52,14 +52,12 @@ class JMethodRequest {
     boolean restParamExist = false;
     BType receiverType = null;
 
-    private static Unifier unifier = new Unifier();
-
     private JMethodRequest() {
 
     }
 
     static JMethodRequest build(InteropValidationRequest.MethodValidationRequest methodValidationRequest,
-                                ClassLoader classLoader) {
+                                ClassLoader classLoader, Unifier unifier) {
 
         JMethodRequest jMethodReq = new JMethodRequest();
         jMethodReq.kind = methodValidationRequest.methodKind;
@@ -46,9 +46,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen.ST
  */
 public class FrameClassGen {
 
-    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries) {
+    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries,
+                                     YieldPointAnalyzer yieldPointAnalyzer) {
         pkg.functions.forEach(
-                func -> generateFrameClassForFunction(pkg.packageID, func, pkgEntries, null));
+                func -> generateFrameClassForFunction(pkg.packageID, func, pkgEntries, null, yieldPointAnalyzer));
 
         for (BIRNode.BIRTypeDefinition typeDef : pkg.typeDefs) {
             List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs;
@@ -65,13 +66,17 @@ public class FrameClassGen {
                 attachedType = typeDef.type;
             }
             attachedFuncs.forEach(func -> generateFrameClassForFunction(
-                    pkg.packageID, func, pkgEntries, attachedType));
+                    pkg.packageID, func, pkgEntries, attachedType, yieldPointAnalyzer));
         }
     }
 
     private void generateFrameClassForFunction(PackageID packageID, BIRNode.BIRFunction func,
                                                Map<String, byte[]> pkgEntries,
-                                               BType attachedType) {
+                                               BType attachedType, YieldPointAnalyzer yieldPointAnalyzer) {
+        // Functions that never yield never save their frame
+        if (yieldPointAnalyzer.isNonYielding(func)) {
+            return;
+        }
         String frameClassName = MethodGenUtils.getFrameClassName(JvmCodeGenUtil.getPackageName(packageID),
                                                                  func.name.value, attachedType);
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
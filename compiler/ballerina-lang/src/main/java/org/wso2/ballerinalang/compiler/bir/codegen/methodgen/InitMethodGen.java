@@ -45,6 +45,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Unifier;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
@@ -107,12 +108,14 @@ import static org.wso2.ballerinalang.compiler.util.CompilerUtils.getMajorVersion
 public class InitMethodGen {
 
     private final SymbolTable symbolTable;
+    private final Unifier unifier;
     private final BUnionType errorOrNilType;
     private int nextId = 0;
     private int nextVarId = 0;
 
-    public InitMethodGen(SymbolTable symbolTable) {
+    public InitMethodGen(SymbolTable symbolTable, Unifier unifier) {
         this.symbolTable = symbolTable;
+        this.unifier = unifier;
         this.errorOrNilType = BUnionType.create(null, symbolTable.errorType, symbolTable.nilType);
     }
 
@@ -175,7 +178,7 @@ public class InitMethodGen {
                 jvmCastGen.addUnboxInsn(mv, paramType);
                 paramIndex += 1;
             }
-            methodDesc = JvmCodeGenUtil.getMethodDesc(paramTypes, returnType);
+            methodDesc = JvmCodeGenUtil.getMethodDesc(paramTypes, returnType, unifier);
         }
 
         mv.visitMethodInsn(INVOKESTATIC, initClass, MODULE_EXECUTE_METHOD, methodDesc, false);
@@ -247,21 +250,21 @@ public class InitMethodGen {
         javaClass.functions.add(initFunc);
         pkg.functions.add(initFunc);
         birFunctionMap.put(JvmCodeGenUtil.getPackageName(pkg.packageID) + MODULE_INIT_METHOD,
-                JvmPackageGen.getFunctionWrapper(initFunc, pkg.packageID, typeOwnerClass));
+                JvmPackageGen.getFunctionWrapper(initFunc, pkg.packageID, typeOwnerClass, unifier));
 
         BIRNode.BIRFunction startFunc = generateDefaultFunction(moduleImports, pkg, MODULE_START_METHOD,
                                                                 MethodGenUtils.START_FUNCTION_SUFFIX);
         javaClass.functions.add(startFunc);
         pkg.functions.add(startFunc);
         birFunctionMap.put(JvmCodeGenUtil.getPackageName(pkg.packageID) + MODULE_START_METHOD,
-                JvmPackageGen.getFunctionWrapper(startFunc, pkg.packageID, typeOwnerClass));
+                JvmPackageGen.getFunctionWrapper(startFunc, pkg.packageID, typeOwnerClass, unifier));
 
         BIRNode.BIRFunction execFunc = generateExecuteFunction(pkg, serviceEPAvailable, mainFunc, testExecuteFunc,
                 typeOwnerClass);
         javaClass.functions.add(execFunc);
         pkg.functions.add(execFunc);
         birFunctionMap.put(JvmCodeGenUtil.getPackageName(pkg.packageID) + MODULE_EXECUTE_METHOD,
-                JvmPackageGen.getFunctionWrapper(execFunc, pkg.packageID, typeOwnerClass));
+                JvmPackageGen.getFunctionWrapper(execFunc, pkg.packageID, typeOwnerClass, unifier));
     }
 
     private BIRNode.BIRFunction generateExecuteFunction(BIRNode.BIRPackage pkg, boolean serviceEPAvailable,
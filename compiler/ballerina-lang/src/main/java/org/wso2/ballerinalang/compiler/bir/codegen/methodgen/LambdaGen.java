@@ -519,7 +519,7 @@ public class LambdaGen {
         }
         appendClosureMaps(closureMapsCount, desc);
         appendParamTypes(paramTypes, desc);
-        desc.append(JvmCodeGenUtil.generateReturnType(retType));
+        desc.append(JvmCodeGenUtil.generateReturnType(retType, jvmPackageGen.unifier));
         return desc.toString();
     }
 
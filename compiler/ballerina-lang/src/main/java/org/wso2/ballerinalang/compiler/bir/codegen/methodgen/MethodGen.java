@@ -58,6 +58,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.Unifier;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
@@ -101,7 +102,6 @@ import static org.objectweb.asm.Opcodes.LLOAD;
 import static org.objectweb.asm.Opcodes.LRETURN;
 import static org.objectweb.asm.Opcodes.LSTORE;
 import static org.objectweb.asm.Opcodes.NEW;
-import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.SIPUSH;
@@ -111,13 +111,13 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getMeth
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FRAME_STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANNOTATIONS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_START_ATTEMPTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_SELF_INSTANCE;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_LOCAL_VARIABLE_NAME;
@@ -143,8 +143,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TABL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_XML;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INITIAL_METHOD_DESC;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RETURN_OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.POP_FRAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PUSH_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STACK_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.UPDATE_CHANNEL_DETAILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
@@ -163,11 +163,13 @@ public class MethodGen {
     private static final String RESUME_INDEX = "resumeIndex";
     private final JvmPackageGen jvmPackageGen;
     private final SymbolTable symbolTable;
+    private final Unifier unifier;
     private final Types types;
 
     public MethodGen(JvmPackageGen jvmPackageGen, Types types) {
         this.jvmPackageGen = jvmPackageGen;
         this.symbolTable = jvmPackageGen.symbolTable;
+        this.unifier = jvmPackageGen.unifier;
         this.types = types;
     }
 
@@ -194,7 +196,7 @@ public class MethodGen {
         indexMap.addIfNotExists(STRAND, symbolTable.stringType);
         String funcName = func.name.value;
         BType retType = getReturnType(func);
-        String desc = JvmCodeGenUtil.getMethodDesc(func.type.paramTypes, retType);
+        String desc = JvmCodeGenUtil.getMethodDesc(func.type.paramTypes, retType, unifier);
         MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, funcName, desc, null, null);
         mv.visitCode();
         Label methodStartLabel = new Label();
@@ -207,7 +209,7 @@ public class MethodGen {
         for (BIRNode.BIRFunctionParameter parameter : func.parameters) {
             instGen.generateVarLoad(mv, parameter, indexMap.addIfNotExists(parameter.name.value, parameter.type));
         }
-        String methodDesc = JvmCodeGenUtil.getMethodDesc(func.type.paramTypes, retType, moduleClassName);
+        String methodDesc = JvmCodeGenUtil.getMethodDesc(func.type.paramTypes, retType, moduleClassName, unifier);
         mv.visitMethodInsn(INVOKESTATIC, splitClassName, encodedMethodName, methodDesc, false);
         Label methodEndLabel = new Label();
         mv.visitLabel(methodEndLabel);
@@ -271,11 +273,12 @@ public class MethodGen {
         int invocationCountArgVarIndex = -1;
         if (isWorker) {
             invocationCountArgVarIndex = indexMap.addIfNotExists(INVOCATION_COUNT, symbolTable.stringType);
-            desc = INITIAL_METHOD_DESC + "I" + getMethodDescParams(func.type.paramTypes) + generateReturnType(retType);
+            desc = INITIAL_METHOD_DESC + "I" + getMethodDescParams(func.type.paramTypes) +
+                    generateReturnType(retType, unifier);
         } else if (isObjectMethodSplit) {
-            desc = JvmCodeGenUtil.getMethodDesc(func.type.paramTypes, retType, moduleClassName);
+            desc = JvmCodeGenUtil.getMethodDesc(func.type.paramTypes, retType, moduleClassName, unifier);
         } else {
-            desc = JvmCodeGenUtil.getMethodDesc(func.type.paramTypes, retType);
+            desc = JvmCodeGenUtil.getMethodDesc(func.type.paramTypes, retType, unifier);
         }
         MethodVisitor mv = cw.visitMethod(access, funcName, desc, null, null);
         mv.visitCode();
@@ -294,12 +297,15 @@ public class MethodGen {
         int yieldStatusVarIndex = getFrameStringVarIndex(indexMap, mv, YIELD_STATUS);
         int invocationVarIndex = getIntVarIndex(FUNCTION_INVOCATION, indexMap, mv, ICONST_0);
 
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
-
+        // a function that never yields is never resumed, so it does not save or restore its frame
+        boolean isNonYielding = isNonYielding(func);
         LabelGenerator labelGen = new LabelGenerator();
         Label resumeLabel = labelGen.getLabel(funcName + "resume");
-        mv.visitJumpInsn(IFGT, resumeLabel);
+        if (!isNonYielding) {
+            mv.visitVarInsn(ALOAD, localVarOffset);
+            mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
+            mv.visitJumpInsn(IFGT, resumeLabel);
+        }
 
         // set function invocation variable
         setFunctionInvocationVar(localVarOffset, mv, invocationVarIndex, invocationCountArgVarIndex);
@@ -336,11 +342,47 @@ public class MethodGen {
 
         mv.visitVarInsn(ILOAD, stateVarIndex);
         Label yieldLabel = labelGen.getLabel(funcName + "yield");
-        mv.visitLookupSwitchInsn(yieldLabel, toIntArray(states), labels.toArray(new Label[0]));
+        mv.visitLookupSwitchInsn(isNonYielding ? labels.get(0) : yieldLabel, toIntArray(states),
+                labels.toArray(new Label[0]));
 
         generateBasicBlocks(mv, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex, stateVarIndex,
                 yieldLocationVarIndex, yieldStatusVarIndex, loopVarIndex, invocationVarIndex, localVarOffset, module,
                 attachedType, moduleClassName, loopLabel);
+        if (!isNonYielding) {
+            genFrameSaveAndRestore(func, mv, module, attachedType, indexMap, localVarOffset, stateVarIndex,
+                    yieldLocationVarIndex, yieldStatusVarIndex, invocationVarIndex, resumeLabel, varInitLabel,
+                    yieldLabel, loopLabel);
+        }
+        mv.visitLabel(loopConditionLabel);
+
+        Label methodEndLabel = new Label();
+        mv.visitLabel(methodEndLabel);
+        termGen.genReturnTerm(returnVarRefIndex, func, invocationVarIndex, localVarOffset);
+
+        // Create Local Variable Table
+        createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel,
+                isObjectMethodSplit);
+
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, funcName, moduleClassName);
+        mv.visitEnd();
+    }
+
+    private boolean isNonYielding(BIRFunction func) {
+        YieldPointAnalyzer yieldPointAnalyzer = jvmPackageGen.getYieldPointAnalyzer();
+        return yieldPointAnalyzer != null && yieldPointAnalyzer.isNonYielding(func);
+    }
+
+    private boolean isNonYieldingCall(BIRTerminator terminator) {
+        YieldPointAnalyzer yieldPointAnalyzer = jvmPackageGen.getYieldPointAnalyzer();
+        return yieldPointAnalyzer != null && yieldPointAnalyzer.isNonYieldingCall(terminator);
+    }
+
+    private void genFrameSaveAndRestore(BIRFunction func, MethodVisitor mv, BIRPackage module, BType attachedType,
+                                        BIRVarToJVMIndexMap indexMap, int localVarOffset,
+                                        int stateVarIndex, int yieldLocationVarIndex, int yieldStatusVarIndex,
+                                        int invocationVarIndex, Label resumeLabel, Label varInitLabel,
+                                        Label yieldLabel, Label loopLabel) {
+        String funcName = func.name.value;
         mv.visitLabel(resumeLabel);
         String frameName = MethodGenUtils.getFrameClassName(JvmCodeGenUtil.getPackageName(module.packageID), funcName,
                 attachedType);
@@ -372,18 +414,6 @@ public class MethodGen {
 
         generateGetFrame(indexMap, localVarOffset, mv);
         mv.visitJumpInsn(GOTO, loopLabel);
-        mv.visitLabel(loopConditionLabel);
-
-        Label methodEndLabel = new Label();
-        mv.visitLabel(methodEndLabel);
-        termGen.genReturnTerm(returnVarRefIndex, func, invocationVarIndex, localVarOffset);
-
-        // Create Local Variable Table
-        createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel,
-                isObjectMethodSplit);
-
-        JvmCodeGenUtil.visitMaxStackForMethod(mv, funcName, moduleClassName);
-        mv.visitEnd();
     }
 
     private void setFunctionInvocationVar(int localVarOffset, MethodVisitor mv, int invocationVarIndex,
@@ -412,7 +442,7 @@ public class MethodGen {
     private BType getReturnType(BIRFunction func) {
         BType retType = func.type.retType;
         if (JvmCodeGenUtil.isExternFunc(func) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = JvmCodeGenUtil.UNIFIER.build(func.type.retType);
+            retType = unifier.build(func.type.retType);
         }
         return retType;
     }
@@ -644,7 +674,10 @@ public class MethodGen {
             String yieldStatus = getYieldStatusByTerminator(terminator);
 
             BIRBasicBlock thenBB = terminator.thenBB;
-            if (thenBB != null) {
+            if (thenBB != null && isNonYieldingCall(terminator)) {
+                // the callee never yields, so continue with the next block without checking the strand
+                mv.visitJumpInsn(GOTO, termGen.getLabelGenerator().getLabel(funcName + thenBB.id.value));
+            } else if (thenBB != null) {
                 JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset,
                         yieldLocationVarIndex, terminator.pos, fullyQualifiedFuncName, yieldStatus,
                         yieldStatusVarIndex);
@@ -733,7 +766,7 @@ public class MethodGen {
         mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, RESUME_INDEX, "I");
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "pop", RETURN_OBJECT, false);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FRAME_STACK, "pop", POP_FRAME, false);
         mv.visitTypeInsn(CHECKCAST, frameName);
     }
 
@@ -1059,8 +1092,7 @@ public class MethodGen {
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
         mv.visitVarInsn(ALOAD, frameVarIndex);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "push", PASS_OBJECT_RETURN_OBJECT, false);
-        mv.visitInsn(POP);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FRAME_STACK, "push", PUSH_FRAME, false);
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitInsn(DUP);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
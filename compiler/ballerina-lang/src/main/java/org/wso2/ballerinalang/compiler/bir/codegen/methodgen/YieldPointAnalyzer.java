@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen.methodgen;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the functions of a module that can never yield their strand.
+ * <p>
+ * A function may yield at worker interactions, waits, locks, asynchronous calls, function pointer and interop calls,
+ * and at calls to functions that may yield. Functions that cannot yield are never resumed, so they do not need a
+ * frame class, frame save and restore code or yield checks after calls made to them.
+ *
+ * @since 2201.10.0
+ */
+public class YieldPointAnalyzer {
+
+    private final PackageID packageID;
+    private final Map<String, BIRFunction> moduleFunctions;
+    private final Set<BIRFunction> nonYieldingFunctions;
+
+    private YieldPointAnalyzer(BIRPackage module) {
+        this.packageID = module.packageID;
+        this.moduleFunctions = new HashMap<>();
+        for (BIRFunction function : module.functions) {
+            this.moduleFunctions.put(function.name.value, function);
+        }
+        this.nonYieldingFunctions = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    public static YieldPointAnalyzer analyze(BIRPackage module) {
+        YieldPointAnalyzer analyzer = new YieldPointAnalyzer(module);
+        List<BIRFunction> functions = new ArrayList<>(module.functions);
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.attachedFuncs != null) {
+                functions.addAll(typeDef.attachedFuncs);
+            }
+        }
+        analyzer.findNonYieldingFunctions(functions);
+        return analyzer;
+    }
+
+    /**
+     * Returns whether the given function can never yield.
+     *
+     * @param function function to check
+     * @return true if the function never yields
+     */
+    public boolean isNonYielding(BIRFunction function) {
+        return this.nonYieldingFunctions.contains(function);
+    }
+
+    /**
+     * Returns whether the given terminator is a call to a function that can never yield.
+     *
+     * @param terminator terminator to check
+     * @return true if the terminator calls a function that never yields
+     */
+    public boolean isNonYieldingCall(BIRTerminator terminator) {
+        BIRFunction callee = getCallee(terminator);
+        return callee != null && this.nonYieldingFunctions.contains(callee);
+    }
+
+    private void findNonYieldingFunctions(List<BIRFunction> functions) {
+        // Start by assuming every candidate does not yield and drop the ones calling functions that may yield, until
+        // nothing changes. Recursive functions without any other yield point are kept this way.
+        for (BIRFunction function : functions) {
+            if (hasOnlyNonYieldingTerminators(function)) {
+                this.nonYieldingFunctions.add(function);
+            }
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = this.nonYieldingFunctions.removeIf(this::callsYieldingFunction);
+        }
+    }
+
+    private boolean callsYieldingFunction(BIRFunction function) {
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator.kind == InstructionKind.CALL && !isNonYieldingCall(basicBlock.terminator)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasOnlyNonYieldingTerminators(BIRFunction function) {
+        if (function.basicBlocks.isEmpty() || JvmCodeGenUtil.isExternFunc(function)
+                || Symbols.isFlagOn(function.flags, Flags.WORKER)
+                || (function.workerChannels != null && function.workerChannels.length > 0)) {
+            return false;
+        }
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            BIRTerminator terminator = basicBlock.terminator;
+            switch (terminator.kind) {
+                case GOTO, BRANCH, RETURN, PANIC:
+                    break;
+                case CALL:
+                    if (getCallee(terminator) == null) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private BIRFunction getCallee(BIRTerminator terminator) {
+        if (!(terminator instanceof BIRTerminator.Call call) || terminator.kind != InstructionKind.CALL
+                || call.isVirtual || !this.packageID.equals(call.calleePkg)) {
+            return null;
+        }
+        return this.moduleFunctions.get(call.name.value);
+    }
+}
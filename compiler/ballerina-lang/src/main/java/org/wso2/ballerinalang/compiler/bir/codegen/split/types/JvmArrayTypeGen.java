@@ -19,6 +19,7 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.types;
 
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
@@ -108,7 +109,7 @@ public class JvmArrayTypeGen {
         mv.visitInsn(L2I);
 
         jvmTypeGen.loadReadonlyFlag(mv, arrayType);
-        mv.visitInsn(types.hasFillerValue(arrayType.eType) ? ICONST_1 : ICONST_0);
+        mv.visitInsn(JvmCodeGenUtil.hasFillerValue(types, arrayType.eType) ? ICONST_1 : ICONST_0);
 
         // invoke the constructor
         mv.visitMethodInsn(INVOKESPECIAL, ARRAY_TYPE_IMPL, JVM_INIT_METHOD,  "(IIZZ)V", false);
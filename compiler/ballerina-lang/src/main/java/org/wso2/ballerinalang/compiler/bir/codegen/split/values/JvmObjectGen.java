@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.Unifier;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
@@ -84,6 +85,11 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc
 public class JvmObjectGen {
 
     static final FieldNameHashComparator FIELD_NAME_HASH_COMPARATOR = new FieldNameHashComparator();
+    private final Unifier unifier;
+
+    public JvmObjectGen(Unifier unifier) {
+        this.unifier = unifier;
+    }
 
     public void createAndSplitCallMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions, String objClassName,
                                          JvmCastGen jvmCastGen) {
@@ -126,7 +132,7 @@ public class JvmObjectGen {
             String methodSig;
 
             // use index access, since retType can be nil.
-            methodSig = JvmCodeGenUtil.getMethodDesc(paramTypes, retType);
+            methodSig = JvmCodeGenUtil.getMethodDesc(paramTypes, retType, unifier);
 
             // load self
             mv.visitVarInsn(ALOAD, 0);
@@ -196,7 +202,7 @@ public class JvmObjectGen {
         }
     }
 
-    private boolean isListenerAttach(BIRNode.BIRFunction func) {
+    public static boolean isListenerAttach(BIRNode.BIRFunction func) {
         return func.name.value.equals("attach") && Symbols.isFlagOn(func.parameters.get(0).type.flags, Flags.SERVICE);
     }
 
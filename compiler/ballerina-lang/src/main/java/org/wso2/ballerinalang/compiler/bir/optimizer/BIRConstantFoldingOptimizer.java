@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.BIRGenUtils;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Propagate and fold constant int, boolean and string values within basic blocks, turn branches on known conditions
+ * into jumps and remove the basic blocks that are no longer reachable.
+ *
+ * @since 2201.10.0
+ */
+public class BIRConstantFoldingOptimizer extends BIRVisitor {
+
+    // Folded strings end up in the class file constant pool, so very long concatenations are left to the runtime.
+    private static final int MAX_FOLDED_STRING_LENGTH = 4096;
+
+    private final Types types;
+    private final Map<BIRVariableDcl, Object> constants = new HashMap<>();
+
+    public BIRConstantFoldingOptimizer(Types types) {
+        this.types = types;
+    }
+
+    public void optimizeNode(BIRNode node) {
+        if (node == null) {
+            return;
+        }
+        node.accept(this);
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        if (birFunction.basicBlocks.isEmpty()) {
+            return;
+        }
+        boolean branchFolded = false;
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            branchFolded |= foldBasicBlock(basicBlock);
+        }
+        this.constants.clear();
+        if (branchFolded) {
+            removeUnreachableBasicBlocks(birFunction);
+        }
+    }
+
+    // Values only flow through a single basic block, so there is no need to merge facts at join points.
+    private boolean foldBasicBlock(BIRBasicBlock basicBlock) {
+        this.constants.clear();
+        List<BIRNonTerminator> instructions = basicBlock.instructions;
+        for (int i = 0; i < instructions.size(); i++) {
+            BIRNonTerminator instruction = instructions.get(i);
+            BIRVariableDcl lhsVar = instruction.lhsOp == null ? null : instruction.lhsOp.variableDcl;
+            Object value = evaluate(instruction);
+            if (lhsVar == null) {
+                continue;
+            }
+            this.constants.remove(lhsVar);
+            if (value == null || !isTrackable(lhsVar) || !isOfTrackedType(lhsVar.type, value)) {
+                continue;
+            }
+            this.constants.put(lhsVar, value);
+            if (instruction instanceof BinaryOp || instruction instanceof UnaryOP || instruction instanceof TypeTest) {
+                instructions.set(i, new ConstantLoad(instruction.pos, value, lhsVar.type, instruction.lhsOp));
+            }
+        }
+
+        if (!(basicBlock.terminator instanceof BIRTerminator.Branch branch)) {
+            return false;
+        }
+        if (!(getConstant(branch.op) instanceof Boolean condition)) {
+            return false;
+        }
+        basicBlock.terminator = new BIRTerminator.GOTO(branch.pos, condition ? branch.trueBB : branch.falseBB,
+                branch.scope);
+        return true;
+    }
+
+    private Object evaluate(BIRNonTerminator instruction) {
+        if (instruction instanceof ConstantLoad constantLoad) {
+            return isOfTrackedType(constantLoad.type, constantLoad.value) ? constantLoad.value : null;
+        }
+        if (instruction instanceof Move move) {
+            return getConstant(move.rhsOp);
+        }
+        if (instruction instanceof BinaryOp binaryOp) {
+            return foldBinaryOp(binaryOp);
+        }
+        if (instruction instanceof UnaryOP unaryOP) {
+            return foldUnaryOp(unaryOP);
+        }
+        if (instruction instanceof TypeTest typeTest) {
+            return foldTypeTest(typeTest);
+        }
+        return null;
+    }
+
+    private Object foldBinaryOp(BinaryOp binaryOp) {
+        Object lhs = getConstant(binaryOp.rhsOp1);
+        Object rhs = getConstant(binaryOp.rhsOp2);
+        if (lhs instanceof Long x && rhs instanceof Long y) {
+            return foldIntBinaryOp(binaryOp, x, y);
+        }
+        if (lhs instanceof Boolean x && rhs instanceof Boolean y) {
+            return switch (binaryOp.kind) {
+                case EQUAL, REF_EQUAL -> x.equals(y);
+                case NOT_EQUAL, REF_NOT_EQUAL -> !x.equals(y);
+                default -> null;
+            };
+        }
+        if (lhs instanceof String x && rhs instanceof String y) {
+            return switch (binaryOp.kind) {
+                case ADD -> x.length() + y.length() <= MAX_FOLDED_STRING_LENGTH ? x.concat(y) : null;
+                case EQUAL -> x.equals(y);
+                case NOT_EQUAL -> !x.equals(y);
+                default -> null;
+            };
+        }
+        return null;
+    }
+
+    private Object foldIntBinaryOp(BinaryOp binaryOp, long x, long y) {
+        try {
+            return switch (binaryOp.kind) {
+                case ADD -> Math.addExact(x, y);
+                case SUB -> Math.subtractExact(x, y);
+                case MUL -> Math.multiplyExact(x, y);
+                // Division by zero and overflow have to panic at runtime.
+                case DIV -> y == 0 || (x == Long.MIN_VALUE && y == -1) ? null : x / y;
+                case MOD -> y == 0 ? null : x % y;
+                case BITWISE_AND -> x & y;
+                case BITWISE_OR -> x | y;
+                case BITWISE_XOR -> x ^ y;
+                case EQUAL, REF_EQUAL -> x == y;
+                case NOT_EQUAL, REF_NOT_EQUAL -> x != y;
+                case GREATER_THAN -> x > y;
+                case GREATER_EQUAL -> x >= y;
+                case LESS_THAN -> x < y;
+                case LESS_EQUAL -> x <= y;
+                default -> null;
+            };
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private Object foldUnaryOp(UnaryOP unaryOP) {
+        Object value = getConstant(unaryOP.rhsOp);
+        return switch (unaryOP.kind) {
+            case NOT -> value instanceof Boolean b ? !b : null;
+            case NEGATE -> value instanceof Long l && l != Long.MIN_VALUE ? -l : null;
+            default -> null;
+        };
+    }
+
+    private Object foldTypeTest(TypeTest typeTest) {
+        BType targetType = Types.getImpliedType(typeTest.type);
+        Object value = getConstant(typeTest.rhsOp);
+        if (value != null) {
+            BType valueType = typeTest.rhsOp.variableDcl.type;
+            if (types.isAssignable(valueType, targetType)) {
+                return true;
+            }
+            int targetTag = targetType.tag;
+            return targetTag == TypeTags.INT || targetTag == TypeTags.BOOLEAN || targetTag == TypeTags.STRING ?
+                    false : null;
+        }
+        // For simple basic types, belonging to the static type of the variable implies belonging to the tested type.
+        BType sourceType = Types.getImpliedType(typeTest.rhsOp.variableDcl.type);
+        if (isSimpleBasicType(sourceType) && types.isAssignable(sourceType, targetType)) {
+            return true;
+        }
+        return null;
+    }
+
+    private Object getConstant(BIROperand operand) {
+        return operand == null ? null : this.constants.get(operand.variableDcl);
+    }
+
+    private void removeUnreachableBasicBlocks(BIRFunction birFunction) {
+        Set<BIRBasicBlock> reachable = new HashSet<>();
+        Deque<BIRBasicBlock> worklist = new ArrayDeque<>();
+        worklist.add(birFunction.basicBlocks.get(0));
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            worklist.add(errorEntry.trapBB);
+            worklist.add(errorEntry.endBB);
+            worklist.add(errorEntry.targetBB);
+        }
+        while (!worklist.isEmpty()) {
+            BIRBasicBlock basicBlock = worklist.poll();
+            if (basicBlock == null || !reachable.add(basicBlock) || basicBlock.terminator == null) {
+                continue;
+            }
+            for (BIRBasicBlock next : basicBlock.terminator.getNextBasicBlocks()) {
+                if (next != null) {
+                    worklist.add(next);
+                }
+            }
+        }
+        if (reachable.size() == birFunction.basicBlocks.size()) {
+            return;
+        }
+
+        // Local variable scopes must start and end on blocks that are still emitted.
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            localVar.startBB = getRetainedBasicBlock(birFunction.basicBlocks, reachable, localVar.startBB);
+            localVar.endBB = getRetainedBasicBlock(birFunction.basicBlocks, reachable, localVar.endBB);
+        }
+        birFunction.basicBlocks.removeIf(basicBlock -> !reachable.contains(basicBlock));
+        BIRGenUtils.rearrangeBasicBlocks(birFunction);
+    }
+
+    private BIRBasicBlock getRetainedBasicBlock(List<BIRBasicBlock> basicBlocks, Set<BIRBasicBlock> reachable,
+                                                BIRBasicBlock basicBlock) {
+        if (basicBlock == null || reachable.contains(basicBlock)) {
+            return basicBlock;
+        }
+        int index = basicBlocks.indexOf(basicBlock);
+        if (index < 0) {
+            return basicBlock;
+        }
+        for (int i = index + 1; i < basicBlocks.size(); i++) {
+            if (reachable.contains(basicBlocks.get(i))) {
+                return basicBlocks.get(i);
+            }
+        }
+        for (int i = index - 1; i >= 0; i--) {
+            if (reachable.contains(basicBlocks.get(i))) {
+                return basicBlocks.get(i);
+            }
+        }
+        return basicBlock;
+    }
+
+    // Globals can be updated by other strands, so only function level variables are tracked.
+    private static boolean isTrackable(BIRVariableDcl variableDcl) {
+        return variableDcl.kind != VarKind.GLOBAL && variableDcl.kind != VarKind.CONSTANT;
+    }
+
+    private static boolean isOfTrackedType(BType type, Object value) {
+        if (type == null) {
+            return false;
+        }
+        return switch (Types.getImpliedType(type).tag) {
+            case TypeTags.INT -> value instanceof Long;
+            case TypeTags.BOOLEAN -> value instanceof Boolean;
+            case TypeTags.STRING -> value instanceof String;
+            default -> false;
+        };
+    }
+
+    private static boolean isSimpleBasicType(BType type) {
+        return switch (type.tag) {
+            case TypeTags.INT, TypeTags.BYTE, TypeTags.FLOAT, TypeTags.DECIMAL, TypeTags.BOOLEAN, TypeTags.STRING,
+                    TypeTags.NIL -> true;
+            default -> false;
+        };
+    }
+}
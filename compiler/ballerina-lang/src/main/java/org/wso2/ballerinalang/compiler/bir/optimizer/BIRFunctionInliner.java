@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.wso2.ballerinalang.compiler.bir.BIRGenUtils;
+import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.YieldPointAnalyzer;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.IsLike;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BirScope;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inline calls to small module level functions that can never yield.
+ * <p>
+ * A function qualifies if the {@link YieldPointAnalyzer} finds that it never yields, and it only consists of simple
+ * instructions and basic blocks which end with jumps, branches, returns and panics. Such a function does not call other
+ * functions, so it is not recursive, and the caller does not need to save and restore its frame around the inlined
+ * body. Inlined instructions take the position of the call, so panics raised by them are reported at the call site.
+ *
+ * @since 2201.10.0
+ */
+public class BIRFunctionInliner {
+
+    private static final int MAX_INLINED_INSTRUCTIONS = 16;
+    private static final String INLINED_VAR_PREFIX = "%inl";
+
+    private final Types types;
+    private int inlinedVarCount;
+
+    public BIRFunctionInliner(Types types) {
+        this.types = types;
+    }
+
+    public void inlineFunctions(BIRPackage birPackage) {
+        YieldPointAnalyzer yieldPointAnalyzer = YieldPointAnalyzer.analyze(birPackage);
+        Map<String, BIRFunction> inlineableFunctions = new HashMap<>();
+        for (BIRFunction function : birPackage.functions) {
+            if (yieldPointAnalyzer.isNonYielding(function) && isInlineable(function)) {
+                inlineableFunctions.put(function.name.value, function);
+            }
+        }
+        if (inlineableFunctions.isEmpty()) {
+            return;
+        }
+        for (BIRTypeDefinition typeDef : birPackage.typeDefs) {
+            for (BIRFunction function : typeDef.attachedFuncs) {
+                inlineCalls(birPackage, function, inlineableFunctions);
+            }
+        }
+        for (BIRFunction function : birPackage.functions) {
+            inlineCalls(birPackage, function, inlineableFunctions);
+        }
+    }
+
+    private void inlineCalls(BIRPackage birPackage, BIRFunction caller, Map<String, BIRFunction> inlineableFunctions) {
+        // A trap region of the caller covers a fixed range of its basic blocks. The blocks inlined for a call inside
+        // that range would fall outside of it, so a panic raised by them would escape the trap. Rather than extending
+        // the error entries, callers which have any trap region are left alone.
+        if (!caller.errorTable.isEmpty() || caller.basicBlocks.isEmpty()) {
+            return;
+        }
+        this.inlinedVarCount = 0;
+        boolean inlined = false;
+        List<BIRBasicBlock> basicBlocks = caller.basicBlocks;
+        for (int i = 0; i < basicBlocks.size(); i++) {
+            BIRBasicBlock basicBlock = basicBlocks.get(i);
+            if (!(basicBlock.terminator instanceof BIRTerminator.Call call) || call.kind != InstructionKind.CALL
+                    || call.isVirtual || !birPackage.packageID.equals(call.calleePkg)) {
+                continue;
+            }
+            BIRFunction callee = inlineableFunctions.get(call.name.value);
+            if (callee == null || callee == caller || !canInline(call, callee)) {
+                continue;
+            }
+            List<BIRBasicBlock> inlinedBasicBlocks = inline(caller, basicBlock, call, callee);
+            basicBlocks.addAll(i + 1, inlinedBasicBlocks);
+            i += inlinedBasicBlocks.size();
+            inlined = true;
+        }
+        if (inlined) {
+            BIRGenUtils.rearrangeBasicBlocks(caller);
+        }
+    }
+
+    private List<BIRBasicBlock> inline(BIRFunction caller, BIRBasicBlock callBB, BIRTerminator.Call call,
+                                       BIRFunction callee) {
+        Location pos = call.pos;
+        BirScope scope = call.scope;
+        Map<BIRVariableDcl, BIRVariableDcl> varMapping = new HashMap<>();
+        List<BIRVariableDcl> params = getParameters(callee);
+        for (int i = 0; i < params.size(); i++) {
+            BIRVariableDcl param = params.get(i);
+            BIRVariableDcl paramVar = createInlinedVar(caller, param);
+            varMapping.put(param, paramVar);
+            // Arguments are copied since the inlined body may update its parameters.
+            callBB.instructions.add(new Move(pos, new BIROperand(call.args.get(i).variableDcl),
+                    new BIROperand(paramVar)));
+        }
+        if (call.lhsOp != null) {
+            varMapping.put(callee.returnVariable, call.lhsOp.variableDcl);
+        }
+        for (BIRVariableDcl localVar : callee.localVars) {
+            if (!varMapping.containsKey(localVar)) {
+                varMapping.put(localVar, createInlinedVar(caller, localVar));
+            }
+        }
+
+        Map<BIRBasicBlock, BIRBasicBlock> bbMapping = new HashMap<>();
+        List<BIRBasicBlock> inlinedBasicBlocks = new ArrayList<>(callee.basicBlocks.size());
+        for (BIRBasicBlock basicBlock : callee.basicBlocks) {
+            BIRBasicBlock inlinedBB = new BIRBasicBlock(basicBlock.number);
+            bbMapping.put(basicBlock, inlinedBB);
+            inlinedBasicBlocks.add(inlinedBB);
+        }
+        for (BIRBasicBlock basicBlock : callee.basicBlocks) {
+            BIRBasicBlock inlinedBB = bbMapping.get(basicBlock);
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                BIRNonTerminator inlinedInstruction = copyInstruction(instruction, pos, varMapping);
+                inlinedInstruction.scope = scope;
+                inlinedBB.instructions.add(inlinedInstruction);
+            }
+            inlinedBB.terminator = copyTerminator(basicBlock.terminator, pos, scope, varMapping, bbMapping,
+                    call.thenBB);
+        }
+        callBB.terminator = new BIRTerminator.GOTO(pos, inlinedBasicBlocks.get(0), scope);
+
+        if (callee.dependentGlobalVars != null && caller.dependentGlobalVars != null) {
+            caller.dependentGlobalVars.addAll(callee.dependentGlobalVars);
+        }
+        return inlinedBasicBlocks;
+    }
+
+    private BIRVariableDcl createInlinedVar(BIRFunction caller, BIRVariableDcl calleeVar) {
+        Name name = new Name(INLINED_VAR_PREFIX + this.inlinedVarCount++);
+        // Temp var optimizations expect temps to be read once, which only holds for the temps of the callee.
+        VarKind kind = calleeVar.kind == VarKind.TEMP || calleeVar.kind == VarKind.SYNTHETIC ? calleeVar.kind :
+                VarKind.LOCAL;
+        BIRVariableDcl var = new BIRVariableDcl(calleeVar.type, name, VarScope.FUNCTION, kind);
+        caller.localVars.add(var);
+        return var;
+    }
+
+    private static BIRNonTerminator copyInstruction(BIRNonTerminator instruction, Location pos,
+                                                    Map<BIRVariableDcl, BIRVariableDcl> varMapping) {
+        BIROperand lhsOp = copyOperand(instruction.lhsOp, varMapping);
+        if (instruction instanceof Move move) {
+            return new Move(pos, copyOperand(move.rhsOp, varMapping), lhsOp);
+        }
+        if (instruction instanceof ConstantLoad constantLoad) {
+            return new ConstantLoad(pos, constantLoad.value, constantLoad.type, lhsOp);
+        }
+        if (instruction instanceof BinaryOp binaryOp) {
+            return new BinaryOp(pos, binaryOp.kind, binaryOp.type, lhsOp, copyOperand(binaryOp.rhsOp1, varMapping),
+                    copyOperand(binaryOp.rhsOp2, varMapping));
+        }
+        if (instruction instanceof UnaryOP unaryOP) {
+            return new UnaryOP(pos, unaryOP.kind, lhsOp, copyOperand(unaryOP.rhsOp, varMapping));
+        }
+        if (instruction instanceof TypeTest typeTest) {
+            return new TypeTest(pos, typeTest.type, lhsOp, copyOperand(typeTest.rhsOp, varMapping));
+        }
+        if (instruction instanceof IsLike isLike) {
+            return new IsLike(pos, isLike.type, lhsOp, copyOperand(isLike.rhsOp, varMapping));
+        }
+        if (instruction instanceof TypeCast typeCast) {
+            return new TypeCast(pos, lhsOp, copyOperand(typeCast.rhsOp, varMapping), typeCast.type,
+                    typeCast.checkTypes);
+        }
+        FieldAccess fieldAccess = (FieldAccess) instruction;
+        FieldAccess copy = new FieldAccess(pos, fieldAccess.kind, lhsOp, copyOperand(fieldAccess.keyOp, varMapping),
+                copyOperand(fieldAccess.rhsOp, varMapping), fieldAccess.optionalFieldAccess,
+                fieldAccess.fillingRead);
+        copy.onInitialization = fieldAccess.onInitialization;
+        return copy;
+    }
+
+    private static BIRTerminator copyTerminator(BIRTerminator terminator, Location pos, BirScope scope,
+                                                Map<BIRVariableDcl, BIRVariableDcl> varMapping,
+                                                Map<BIRBasicBlock, BIRBasicBlock> bbMapping,
+                                                BIRBasicBlock continuationBB) {
+        if (terminator instanceof BIRTerminator.GOTO gotoIns) {
+            return new BIRTerminator.GOTO(pos, bbMapping.get(gotoIns.targetBB), scope);
+        }
+        if (terminator instanceof BIRTerminator.Branch branch) {
+            return new BIRTerminator.Branch(pos, copyOperand(branch.op, varMapping), bbMapping.get(branch.trueBB),
+                    bbMapping.get(branch.falseBB), scope);
+        }
+        if (terminator instanceof BIRTerminator.Panic panic) {
+            // The error propagates from the caller as if it was raised by the call.
+            return new BIRTerminator.Panic(pos, copyOperand(panic.errorOp, varMapping), scope);
+        }
+        // The return value is already in the lhs variable of the call.
+        return new BIRTerminator.GOTO(pos, continuationBB, scope);
+    }
+
+    private static BIROperand copyOperand(BIROperand operand, Map<BIRVariableDcl, BIRVariableDcl> varMapping) {
+        if (operand == null) {
+            return null;
+        }
+        // Variables that are not local to the callee, such as globals, are shared with the caller.
+        return new BIROperand(varMapping.getOrDefault(operand.variableDcl, operand.variableDcl));
+    }
+
+    private boolean canInline(BIRTerminator.Call call, BIRFunction callee) {
+        List<BIRVariableDcl> params = getParameters(callee);
+        if (params.size() != call.args.size()) {
+            return false;
+        }
+        // Values are moved between variables as is, so both sides need the same representation.
+        for (int i = 0; i < params.size(); i++) {
+            if (!types.isSameType(call.args.get(i).variableDcl.type, params.get(i).type)) {
+                return false;
+            }
+        }
+        return call.lhsOp == null || types.isSameType(call.lhsOp.variableDcl.type, callee.returnVariable.type);
+    }
+
+    private static List<BIRVariableDcl> getParameters(BIRFunction function) {
+        List<BIRVariableDcl> params = new ArrayList<>(function.argsCount);
+        for (BIRVariableDcl localVar : function.localVars) {
+            if (localVar.kind == VarKind.ARG) {
+                params.add(localVar);
+            }
+        }
+        return params;
+    }
+
+    private static boolean isInlineable(BIRFunction function) {
+        // The trap regions of the callee would have to be copied to the caller. Methods are called virtually, and
+        // their receiver is not one of the arguments of the call.
+        if (function.basicBlocks.isEmpty() || !function.errorTable.isEmpty() || function.receiver != null
+                || function.returnVariable == null || function.pathParams != null
+                || (function.annotAttachments != null && !function.annotAttachments.isEmpty())
+                || getParameters(function).size() != function.argsCount) {
+            return false;
+        }
+        int size = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (!isInlineableTerminator(basicBlock.terminator)) {
+                return false;
+            }
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isInlineableInstruction(instruction)) {
+                    return false;
+                }
+            }
+            size += basicBlock.instructions.size() + 1;
+            if (size > MAX_INLINED_INSTRUCTIONS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Calls to functions which do not yield are not inlined either, since their callees would have to be inlined too.
+    private static boolean isInlineableTerminator(BIRTerminator terminator) {
+        return terminator instanceof BIRTerminator.GOTO || terminator instanceof BIRTerminator.Branch
+                || terminator instanceof BIRTerminator.Return || terminator instanceof BIRTerminator.Panic;
+    }
+
+    private static boolean isInlineableInstruction(BIRNonTerminator instruction) {
+        return instruction instanceof Move || instruction instanceof ConstantLoad || instruction instanceof BinaryOp
+                || instruction instanceof UnaryOP || instruction instanceof TypeTest || instruction instanceof IsLike
+                || instruction instanceof TypeCast || instruction instanceof FieldAccess;
+    }
+}
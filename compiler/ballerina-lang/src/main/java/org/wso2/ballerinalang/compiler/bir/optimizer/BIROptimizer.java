@@ -36,9 +36,11 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Lists;
 
@@ -52,6 +54,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.ballerinalang.compiler.CompilerOptionName.OPTIMIZE_BIR;
+import static org.wso2.ballerinalang.compiler.util.CompilerUtils.getBooleanValueIfSet;
+
 /**
  * Optimize BIR.
  *
@@ -65,6 +70,9 @@ public class BIROptimizer {
     private final BIRLockOptimizer lockOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
     private final LargeMethodOptimizer largeMethodOptimizer;
+    private final BIRFunctionInliner functionInliner;
+    private final BIRConstantFoldingOptimizer constantFoldingOptimizer;
+    private final CompilerOptions compilerOptions;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -82,9 +90,18 @@ public class BIROptimizer {
         this.lockOptimizer = new BIRLockOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
         this.largeMethodOptimizer = new LargeMethodOptimizer(SymbolTable.getInstance(context));
+        Types types = Types.getInstance(context);
+        this.functionInliner = new BIRFunctionInliner(types);
+        this.constantFoldingOptimizer = new BIRConstantFoldingOptimizer(types);
+        this.compilerOptions = CompilerOptions.getInstance(context);
     }
 
     public void optimizePackage(BIRPackage pkg) {
+        boolean optimizeBir = getBooleanValueIfSet(compilerOptions, OPTIMIZE_BIR);
+        // Inline small non-yielding functions before large methods are split
+        if (optimizeBir) {
+            this.functionInliner.inlineFunctions(pkg);
+        }
         // RHS temp var optimization
         pkg.accept(this.rhsTempVarOptimizer);
         // Split large BIR functions into smaller methods based on maps and arrays
@@ -95,6 +112,11 @@ public class BIROptimizer {
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
 
+        // Fold constant expressions and remove the branches they make unreachable
+        if (optimizeBir) {
+            this.constantFoldingOptimizer.optimizeNode(pkg);
+        }
+
         // Optimize BB - unnecessary goto removal
         bbOptimizer.optimizeNode(pkg, null);
 
@@ -65,6 +65,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangTableKeySpecifier;
 import org.wso2.ballerinalang.compiler.tree.BLangTupleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangCollectClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangDoClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangFromClause;
@@ -186,6 +187,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -199,6 +201,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -258,6 +261,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private boolean withinQuery = false;
     private boolean withinLambdaOrArrowFunc = false;
     private HashSet<BType> checkedErrorList;
+    // queries nested within another query, which have their variable references rewritten to the enclosing frames.
+    private final Set<BLangQueryExpr> nestedQueries = new HashSet<>();
     private BLangNode result;
 
     private QueryDesugar(CompilerContext context) {
@@ -293,6 +298,13 @@ public class QueryDesugar extends BLangNodeVisitor {
 
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
+        boolean isNestedQuery = nestedQueries.remove(queryExpr);
+        if (!isNestedQuery && isFusibleQuery(queryExpr)) {
+            this.env = env;
+            BLangStatementExpression loopStmtExpr = desugarToLoop(queryExpr, pos);
+            this.checkedErrorList = prevCheckedErrorList;
+            return loopStmtExpr;
+        }
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.getBType(), env,
                 queryBlock, stmtsToBePropagated);
@@ -354,6 +366,181 @@ public class QueryDesugar extends BLangNodeVisitor {
         return streamStmtExpr;
     }
 
+    /**
+     * Check whether the query expression can be desugared into a single foreach loop, without creating the
+     * stream pipeline and a _Frame per element. This is limited to queries of the form
+     * `from var x in list (where ... | let ...)* select ...` that construct a list, and are not nested in another
+     * query.
+     *
+     * @param queryExpr query expression.
+     * @return whether the query can be desugared into a loop.
+     */
+    private boolean isFusibleQuery(BLangQueryExpr queryExpr) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.isMap) {
+            return false;
+        }
+        BType resultType = Types.getImpliedType(queryExpr.getBType());
+        if (resultType.tag != TypeTags.ARRAY || ((BArrayType) resultType).state != BArrayState.OPEN
+                || Symbols.isFlagOn(queryExpr.getBType().flags, Flags.READONLY)
+                || Symbols.isFlagOn(resultType.flags, Flags.READONLY)) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        if (Types.getImpliedType(fromClause.collection.getBType()).tag != TypeTags.ARRAY
+                || !isSimpleVariableDef(fromClause.variableDefinitionNode)) {
+            return false;
+        }
+        LoopFusionBlockerFinder blockerFinder = new LoopFusionBlockerFinder();
+        blockerFinder.visitNode(fromClause.collection, null);
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case WHERE:
+                    blockerFinder.visitNode(((BLangWhereClause) clause).expression, null);
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        if (!isSimpleVariableDef(letVariable.definitionNode)) {
+                            return false;
+                        }
+                        blockerFinder.visitNode((BLangNode) letVariable.definitionNode, null);
+                    }
+                    break;
+                case SELECT:
+                    blockerFinder.visitNode(((BLangSelectClause) clause).expression, null);
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return !blockerFinder.foundBlocker;
+    }
+
+    private boolean isSimpleVariableDef(VariableDefinitionNode variableDefinitionNode) {
+        return variableDefinitionNode.getVariable().getKind() == NodeKind.VARIABLE;
+    }
+
+    /**
+     * Desugar a query expression accepted by {@link #isFusibleQuery(BLangQueryExpr)} to below.
+     * T[] $streamElement$_0 = [];
+     * foreach var x in list {
+     *     var y = letExpr;
+     *     if (whereExpr) {
+     *         $streamElement$_0[$streamElement$_0.length()] = selectExpr;
+     *     }
+     * }
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param pos       diagnostic pos of the query.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToLoop(BLangQueryExpr queryExpr, Location pos) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BType resultType = queryExpr.getBType();
+        BArrayType arrayType = (BArrayType) Types.getImpliedType(resultType);
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        // T[] $streamElement$_0 = [];
+        String name = getNewVarName();
+        BVarSymbol resultSymbol = new BVarSymbol(0, Names.fromString(name), env.scope.owner.pkgID, resultType,
+                env.scope.owner, pos, VIRTUAL);
+        BLangArrayLiteral arr = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        arr.exprs = new ArrayList<>();
+        arr.setBType(resultType);
+        BLangSimpleVariable resultVariable = ASTBuilderUtil.createVariable(pos, name, resultType, arr, resultSymbol);
+        queryBlock.addStatement(ASTBuilderUtil.createVariableDef(pos, resultVariable));
+
+        // The query variables are declared by new variables owned by the enclosing invokable, instead of changing
+        // the owners of the symbols of the query, and their references are updated to the new symbols.
+        Map<BSymbol, BVarSymbol> loopVarSymbols = new HashMap<>();
+
+        // T[] $collection$ = list;
+        // foreach var x in $collection$ { }
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        BType collectionType = fromClause.collection.getBType();
+        BVarSymbol collectionSymbol = new BVarSymbol(0, Names.fromString(getNewVarName()),
+                env.scope.owner.pkgID, collectionType, env.scope.owner, fromClause.collection.pos, VIRTUAL);
+        BLangSimpleVariable collectionVariable = ASTBuilderUtil.createVariable(fromClause.collection.pos,
+                collectionSymbol.name.value, collectionType, fromClause.collection, collectionSymbol);
+        queryBlock.addStatement(ASTBuilderUtil.createVariableDef(fromClause.collection.pos, collectionVariable));
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = fromClause.pos;
+        foreach.collection = ASTBuilderUtil.createVariableRef(fromClause.collection.pos, collectionSymbol);
+        foreach.variableDefinitionNode = createLoopVariableDef(
+                (BLangSimpleVariable) fromClause.variableDefinitionNode.getVariable(), loopVarSymbols);
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        foreach.body = ASTBuilderUtil.createBlockStmt(fromClause.pos);
+        queryBlock.addStatement(foreach);
+
+        // each where clause nests the statements of the clauses following it.
+        LoopVarRefUpdater varRefUpdater = new LoopVarRefUpdater(loopVarSymbols);
+        BLangBlockStmt body = foreach.body;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case WHERE:
+                    BLangIf ifStmt = ASTBuilderUtil.createIfStmt(clause.pos, body);
+                    ifStmt.expr = ((BLangWhereClause) clause).expression;
+                    varRefUpdater.visitNode(ifStmt.expr, null);
+                    ifStmt.body = ASTBuilderUtil.createBlockStmt(clause.pos);
+                    body = ifStmt.body;
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        BLangSimpleVariable variable = (BLangSimpleVariable) letVariable.definitionNode.getVariable();
+                        varRefUpdater.visitNode(variable.expr, null);
+                        body.addStatement(createLoopVariableDef(variable, loopVarSymbols));
+                    }
+                    break;
+                case SELECT:
+                    // $streamElement$_0[$streamElement$_0.length()] = selectExpr;
+                    BLangInvocation lengthInvocation = desugar.createLangLibInvocationNode("length",
+                            ASTBuilderUtil.createVariableRef(pos, resultSymbol), new ArrayList<>(),
+                            symTable.intType, clause.pos);
+                    BLangIndexBasedAccess indexAccessExpr = ASTBuilderUtil.createIndexAccessExpr(
+                            ASTBuilderUtil.createVariableRef(pos, resultSymbol), lengthInvocation);
+                    indexAccessExpr.pos = clause.pos;
+                    indexAccessExpr.isLValue = true;
+                    indexAccessExpr.setBType(arrayType.eType);
+                    BLangExpression selectExpr = ((BLangSelectClause) clause).expression;
+                    varRefUpdater.visitNode(selectExpr, null);
+                    selectExpr = types.addConversionExprIfRequired(selectExpr, arrayType.eType);
+                    body.addStatement(ASTBuilderUtil.createAssignmentStmt(clause.pos, indexAccessExpr, selectExpr));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        BLangStatementExpression loopStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                ASTBuilderUtil.createVariableRef(pos, resultSymbol));
+        loopStmtExpr.setBType(resultType);
+        return loopStmtExpr;
+    }
+
+    /**
+     * Creates the definition of a local variable declaring the given query variable, owned by the enclosing
+     * invokable. The initializer of the query variable, if any, is moved to the new variable.
+     *
+     * @param variable       query variable.
+     * @param loopVarSymbols map of query variable symbols to the symbols of the new variables.
+     * @return variable definition.
+     */
+    private BLangSimpleVariableDef createLoopVariableDef(BLangSimpleVariable variable,
+                                                         Map<BSymbol, BVarSymbol> loopVarSymbols) {
+        BVarSymbol symbol = variable.symbol;
+        BVarSymbol loopVarSymbol = new BVarSymbol(symbol.flags, symbol.name, symbol.pkgID, symbol.type,
+                env.scope.owner, symbol.pos, symbol.origin);
+        loopVarSymbols.put(symbol, loopVarSymbol);
+        BLangSimpleVariable loopVariable = ASTBuilderUtil.createVariable(variable.pos, symbol.name.value,
+                variable.getBType(), variable.expr, loopVarSymbol);
+        loopVariable.typeNode = variable.typeNode;
+        loopVariable.isDeclaredWithVar = variable.isDeclaredWithVar;
+        return ASTBuilderUtil.createVariableDef(variable.pos, loopVariable);
+    }
+
     private BMapType getMapType(BType type) {
         BMapType resultantType = (BMapType) Types.getImpliedType(types.getSafeType(type, false, true));
         return resultantType;
@@ -504,7 +691,10 @@ public class QueryDesugar extends BLangNodeVisitor {
                 initFromClause.collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        // limit function created ahead of an order by clause, so that the order by can keep only the top-K frames.
+        BLangVariableReference orderByLimitFunc = null;
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -535,8 +725,15 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause,
-                            stmtsToBePropagated);
+                    BLangOrderByClause orderByClause = (BLangOrderByClause) clause;
+                    if (i + 1 < clauses.size() && clauses.get(i + 1).getKind() == NodeKind.LIMIT) {
+                        BLangLimitClause limitClause = (BLangLimitClause) clauses.get(i + 1);
+                        if (isFrameIndependent(limitClause.expression, orderByClause.env, initFromClause.env)) {
+                            orderByLimitFunc = addLimitFunction(block, limitClause);
+                        }
+                    }
+                    BLangVariableReference orderFunc = addOrderByFunction(block, orderByClause,
+                            orderByLimitFunc, stmtsToBePropagated);
                     addStreamFunction(block, initPipeline, orderFunc);
                     break;
                 case GROUP_BY:
@@ -559,7 +756,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, doFunc);
                     break;
                 case LIMIT:
-                    BLangVariableReference limitFunc = addLimitFunction(block, (BLangLimitClause) clause);
+                    BLangVariableReference limitFunc = orderByLimitFunc != null ? orderByLimitFunc :
+                            addLimitFunction(block, (BLangLimitClause) clause);
+                    orderByLimitFunc = null;
                     addStreamFunction(block, initPipeline, limitFunc);
                     break;
                 case ON_CONFLICT:
@@ -792,14 +991,17 @@ public class QueryDesugar extends BLangNodeVisitor {
      * Desugar orderByClause to below and return a reference to created orderBy _StreamFunction.
      * _StreamFunction orderByFunc = createOrderByFunction(function(_Frame frame) {
      * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
-     * });
+     * }, limitFunc);
      *
      * @param blockStmt           parent block to write to.
      * @param orderByClause       to be desugared.
+     * @param limitFunc           limit _StreamFunction of the limit clause directly following the order by clause,
+     *                            or null if there is none.
      * @param stmtsToBePropagated list of statements to be propagated.
      * @return variableReference to created orderBy _StreamFunction.
      */
     BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                              BLangVariableReference limitFunc,
                                               List<BLangStatement> stmtsToBePropagated) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
@@ -833,7 +1035,10 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
+        BLangExpression limitFuncArg = limitFunc != null ? limitFunc :
+                ASTBuilderUtil.createLiteral(pos, symTable.nilType, Names.NIL_VALUE);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION,
+                Lists.of(lambda, limitFuncArg), pos);
     }
 
     BLangVariableReference addGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
@@ -998,6 +1203,49 @@ public class QueryDesugar extends BLangNodeVisitor {
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
     }
 
+    /**
+     * Checks whether the limit expression of a limit clause can be evaluated before the frames are ordered, so that
+     * the order by clause preceding it can keep only the top frames. This is the case only if the expression does
+     * not refer to the query variables and its value cannot be changed while the frames are processed.
+     *
+     * @param expr       limit expression.
+     * @param clauseEnv  symbol env of the clause preceding the limit clause.
+     * @param fromEnv    symbol env of the initial from clause.
+     * @return whether the limit expression is independent of the frames.
+     */
+    private boolean isFrameIndependent(BLangExpression expr, SymbolEnv clauseEnv, SymbolEnv fromEnv) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return true;
+            case CONSTANT_REF:
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == null || clauseEnv == null || fromEnv == null) {
+                    return false;
+                }
+                for (SymbolEnv queryEnv = clauseEnv; queryEnv != fromEnv.enclEnv; queryEnv = queryEnv.enclEnv) {
+                    if (queryEnv == null || queryEnv.scope.entries.containsKey(symbol.name)) {
+                        return false;
+                    }
+                }
+                // Module level variables and captured local variables may be updated by the query clauses.
+                return symbol.tag == SymTag.CONSTANT || Symbols.isFlagOn(symbol.flags, Flags.FINAL)
+                        || (symbol.owner != null && (symbol.owner.tag & SymTag.INVOKABLE) == SymTag.INVOKABLE
+                        && !symbol.closure);
+            case GROUP_EXPR:
+                return isFrameIndependent(((BLangGroupExpr) expr).expression, clauseEnv, fromEnv);
+            case UNARY_EXPR:
+                return isFrameIndependent(((BLangUnaryExpr) expr).expr, clauseEnv, fromEnv);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return isFrameIndependent(binaryExpr.lhsExpr, clauseEnv, fromEnv)
+                        && isFrameIndependent(binaryExpr.rhsExpr, clauseEnv, fromEnv);
+            default:
+                return false;
+        }
+    }
+
     /**
      * Desugar to following invocation.
      * stream:addStreamFunction(pipeline, streamFunction);
@@ -2567,6 +2815,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         boolean prevWithinQuery = withinQuery;
         // This can be set to true directly since it's invoked only for nested queries.
         this.withinQuery = true;
+        nestedQueries.add(queryExpr);
         queryExpr.getQueryClauses().forEach(this::acceptNode);
         this.withinQuery = prevWithinQuery;
         this.queryEnv = prevQueryEnv;
@@ -2814,4 +3063,71 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
         return nodeList;
     }
+
+    /**
+     * Updates the references to the query variables of a query desugared into a loop, to refer to the local
+     * variables declaring them.
+     */
+    private static class LoopVarRefUpdater extends SimpleBLangNodeAnalyzer<Void> {
+
+        private final Map<BSymbol, BVarSymbol> loopVarSymbols;
+
+        LoopVarRefUpdater(Map<BSymbol, BVarSymbol> loopVarSymbols) {
+            this.loopVarSymbols = loopVarSymbols;
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Void data) {
+            if (node.getKind() != NodeKind.SIMPLE_VARIABLE_REF) {
+                return;
+            }
+            BLangSimpleVarRef varRef = (BLangSimpleVarRef) node;
+            BSymbol symbol = varRef.symbol;
+            if (symbol == null) {
+                return;
+            }
+            // references narrowed by a where clause refer to the original symbol once desugared
+            if ((symbol.tag & SymTag.VARIABLE) == SymTag.VARIABLE && ((BVarSymbol) symbol).originalSymbol != null) {
+                symbol = ((BVarSymbol) symbol).originalSymbol;
+            }
+            BVarSymbol loopVarSymbol = loopVarSymbols.get(symbol);
+            if (loopVarSymbol != null) {
+                varRef.symbol = loopVarSymbol;
+            }
+        }
+    }
+
+    /**
+     * Finds expressions that prevent a query from being desugared into a loop. Check expressions rely on the
+     * error handling of the stream pipeline, while functions, object constructors and nested queries may capture
+     * the query variables.
+     */
+    private static class LoopFusionBlockerFinder extends SimpleBLangNodeAnalyzer<Void> {
+
+        private boolean foundBlocker = false;
+
+        @Override
+        public void analyzeNode(BLangNode node, Void data) {
+            switch (node.getKind()) {
+                case CHECK_EXPR:
+                case LAMBDA:
+                case ARROW_EXPR:
+                case OBJECT_CTOR_EXPRESSION:
+                case QUERY_EXPR:
+                case QUERY_ACTION:
+                case STATEMENT_EXPRESSION:
+                case WORKER_RECEIVE:
+                case ALTERNATE_WORKER_RECEIVE:
+                case MULTIPLE_WORKER_RECEIVE:
+                case WORKER_ASYNC_SEND:
+                case WORKER_SYNC_SEND:
+                case WORKER_FLUSH:
+                case WAIT_EXPR:
+                    foundBlocker = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
 }
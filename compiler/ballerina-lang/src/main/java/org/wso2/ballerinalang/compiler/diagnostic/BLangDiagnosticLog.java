@@ -102,6 +102,19 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         reportDiagnostic((ModuleDescriptor) null, code, location, msg, DiagnosticSeverity.ERROR, args);
     }
 
+    /**
+     * Log an error of a given package.
+     *
+     * @param packageID Package ID of the error associated with
+     * @param location  Location of the error in the source code.
+     * @param code      Error code
+     * @param args      Parameters associated with the error
+     */
+    public void error(PackageID packageID, Location location, DiagnosticCode code, Object... args) {
+        String msg = formatMessage(ERROR_PREFIX, code, args);
+        reportDiagnostic(packageID, code, location, msg, DiagnosticSeverity.ERROR, args);
+    }
+
     /**
      * Log a warning.
      *
@@ -204,7 +217,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param pkgId Package ID of the diagnostic associated with
      * @param diagnostic the diagnostic to be logged
      */
-    public void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+    public synchronized void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
@@ -230,8 +243,9 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         reportDiagnostic(pkgId, diagnosticCode, location, msg, severity, args);
     }
 
-    private void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode, Location location,
-                                  String msg, DiagnosticSeverity severity, Object[] args) {
+    // Backend code of independent modules is generated concurrently, which may report diagnostics at the same time
+    private synchronized void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode, Location location,
+                                               String msg, DiagnosticSeverity severity, Object[] args) {
         if (severity == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.projects.internal;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the {@link ModuleLevelSignatureBuilder}.
+ *
+ * @since 2201.10.0
+ */
+public class ModuleLevelSignatureBuilderTest {
+
+    private static final String SOURCE = """
+            public function concatStrings(string a, string b) returns string {
+                return a + b;
+            }
+
+            public const SEPARATOR = ",";
+            """;
+
+    @Test
+    public void testBodyEditWhichChangesLineCountKeepsSignature() {
+        String editedSource = """
+                public function concatStrings(string a, string b) returns string {
+                    // the declarations below this function move down
+                    string result = b + a;
+
+                    return result;
+                }
+
+                public const SEPARATOR = ",";
+                """;
+        Assert.assertEquals(signature(editedSource), signature(SOURCE));
+    }
+
+    @Test
+    public void testMinutiaeEditKeepsSignature() {
+        String editedSource = "// concatenates strings\n" + SOURCE.replace("string a, string b", "string a,  string b");
+        Assert.assertEquals(signature(editedSource), signature(SOURCE));
+    }
+
+    @Test
+    public void testModuleLevelEditChangesSignature() {
+        Assert.assertNotEquals(signature(SOURCE.replace("string b", "int b")), signature(SOURCE));
+        Assert.assertNotEquals(signature(SOURCE.replace("\",\"", "\";\"")), signature(SOURCE));
+        Assert.assertNotEquals(signature(SOURCE.replace("public const", "const")), signature(SOURCE));
+    }
+
+    private static String signature(String source) {
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(source));
+        return ModuleLevelSignatureBuilder.build((ModulePartNode) syntaxTree.rootNode());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.projects.internal.jballerina;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the {@link CodeGenScheduler}.
+ *
+ * @since 2201.10.0
+ */
+public class CodeGenSchedulerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testDependenciesAreGeneratedFirst() throws Exception {
+        // a <- b, a <- c, (b, c) <- d
+        List<String> generated = new CopyOnWriteArrayList<>();
+        List<String> written = new CopyOnWriteArrayList<>();
+        CodeGenScheduler<String> scheduler = new CodeGenScheduler<>();
+        schedule(scheduler, "a", List.of(), generated, written);
+        schedule(scheduler, "b", List.of("a"), generated, written);
+        schedule(scheduler, "c", List.of("a", "langlib"), generated, written);
+        schedule(scheduler, "d", List.of("b", "c"), generated, written);
+        scheduler.generate(4);
+
+        Assert.assertEquals(generated.size(), 4);
+        Assert.assertEquals(generated.get(0), "a");
+        Assert.assertEquals(Set.copyOf(generated.subList(1, 3)), Set.of("b", "c"));
+        Assert.assertEquals(generated.get(3), "d");
+        Assert.assertEquals(Set.copyOf(written), Set.of("a", "b", "c", "d"));
+    }
+
+    @Test
+    public void testIndependentModulesAreGeneratedConcurrently() throws Exception {
+        // Each module waits for the other one to start generating
+        CountDownLatch started = new CountDownLatch(2);
+        CodeGenScheduler<String> scheduler = new CodeGenScheduler<>();
+        for (String module : List.of("a", "b")) {
+            scheduler.schedule(module, List.of(), () -> {
+                started.countDown();
+                try {
+                    return started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }, () -> { });
+        }
+        scheduler.generate(2);
+        Assert.assertEquals(started.getCount(), 0);
+    }
+
+    @Test
+    public void testDependentsOfFailedModulesAreSkipped() throws Exception {
+        List<String> generated = new CopyOnWriteArrayList<>();
+        List<String> written = new CopyOnWriteArrayList<>();
+        CodeGenScheduler<String> scheduler = new CodeGenScheduler<>();
+        scheduler.schedule("a", List.of(), () -> {
+            generated.add("a");
+            return false;
+        }, () -> written.add("a"));
+        schedule(scheduler, "b", List.of("a"), generated, written);
+        schedule(scheduler, "c", List.of(), generated, written);
+        scheduler.generate(2);
+
+        Assert.assertEquals(Set.copyOf(generated), Set.of("a", "c"));
+        Assert.assertEquals(written, List.of("c"));
+    }
+
+    @Test
+    public void testFailureIsThrownAfterOtherModulesAreWritten() throws Exception {
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        IllegalStateException writeFailure = new IllegalStateException("failed to write a");
+        CodeGenScheduler<String> scheduler = new CodeGenScheduler<>();
+        scheduler.schedule("a", List.of(), () -> true, () -> {
+            throw writeFailure;
+        });
+        scheduler.schedule("b", List.of(), () -> true, () -> written.add("b"));
+        scheduler.schedule("c", List.of("a"), () -> true, () -> written.add("c"));
+        try {
+            scheduler.generate(2);
+            Assert.fail("expected the write failure to be thrown");
+        } catch (ExecutionException e) {
+            Assert.assertSame(e.getCause(), writeFailure);
+        }
+        // Dependents do not wait for the code of their dependencies to be written
+        Assert.assertEquals(written, Set.of("b", "c"));
+
+        // The scheduled modules are cleared after they are generated
+        scheduler.generate(2);
+        Assert.assertEquals(written, Set.of("b", "c"));
+    }
+
+    @Test
+    public void testGenerationFailureSkipsDependents() throws Exception {
+        List<String> generated = new CopyOnWriteArrayList<>();
+        List<String> written = new CopyOnWriteArrayList<>();
+        RuntimeException generateFailure = new RuntimeException("failed to generate a");
+        CodeGenScheduler<String> scheduler = new CodeGenScheduler<>();
+        scheduler.schedule("a", List.of(), () -> {
+            throw generateFailure;
+        }, () -> written.add("a"));
+        schedule(scheduler, "b", List.of("a"), generated, written);
+        try {
+            scheduler.generate(2);
+            Assert.fail("expected the generation failure to be thrown");
+        } catch (ExecutionException e) {
+            Assert.assertSame(e.getCause(), generateFailure);
+        }
+        Assert.assertTrue(generated.isEmpty());
+        Assert.assertTrue(written.isEmpty());
+    }
+
+    private static void schedule(CodeGenScheduler<String> scheduler, String module, List<String> dependencies,
+                                 List<String> generated, List<String> written) {
+        scheduler.schedule(module, dependencies, () -> {
+            generated.add(module);
+            return true;
+        }, () -> written.add(module));
+    }
+}
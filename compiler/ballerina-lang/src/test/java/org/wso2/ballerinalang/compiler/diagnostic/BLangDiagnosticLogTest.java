@@ -31,6 +31,7 @@ import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.ballerinalang.util.diagnostic.DiagnosticLog;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -41,7 +42,12 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Name;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Tests for {@link @BLangDiagnosticLog} class.
@@ -95,6 +101,43 @@ public class BLangDiagnosticLogTest {
         assertDiagnosticEqual(diagnosticList.get(0), "Diagnostic Message", DiagnosticSeverity.WARNING, location);
     }
 
+    @Test
+    public void testLogErrorsOfPackagesConcurrently() throws Exception {
+        // Backend code of independent modules is generated concurrently, which log errors against their own packages
+        BLangDiagnosticLog dlog = (BLangDiagnosticLog) this.dlog;
+        PackageCache packageCache = PackageCache.getInstance(context);
+        List<PackageID> packageIDs = List.of(createPackageID("org.diagnostic.log", "first", "1.0.0"),
+                createPackageID("org.diagnostic.log", "second", "1.0.0"));
+        for (PackageID packageID : packageIDs) {
+            packageCache.put(packageID, (BLangPackage) TreeBuilder.createPackageNode());
+        }
+
+        int errorsPerPackage = 1000;
+        int initialErrorCount = dlog.errorCount();
+        Location location = new BLangDiagnosticLocation("test.bal", 1, 1, 1, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(packageIDs.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (PackageID packageID : packageIDs) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < errorsPerPackage; i++) {
+                        dlog.error(packageID, location, DiagnosticErrorCode.METHOD_TOO_LARGE, "function" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(dlog.errorCount() - initialErrorCount, errorsPerPackage * packageIDs.size());
+        for (PackageID packageID : packageIDs) {
+            Assert.assertEquals(packageCache.get(packageID).getDiagnostics().size(), errorsPerPackage);
+        }
+    }
+
     @Test
     public void testDiagnosticHashCollusion() {
         BLangDiagnosticLog dlog = (BLangDiagnosticLog) this.dlog;
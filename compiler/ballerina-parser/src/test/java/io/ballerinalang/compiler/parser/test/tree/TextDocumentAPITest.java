@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerinalang.compiler.parser.test.tree;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.CharReader;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Contains cases to test that edited {@code TextDocument}s behave the same as documents created from the edited text.
+ *
+ * @since 2201.10.0
+ */
+public class TextDocumentAPITest {
+
+    private static final String[] INSERTED_TEXTS = {"", "a", "\n", "\r", "\r\n", "int x = 5;\r\n", "\n\n\r",
+            "function foo() {\n    return;\n}\n"};
+
+    @Test
+    public void testSingleEdit() {
+        TextDocument textDocument = TextDocuments.from("function foo() {\n    int a = 5;\n}\n");
+        // Compute the line map before the edit, so that it is updated instead of being created again
+        Assert.assertEquals(textDocument.textLines().size(), 4);
+
+        TextDocument newTextDocument = apply(textDocument, TextEdit.from(TextRange.from(21, 10), "string b = \"\";"));
+        assertEquals(newTextDocument, "function foo() {\n    string b = \"\";\n}\n");
+    }
+
+    @Test
+    public void testEditsSplittingAndJoiningCrLf() {
+        TextDocument textDocument = TextDocuments.from("a\r\nb\r\nc");
+        textDocument.textLines();
+
+        TextDocument newTextDocument = apply(textDocument, TextEdit.from(TextRange.from(2, 0), "x"));
+        assertEquals(newTextDocument, "a\rx\nb\r\nc");
+
+        newTextDocument = apply(newTextDocument, TextEdit.from(TextRange.from(2, 1), ""));
+        assertEquals(newTextDocument, "a\r\nb\r\nc");
+
+        newTextDocument = apply(newTextDocument, TextEdit.from(TextRange.from(6, 1), "\r"));
+        assertEquals(newTextDocument, "a\r\nb\r\n\r");
+    }
+
+    @Test
+    public void testMultipleEditsInOneChange() {
+        TextDocument textDocument = TextDocuments.from("line1\nline2\nline3\nline4\n");
+        textDocument.textLines();
+
+        TextDocument newTextDocument = apply(textDocument,
+                TextEdit.from(TextRange.from(0, 5), "first"),
+                TextEdit.from(TextRange.from(6, 6), ""),
+                TextEdit.from(TextRange.from(18, 5), "last\r\nline"));
+        assertEquals(newTextDocument, "first\nline3\nlast\r\nline\n");
+    }
+
+    @Test
+    public void testRandomEditsOnLargeDocument() {
+        Random random = new Random(7);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append("function f").append(i).append("() {\n    int a = ").append(i).append(";\r\n}\n");
+        }
+        String text = sb.toString();
+        TextDocument textDocument = TextDocuments.from(text);
+        textDocument.textLines();
+
+        for (int i = 0; i < 300; i++) {
+            int start = random.nextInt(text.length() + 1);
+            int length = random.nextInt(Math.min(64, text.length() - start) + 1);
+            String newText = INSERTED_TEXTS[random.nextInt(INSERTED_TEXTS.length)];
+            textDocument = apply(textDocument, TextEdit.from(TextRange.from(start, length), newText));
+            text = text.substring(0, start) + newText + text.substring(start + length);
+            if (i % 50 == 0) {
+                assertEquals(textDocument, text);
+            }
+        }
+        assertEquals(textDocument, text);
+        Assert.assertEquals(SyntaxTree.from(textDocument).toSourceCode(), text);
+    }
+
+    @Test
+    public void testCharReaderOfEditedDocument() {
+        String text = "x".repeat(3000);
+        TextDocument textDocument = apply(TextDocuments.from(text), TextEdit.from(TextRange.from(1500, 10), "yz"));
+        String expectedText = text.substring(0, 1500) + "yz" + text.substring(1510);
+
+        CharReader charReader = CharReader.from(textDocument);
+        charReader.mark();
+        for (int i = 0; i < expectedText.length(); i++) {
+            Assert.assertEquals(charReader.peek(), expectedText.charAt(i));
+            charReader.advance();
+        }
+        Assert.assertTrue(charReader.isEOF());
+        Assert.assertEquals(charReader.peek(), Character.MAX_VALUE);
+        Assert.assertEquals(charReader.getMarkedChars(), expectedText);
+
+        charReader.reset(1499);
+        charReader.mark();
+        charReader.advance(3);
+        Assert.assertEquals(charReader.getMarkedChars(), "xyz");
+        Assert.assertEquals(charReader.peek(-3), 'x');
+    }
+
+    private static TextDocument apply(TextDocument textDocument, TextEdit... textEdits) {
+        return textDocument.apply(TextDocumentChange.from(textEdits));
+    }
+
+    private static void assertEquals(TextDocument actual, String expectedText) {
+        TextDocument expected = TextDocuments.from(expectedText);
+        Assert.assertEquals(actual.toString(), expectedText);
+        Assert.assertEquals(new String(actual.toCharArray()), expectedText);
+        Assert.assertEquals(actual.textLines(), expected.textLines());
+        for (int i = 0; i < expected.textLines().size(); i++) {
+            Assert.assertEquals(actual.line(i).startOffset(), expected.line(i).startOffset());
+            Assert.assertEquals(actual.line(i).endOffset(), expected.line(i).endOffset());
+            Assert.assertEquals(actual.line(i).endOffsetWithNewLines(), expected.line(i).endOffsetWithNewLines());
+        }
+        for (int position = 0; position <= expectedText.length(); position++) {
+            LinePosition linePosition = expected.linePositionFrom(position);
+            Assert.assertEquals(actual.linePositionFrom(position), linePosition);
+            if (linePosition.offset() <= expected.line(linePosition.line()).length()) {
+                Assert.assertEquals(actual.textPositionFrom(linePosition), position);
+            }
+        }
+    }
+}
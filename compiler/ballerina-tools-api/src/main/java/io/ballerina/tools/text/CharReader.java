@@ -26,18 +26,35 @@ import java.util.Arrays;
  */
 public class CharReader {
 
+    // Characters of the current chunk. This is the whole text, unless the text is read from a rope.
     private char[] charBuffer;
+    private int chunkStart = 0;
+    private int chunkLength;
+    private final Rope rope;
+    private final int textLength;
     private int offset = 0;
-    private int charBufferLength;
 
     private int lexemeStartPos;
 
     private CharReader(char[] buffer) {
         this.charBuffer = buffer;
-        this.charBufferLength = buffer.length;
+        this.chunkLength = buffer.length;
+        this.rope = null;
+        this.textLength = buffer.length;
+    }
+
+    private CharReader(Rope rope) {
+        this.charBuffer = new char[0];
+        this.chunkLength = 0;
+        this.rope = rope;
+        this.textLength = rope.length();
     }
 
     public static CharReader from(TextDocument textDocument) {
+        // Read the chunks of a rope as they are, instead of copying the whole text
+        if (textDocument instanceof RopeTextDocument ropeTextDocument) {
+            return new CharReader(ropeTextDocument.rope());
+        }
         return new CharReader(textDocument.toCharArray());
     }
 
@@ -50,22 +67,11 @@ public class CharReader {
     }
 
     public char peek() {
-        if (offset < charBufferLength) {
-            return charBuffer[offset];
-        } else {
-            // TODO Revisit this branch
-            return Character.MAX_VALUE;
-        }
+        return charAt(offset);
     }
 
     public char peek(int k) {
-        int n = offset + k;
-        if (n < charBufferLength) {
-            return charBuffer[n];
-        } else {
-            // TODO Revisit this branch
-            return Character.MAX_VALUE;
-        }
+        return charAt(offset + k);
     }
 
     /**
@@ -91,10 +97,61 @@ public class CharReader {
      * @return {@link String} consist of the marked chars
      */
     public String getMarkedChars() {
-        return new String(Arrays.copyOfRange(charBuffer, lexemeStartPos, offset));
+        int start = lexemeStartPos - chunkStart;
+        int end = offset - chunkStart;
+        if (start >= 0 && end <= chunkLength && start <= end) {
+            return new String(charBuffer, start, end - start);
+        }
+        if (rope == null) {
+            return new String(Arrays.copyOfRange(charBuffer, lexemeStartPos, offset));
+        }
+
+        char[] chars = new char[offset - lexemeStartPos];
+        int ropeEnd = Math.min(offset, textLength);
+        rope.getChars(lexemeStartPos, ropeEnd, chars, 0);
+        return new String(chars);
     }
 
     public boolean isEOF() {
-        return offset >= charBufferLength;
+        return offset >= textLength;
+    }
+
+    private char charAt(int n) {
+        int index = n - chunkStart;
+        if (index >= 0 && index < chunkLength) {
+            return charBuffer[index];
+        }
+        if (n >= textLength) {
+            // TODO Revisit this branch
+            return Character.MAX_VALUE;
+        }
+        if (rope == null) {
+            return charBuffer[n];
+        }
+
+        loadChunk(n);
+        return charBuffer[n - chunkStart];
+    }
+
+    /**
+     * Makes the chunk of the rope which contains the given position the current chunk.
+     *
+     * @param n position in the text
+     */
+    private void loadChunk(int n) {
+        Rope chunk = rope;
+        int start = 0;
+        while (!chunk.isLeaf()) {
+            int leftLength = chunk.left.length();
+            if (n - start < leftLength) {
+                chunk = chunk.left;
+            } else {
+                start += leftLength;
+                chunk = chunk.right;
+            }
+        }
+        charBuffer = chunk.chars;
+        chunkStart = start;
+        chunkLength = chunk.length();
     }
 }
@@ -18,37 +18,89 @@
 package io.ballerina.tools.text;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * The {@code LineMap} represents a collection text lines in the {@code TextDocument}.
+ * <p>
+ * Only the start offsets of the lines are computed upfront. A {@code TextLine} is created when it is first requested.
  *
  * @since 2.0.0
  */
 class LineMap {
-    private final TextLine[] textLines;
+    private final CharSequence text;
+    private final int[] lineStartOffsets;
     private final int length;
+    private final TextLine[] textLines;
+
+    private LineMap(CharSequence text, int[] lineStartOffsets, int length) {
+        this.text = text;
+        this.lineStartOffsets = lineStartOffsets;
+        this.length = length;
+        this.textLines = new TextLine[length];
+    }
 
-    LineMap(TextLine[] textLines) {
-        this.textLines = textLines;
-        this.length = textLines.length;
+    static LineMap from(CharSequence text) {
+        LineStartOffsets offsets = new LineStartOffsets(16);
+        offsets.add(0);
+        addLineStartOffsets(text, 0, text.length(), true, offsets);
+        return new LineMap(text, offsets.offsets, offsets.size);
+    }
+
+    /**
+     * Returns the line map of the text created by replacing a range of the text of this line map.
+     * <p>
+     * Only the lines around the replaced range are scanned again, the offsets of the other lines are reused.
+     *
+     * @param newText        the new text
+     * @param startOffset    start offset of the replaced range
+     * @param endOffset      end offset of the replaced range in the old text
+     * @param insertedLength length of the text which replaced the range
+     * @return the line map of the new text
+     */
+    LineMap apply(CharSequence newText, int startOffset, int endOffset, int insertedLength) {
+        int delta = insertedLength - (endOffset - startOffset);
+
+        // Start from the line before the edit and stop at the second line after it, so that a "\r\n" split or
+        // joined by the edit is scanned as a whole
+        int firstLine = Math.max(0, findLineIndex(startOffset) - 1);
+        int nextLine = findLineIndex(endOffset) + 2;
+        boolean scanToEnd = nextLine >= length;
+        int scanStart = lineStartOffsets[firstLine];
+        int scanEnd = scanToEnd ? newText.length() : lineStartOffsets[nextLine] + delta;
+
+        LineStartOffsets offsets = new LineStartOffsets(length + 16);
+        offsets.addAll(lineStartOffsets, firstLine + 1);
+        addLineStartOffsets(newText, scanStart, scanEnd, scanToEnd, offsets);
+        if (!scanToEnd) {
+            for (int line = nextLine; line < length; line++) {
+                offsets.add(lineStartOffsets[line] + delta);
+            }
+        }
+        return new LineMap(newText, offsets.offsets, offsets.size);
     }
 
     TextLine textLine(int line) {
         lineRangeCheck(line);
-        return textLines[line];
+        TextLine textLine = textLines[line];
+        if (textLine == null) {
+            textLine = createTextLine(line);
+            textLines[line] = textLine;
+        }
+        return textLine;
     }
 
     LinePosition linePositionFrom(int position) {
         positionRangeCheck(position);
-        TextLine textLine = findLineFrom(position);
-        return LinePosition.from(textLine.lineNo(), position - textLine.startOffset());
+        int line = findLineIndex(position);
+        return LinePosition.from(line, position - lineStartOffsets[line]);
     }
 
     int textPositionFrom(LinePosition linePosition) {
         lineRangeCheck(linePosition.line());
-        TextLine textLine = textLines[linePosition.line()];
+        TextLine textLine = textLine(linePosition.line());
         if (textLine.length() < linePosition.offset()) {
             throw new IllegalArgumentException("Cannot find a line with the character offset '" +
                     linePosition.offset() + "'");
@@ -58,62 +110,135 @@ class LineMap {
     }
 
     List<String> textLines() {
-        List<String> lines = new ArrayList();
-        for (TextLine textLine : textLines) {
-            lines.add(textLine.text());
+        List<String> lines = new ArrayList<>(length);
+        for (int line = 0; line < length; line++) {
+            lines.add(textLine(line).text());
         }
 
         return Collections.unmodifiableList(lines);
     }
 
+    private TextLine createTextLine(int line) {
+        int startOffset = lineStartOffsets[line];
+        int lengthOfNewLineChars = 0;
+        int endOffset = text.length();
+        if (line + 1 < length) {
+            int nextStartOffset = lineStartOffsets[line + 1];
+            lengthOfNewLineChars = nextStartOffset - startOffset >= 2 && text.charAt(nextStartOffset - 1) == '\n'
+                    && text.charAt(nextStartOffset - 2) == '\r' ? 2 : 1;
+            endOffset = nextStartOffset - lengthOfNewLineChars;
+        }
+        return new TextLine(line, text.subSequence(startOffset, endOffset).toString(), startOffset, endOffset,
+                lengthOfNewLineChars);
+    }
+
     private void positionRangeCheck(int position) {
-        if (position < 0 || position > textLines[length - 1].endOffset()) {
-            throw new IndexOutOfBoundsException("Index: '" + position + "', Size: '" +
-                    textLines[length - 1].endOffset() + "'");
+        if (position < 0 || position > text.length()) {
+            throw new IndexOutOfBoundsException("Index: '" + position + "', Size: '" + text.length() + "'");
         }
     }
 
     private void lineRangeCheck(int lineNo) {
-        if (lineNo < 0 || lineNo > length) {
+        if (lineNo < 0 || lineNo >= length) {
             throw new IndexOutOfBoundsException("Line number: '" + lineNo + "', Size: '" + length + "'");
         }
     }
 
     /**
-     * Return the {@code TextLine} to which the given position belongs to.
+     * Return the index of the line to which the given position belongs to.
      * <p>
-     * Perform a binary search to find the matching text line.
+     * Perform a binary search to find the last line which starts at or before the given position.
      *
      * @param position of the source text
-     * @return the {@code TextLine} to which the given position belongs to
+     * @return the index of the line to which the given position belongs to
      */
-    private TextLine findLineFrom(int position) {
-        // Check boundary conditions
-        if (position == 0) {
-            return textLines[0];
-        } else if (position == textLines[length - 1].endOffset()) {
-            return textLines[length - 1];
-        }
-
-        TextLine foundTextLine = null;
+    private int findLineIndex(int position) {
         int left = 0;
         int right = length - 1;
-        while (left <= right) {
+        while (left < right) {
             // Using >>> handle the case when the sum of left and right is greater than
             // the maximum positive int value (2^31 - 1)
             // FYI: https://ai.googleblog.com/2006/06/extra-extra-read-all-about-it-nearly.html
-            int middle = (left + right) >>> 1;
-            int startOffset = textLines[middle].startOffset();
-            int endOffset = textLines[middle].endOffsetWithNewLines();
-            if (startOffset <= position && position < endOffset) {
-                foundTextLine = textLines[middle];
-                break;
-            } else if (endOffset <= position) {
-                left = middle + 1;
+            int middle = (left + right + 1) >>> 1;
+            if (lineStartOffsets[middle] <= position) {
+                left = middle;
             } else {
                 right = middle - 1;
             }
         }
-        return foundTextLine;
+        return left;
+    }
+
+    /**
+     * Adds the start offsets of the lines which begin after a line break in the given range of the text.
+     *
+     * @param text       source text
+     * @param start      start offset of the range
+     * @param end        end offset of the range
+     * @param includeEnd whether to add a line starting at the end offset of the range
+     * @param offsets    list to add the offsets to
+     */
+    private static void addLineStartOffsets(CharSequence text, int start, int end, boolean includeEnd,
+                                            LineStartOffsets offsets) {
+        char[] chars = getChars(text, start, end);
+        int textLength = text.length();
+        int index = 0;
+        int rangeLength = chars.length;
+        while (index < rangeLength) {
+            char c = chars[index];
+            if (c != '\r' && c != '\n') {
+                index++;
+                continue;
+            }
+
+            int nextCharIndex = index + 1;
+            boolean isCrLf = c == '\r' && (nextCharIndex < rangeLength ? chars[nextCharIndex] == '\n' :
+                    start + nextCharIndex < textLength && text.charAt(start + nextCharIndex) == '\n');
+            index += isCrLf ? 2 : 1;
+            if (index < rangeLength || includeEnd) {
+                offsets.add(start + index);
+            }
+        }
+    }
+
+    private static char[] getChars(CharSequence text, int start, int end) {
+        char[] chars = new char[end - start];
+        if (text instanceof String string) {
+            string.getChars(start, end, chars, 0);
+        } else if (text instanceof Rope rope) {
+            rope.getChars(start, end, chars, 0);
+        } else {
+            for (int i = start; i < end; i++) {
+                chars[i - start] = text.charAt(i);
+            }
+        }
+        return chars;
+    }
+
+    /**
+     * A growable list of line start offsets.
+     */
+    private static class LineStartOffsets {
+        private int[] offsets;
+        private int size;
+
+        LineStartOffsets(int initialCapacity) {
+            this.offsets = new int[initialCapacity];
+        }
+
+        void add(int offset) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = offset;
+        }
+
+        void addAll(int[] values, int count) {
+            if (size + count > offsets.length) {
+                offsets = Arrays.copyOf(offsets, Math.max(size + count, size * 2));
+            }
+            System.arraycopy(values, 0, offsets, size, count);
+            size += count;
+        }
     }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.tools.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable sequence of characters stored as a binary tree of character chunks.
+ * <p>
+ * Replacing a range of a rope creates a new rope which shares all the chunks outside the replaced range with the
+ * original, hence an edit costs time proportional to the depth of the tree and the size of the edit instead of the
+ * size of the text.
+ *
+ * @since 2201.10.0
+ */
+final class Rope implements CharSequence {
+    static final int MAX_LEAF_LENGTH = 1024;
+    private static final int MAX_DEPTH = 48;
+    private static final Rope EMPTY = new Rope(new char[0]);
+
+    // Only one of chars or left and right is set
+    final char[] chars;
+    final Rope left;
+    final Rope right;
+    private final int length;
+    private final int depth;
+
+    private Rope(char[] chars) {
+        this.chars = chars;
+        this.left = null;
+        this.right = null;
+        this.length = chars.length;
+        this.depth = 0;
+    }
+
+    private Rope(Rope left, Rope right) {
+        this.chars = null;
+        this.left = left;
+        this.right = right;
+        this.length = left.length + right.length;
+        this.depth = Math.max(left.depth, right.depth) + 1;
+    }
+
+    static Rope from(String text) {
+        if (text.isEmpty()) {
+            return EMPTY;
+        }
+        return build(text, 0, text.length());
+    }
+
+    private static Rope build(String text, int start, int end) {
+        if (end - start <= MAX_LEAF_LENGTH) {
+            char[] chars = new char[end - start];
+            text.getChars(start, end, chars, 0);
+            return new Rope(chars);
+        }
+        int middle = (start + end) >>> 1;
+        return new Rope(build(text, start, middle), build(text, middle, end));
+    }
+
+    boolean isLeaf() {
+        return chars != null;
+    }
+
+    /**
+     * Returns a new rope in which the given range is replaced with the given text.
+     *
+     * @param start start offset of the range, inclusive
+     * @param end   end offset of the range, exclusive
+     * @param text  text to replace the range with
+     * @return the new rope
+     */
+    Rope replace(int start, int end, String text) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Range: '" + start + ", " + end + "', Size: '" + length + "'");
+        }
+        Rope rope = concat(concat(subRope(0, start), from(text)), subRope(end, length));
+        return rope.depth > MAX_DEPTH ? rebalance(rope) : rope;
+    }
+
+    private Rope subRope(int start, int end) {
+        if (start == 0 && end == length) {
+            return this;
+        }
+        if (start == end) {
+            return EMPTY;
+        }
+        if (isLeaf()) {
+            return new Rope(Arrays.copyOfRange(chars, start, end));
+        }
+
+        int leftLength = left.length;
+        if (end <= leftLength) {
+            return left.subRope(start, end);
+        }
+        if (start >= leftLength) {
+            return right.subRope(start - leftLength, end - leftLength);
+        }
+        return concat(left.subRope(start, leftLength), right.subRope(0, end - leftLength));
+    }
+
+    private static Rope concat(Rope left, Rope right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+
+        // Merge small chunks, so that repeated small edits do not fragment the rope
+        if (left.isLeaf() && right.isLeaf() && left.length + right.length <= MAX_LEAF_LENGTH) {
+            return mergeLeaves(left, right);
+        }
+        if (right.isLeaf() && !left.isLeaf() && left.right.isLeaf()
+                && left.right.length + right.length <= MAX_LEAF_LENGTH) {
+            return new Rope(left.left, mergeLeaves(left.right, right));
+        }
+        if (left.isLeaf() && !right.isLeaf() && right.left.isLeaf()
+                && left.length + right.left.length <= MAX_LEAF_LENGTH) {
+            return new Rope(mergeLeaves(left, right.left), right.right);
+        }
+        return new Rope(left, right);
+    }
+
+    private static Rope mergeLeaves(Rope left, Rope right) {
+        char[] chars = Arrays.copyOf(left.chars, left.length + right.length);
+        System.arraycopy(right.chars, 0, chars, left.length, right.length);
+        return new Rope(chars);
+    }
+
+    private static Rope rebalance(Rope rope) {
+        List<Rope> leaves = new ArrayList<>();
+        collectLeaves(rope, leaves);
+        return buildBalanced(leaves, 0, leaves.size());
+    }
+
+    private static void collectLeaves(Rope rope, List<Rope> leaves) {
+        if (rope.isLeaf()) {
+            leaves.add(rope);
+            return;
+        }
+        collectLeaves(rope.left, leaves);
+        collectLeaves(rope.right, leaves);
+    }
+
+    private static Rope buildBalanced(List<Rope> leaves, int start, int end) {
+        if (end - start == 1) {
+            return leaves.get(start);
+        }
+        int middle = (start + end) >>> 1;
+        return new Rope(buildBalanced(leaves, start, middle), buildBalanced(leaves, middle, end));
+    }
+
+    /**
+     * Copies the characters in the given range of this rope into the destination array.
+     *
+     * @param srcBegin start offset of the range, inclusive
+     * @param srcEnd   end offset of the range, exclusive
+     * @param dst      destination array
+     * @param dstBegin start offset in the destination array
+     */
+    void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        if (srcBegin >= srcEnd) {
+            return;
+        }
+        if (isLeaf()) {
+            System.arraycopy(chars, srcBegin, dst, dstBegin, srcEnd - srcBegin);
+            return;
+        }
+
+        int leftLength = left.length;
+        if (srcBegin < leftLength) {
+            left.getChars(srcBegin, Math.min(srcEnd, leftLength), dst, dstBegin);
+        }
+        if (srcEnd > leftLength) {
+            int rightBegin = Math.max(srcBegin, leftLength);
+            right.getChars(rightBegin - leftLength, srcEnd - leftLength, dst, dstBegin + rightBegin - srcBegin);
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: '" + index + "', Size: '" + length + "'");
+        }
+        Rope rope = this;
+        while (!rope.isLeaf()) {
+            if (index < rope.left.length) {
+                rope = rope.left;
+            } else {
+                index -= rope.left.length;
+                rope = rope.right;
+            }
+        }
+        return rope.chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Range: '" + start + ", " + end + "', Size: '" + length + "'");
+        }
+        char[] dst = new char[end - start];
+        getChars(start, end, dst, 0);
+        return new String(dst);
+    }
+
+    @Override
+    public String toString() {
+        char[] dst = new char[length];
+        getChars(0, length, dst, 0);
+        return new String(dst);
+    }
+}
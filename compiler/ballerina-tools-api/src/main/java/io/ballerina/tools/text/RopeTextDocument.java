@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.tools.text;
+
+/**
+ * The {@code RopeTextDocument} represents a {@code TextDocument} created by applying changes to another document.
+ * <p>
+ * The text is stored in a {@link Rope}, hence applying a change shares the unchanged parts of the text with the
+ * original document. The line map of the original document, if it has been computed, is updated around the changed
+ * ranges instead of being computed again.
+ *
+ * @since 2201.10.0
+ */
+class RopeTextDocument extends TextDocument {
+    private final Rope rope;
+    private LineMap textLineMap;
+    private String text;
+
+    RopeTextDocument(Rope rope, LineMap textLineMap) {
+        this.rope = rope;
+        this.textLineMap = textLineMap;
+    }
+
+    @Override
+    public TextDocument apply(TextDocumentChange textDocumentChange) {
+        Rope newRope = rope;
+        LineMap newLineMap = textLineMap;
+        // Text edits are ordered by their ranges in the original text, so each edit is shifted by the change in
+        // length caused by the edits before it
+        int delta = 0;
+        int textEditCount = textDocumentChange.getTextEditCount();
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            TextRange textRange = textEdit.range();
+            int startOffset = textRange.startOffset() + delta;
+            int endOffset = textRange.endOffset() + delta;
+            String newText = textEdit.text();
+            newRope = newRope.replace(startOffset, endOffset, newText);
+            if (newLineMap != null) {
+                newLineMap = newLineMap.apply(newRope, startOffset, endOffset, newText.length());
+            }
+            delta += newText.length() - textRange.length();
+        }
+        return new RopeTextDocument(newRope, newLineMap);
+    }
+
+    @Override
+    protected LineMap populateTextLineMap() {
+        if (textLineMap != null) {
+            return textLineMap;
+        }
+        textLineMap = LineMap.from(rope);
+        return textLineMap;
+    }
+
+    @Override
+    public char[] toCharArray() {
+        char[] chars = new char[rope.length()];
+        rope.getChars(0, rope.length(), chars, 0);
+        return chars;
+    }
+
+    Rope rope() {
+        return rope;
+    }
+
+    @Override
+    public String toString() {
+        if (text == null) {
+            text = rope.toString();
+        }
+        return text;
+    }
+}
@@ -17,9 +17,6 @@
  */
 package io.ballerina.tools.text;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * The {@code StringTextDocument} represents a {@code TextDocument} created with a string.
  *
@@ -35,18 +32,8 @@ class StringTextDocument extends TextDocument {
 
     @Override
     public TextDocument apply(TextDocumentChange textDocumentChange) {
-        int startOffset = 0;
-        StringBuilder sb = new StringBuilder();
-        int textEditCount = textDocumentChange.getTextEditCount();
-        for (int i = 0; i < textEditCount; i++) {
-            TextEdit textEdit = textDocumentChange.getTextEdit(i);
-            TextRange textRange = textEdit.range();
-            sb.append(text, startOffset, textRange.startOffset());
-            sb.append(textEdit.text());
-            startOffset = textRange.endOffset();
-        }
-        sb.append(text, startOffset, text.length());
-        return new StringTextDocument(sb.toString());
+        // Edited documents are backed by a rope, so that further edits do not copy the whole text
+        return new RopeTextDocument(Rope.from(text), textLineMap).apply(textDocumentChange);
     }
 
     @Override
@@ -54,7 +41,7 @@ class StringTextDocument extends TextDocument {
         if (textLineMap != null) {
             return textLineMap;
         }
-        textLineMap = new LineMap(calculateTextLines());
+        textLineMap = LineMap.from(text);
         return textLineMap;
     }
 
@@ -66,38 +53,4 @@ class StringTextDocument extends TextDocument {
     public String toString() {
         return text;
     }
-
-    private TextLine[] calculateTextLines() {
-        int startOffset = 0;
-        List<TextLine> textLines = new ArrayList<>();
-        StringBuilder lineBuilder = new StringBuilder();
-        int index = 0;
-        int line = 0;
-        int textLength = text.length();
-        int lengthOfNewLineChars;
-        while (index < textLength) {
-            char c = text.charAt(index);
-            if (c == '\r' || c == '\n') {
-                int nextCharIndex = index + 1;
-                if (c == '\r' && textLength != nextCharIndex && text.charAt(nextCharIndex) == '\n') {
-                    lengthOfNewLineChars = 2;
-                } else {
-                    lengthOfNewLineChars = 1;
-                }
-                String strLine = lineBuilder.toString();
-                int endOffset = startOffset + strLine.length();
-                textLines.add(new TextLine(line++, strLine, startOffset, endOffset, lengthOfNewLineChars));
-                startOffset = endOffset + lengthOfNewLineChars;
-                lineBuilder = new StringBuilder();
-                index += lengthOfNewLineChars;
-            } else {
-                lineBuilder.append(c);
-                index++;
-            }
-        }
-
-        String strLine = lineBuilder.toString();
-        textLines.add(new TextLine(line, strLine, startOffset, startOffset + strLine.length(), 0));
-        return textLines.toArray(new TextLine[0]);
-    }
 }
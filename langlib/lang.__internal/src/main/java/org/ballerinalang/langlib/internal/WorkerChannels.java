@@ -41,7 +41,7 @@ public class WorkerChannels {
         Strand channelHoldingStrand = Objects.requireNonNullElse(currentStrand.parent, currentStrand);
         for (BString channelId : channelIds) {
             String channelName = channelId.getValue() + ":" + (channelHoldingStrand.functionInvocation - 1);
-            WorkerDataChannel workerDataChannel = channelHoldingStrand.wdChannels.getWorkerDataChannel(channelName);
+            WorkerDataChannel workerDataChannel = channelHoldingStrand.getWDChannels().getWorkerDataChannel(channelName);
             workerDataChannel.autoClose();
         }
     }
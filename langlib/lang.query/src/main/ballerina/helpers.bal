@@ -59,9 +59,9 @@ function createFilterFunction(function(_Frame _frame) returns boolean|error filt
     return new _FilterFunction(filterFunc);
 }
 
-function createOrderByFunction(function(_Frame _frame) returns error? orderFunc)
+function createOrderByFunction(function(_Frame _frame) returns error? orderFunc, _StreamFunction? limitFunc)
         returns _StreamFunction {
-    return new _OrderByFunction(orderFunc);
+    return new _OrderByFunction(orderFunc, limitFunc);
 }
 
 function createGroupByFunction(string[] keys, string[] nonGroupingKeys) returns _StreamFunction {
@@ -328,6 +328,31 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function createJoinIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "createJoinIndex"
+} external;
+
+function getJoinBucket(handle index, any key, boolean create) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "getJoinBucket"
+} external;
+
+function createTopFrames(int topK) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TopFrames",
+    name: "createTopFrames"
+} external;
+
+function addTopFrame(handle topFrames, _Frame f, any[] directions, any[] keys) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TopFrames",
+    name: "addTopFrame"
+} external;
+
+function getTopFrames(handle topFrames, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TopFrames",
+    name: "getTopFrames"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
@@ -346,7 +346,9 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     error? failureAtJoin = ();
-    stream<_Frame>? joinedFramesStream;
+    _Frame? lhsFrame;
+    _Frame[] rhsCandidates;
+    int rhsCandidateIndex;
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -355,7 +357,9 @@ class _InnerJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.prevFunc = ();
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = [];
+        self.rhsCandidateIndex = 0;
 
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
@@ -364,7 +368,7 @@ class _InnerJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -377,49 +381,47 @@ class _InnerJoinFunction {
     # from var ... in listA from from var ... in listB
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
+    # The joined frames are produced one at a time, as the lhs frames are pulled from the previous function.
     public function process() returns _Frame|error? {
-        if (self.joinedFramesStream is ()) {
-            function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame|error? lhsFrame = pf.process();
-            _Frame[] joinedFrames = [];
-            error? failureAtJoin = self.failureAtJoin;
+        function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
+        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        error? failureAtJoin = self.failureAtJoin;
 
-            if (failureAtJoin is error) {
-                fail failureAtJoin;
-            }
+        if (failureAtJoin is error) {
+            fail failureAtJoin;
+        }
 
-            while (lhsFrame is _Frame) {
-                any|error lhsKFRes = lhsKF(lhsFrame);
-                if (lhsKFRes is error) {
-                    return prepareQueryBodyError(lhsKFRes);
-                }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
-                    }
-                    joinedFrames.push(joinedFrame);
-                }
-                lhsFrame = pf.process();
+        _Frame? lhsFrame = self.lhsFrame;
+        while (lhsFrame is () || self.rhsCandidateIndex >= self.rhsCandidates.length()) {
+            _Frame|error? nextLhsFrame = pf.process();
+            if !(nextLhsFrame is _Frame) {
+                self.lhsFrame = ();
+                return nextLhsFrame;
             }
-            self.joinedFramesStream = joinedFrames.toStream();
+            any|error lhsKFRes = lhsKF(nextLhsFrame);
+            if (lhsKFRes is error) {
+                return prepareQueryBodyError(lhsKFRes);
+            }
+            lhsFrame = nextLhsFrame;
+            self.lhsFrame = nextLhsFrame;
+            self.rhsCandidates = rhsFramesMap.get(lhsKFRes) ?: [];
+            self.rhsCandidateIndex = 0;
         }
-        stream<_Frame> s = <stream<_Frame>>self.joinedFramesStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+
+        _Frame rhsFrame = self.rhsCandidates[self.rhsCandidateIndex];
+        self.rhsCandidateIndex += 1;
+        _Frame joinedFrame = {...<_Frame>lhsFrame};
+        foreach var [k, val] in rhsFrame.entries() {
+            joinedFrame[k] = val;
         }
-        return f;
+        return joinedFrame;
     }
 
     public function reset() {
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = [];
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -433,6 +435,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -444,6 +447,7 @@ class _OuterJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
@@ -454,7 +458,7 @@ class _OuterJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -475,7 +479,6 @@ class _OuterJoinFunction {
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
@@ -491,15 +494,16 @@ class _OuterJoinFunction {
             if (lhsKFRes is error) {
                 return prepareQueryBodyError(lhsKFRes);
             }
-            lhsKey = (lhsKFRes).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKFRes);
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
+                _Frame rhsFrame = rhsCandidates[self.rhsCandidateIndex];
+                self.rhsCandidateIndex += 1;
+                if (self.rhsCandidateIndex < rhsCandidates.length()) {
                     self.rhsCandidates = rhsCandidates;
                 } else {
                     // Move to next lhs frame in next iteration.
@@ -528,6 +532,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -581,10 +586,13 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function (_Frame _frame) returns error? orderKeyFunc;
+    # Limit clause directly following the order by clause, if any.
+    _LimitFunction? limitFunc;
     stream<_Frame>? orderedStream;
 
-    function init(function (_Frame _frame) returns error? orderKeyFunc) {
+    function init(function (_Frame _frame) returns error? orderKeyFunc, _StreamFunction? limitFunc) {
         self.orderKeyFunc = orderKeyFunc;
+        self.limitFunc = limitFunc is _LimitFunction ? limitFunc : ();
         self.orderedStream = ();
         self.prevFunc = ();
     }
@@ -594,7 +602,16 @@ class _OrderByFunction {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
+            handle? topFrames = ();
+            if (f is _Frame) {
+                int?|error lmt = self.getLimit(f);
+                if (lmt is error) {
+                    return prepareQueryBodyError(lmt);
+                }
+                if (lmt is int) {
+                    topFrames = createTopFrames(lmt);
+                }
+            }
             _OrderTreeNode oTree = new;
             // consume all events for ordering.
             while (f is _Frame) {
@@ -602,13 +619,25 @@ class _OrderByFunction {
                 if(res is error) {
                     return prepareQueryBodyError(res);
                 }
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                if (topFrames is handle) {
+                    // keep only the first K frames seen so far.
+                    addTopFrame(topFrames, f, <any[]>(checkpanic f["$orderDirection$"]),
+                            <any[]>(checkpanic f["$orderKey$"]));
+                } else {
+                    oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                }
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            if (topFrames is handle) {
+                _Frame[] orderedFrames = [];
+                getTopFrames(topFrames, orderedFrames);
+                self.orderedStream = orderedFrames.toStream();
+            } else {
+                self.orderedStream = oTree.get().toStream();
+            }
         }
 
         stream<_Frame> s = <stream<_Frame>>self.orderedStream;
@@ -626,6 +655,22 @@ class _OrderByFunction {
             pf.reset();
         }
     }
+
+    # Evaluates the limit of the following limit clause, if any.
+    # The limit function is only passed in if the limit does not depend on the frames,
+    # hence it is evaluated once using the first frame.
+    # Invalid limits are left to the limit clause to report.
+    # + return - number of frames to keep, or `()` if all frames have to be kept.
+    function getLimit(_Frame f) returns int?|error {
+        _LimitFunction? lf = self.limitFunc;
+        if (lf is ()) {
+            return ();
+        }
+        function (_Frame _frame) returns int|error limitFunc = lf.limitFunc;
+        int lmt = check limitFunc(f);
+        return lmt > 0 ? lmt : ();
+    }
+
 }
 
 type RowGroupedData record {|
@@ -917,36 +962,32 @@ class _LimitFunction {
 
 // ---- helper types ----
 
+# Multimap from join keys to the frames with that key. The keys are compared using deep equality.
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle index;
+    _Frame[][] buckets;
 
     function init() {
-        self.m = {};
+        self.index = createJoinIndex();
+        self.buckets = [];
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
+    function put(any k, _Frame v) {
+        int bucket = getJoinBucket(self.index, k, true);
+        if (bucket < self.buckets.length()) {
+            self.buckets[bucket].push(v);
         } else {
-            self.m[k] = [v];
+            self.buckets.push([v]);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
+    # Returns the frames with the given key. The returned array is shared by the map, hence must not be modified.
+    function get(any k) returns _Frame[]? {
+        int bucket = getJoinBucket(self.index, k, false);
+        if (bucket >= 0) {
+            return self.buckets[bucket];
         }
     }
-
 }
 
 class IterHelper {
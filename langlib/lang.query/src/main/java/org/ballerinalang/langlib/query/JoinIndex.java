@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.DecimalValueKind;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hash index used by the join clauses of query expressions, which maps each distinct join key to a bucket number.
+ * Keys are compared using deep equality, hence two keys belong to the same bucket iff they are equal according to the
+ * {@code ==} operator. The hash of a key is consistent with that equality: decimals are hashed ignoring their scale,
+ * {@code -0.0} and {@code 0.0} have the same hash, and mappings are hashed independent of the order of their fields.
+ *
+ * @since 2201.10.0
+ */
+public class JoinIndex {
+
+    private static final int MAX_HASH_DEPTH = 8;
+
+    private final Map<Long, List<Bucket>> buckets = new HashMap<>();
+    private long bucketCount = 0;
+
+    public static Object createJoinIndex() {
+        return new JoinIndex();
+    }
+
+    /**
+     * Returns the bucket of the given key.
+     *
+     * @param index  join index created with {@link #createJoinIndex()}
+     * @param key    join key
+     * @param create whether to create a new bucket if the key does not have one
+     * @return the bucket number, or -1 if the key does not have a bucket and create is false
+     */
+    public static long getJoinBucket(Object index, Object key, boolean create) {
+        return ((JoinIndex) index).getBucket(key, create);
+    }
+
+    private long getBucket(Object key, boolean create) {
+        long hash = hash(key, 0);
+        List<Bucket> collisions = buckets.get(hash);
+        if (collisions != null) {
+            for (Bucket bucket : collisions) {
+                if (TypeChecker.isEqual(bucket.key, key)) {
+                    return bucket.number;
+                }
+            }
+        }
+        if (!create) {
+            return -1;
+        }
+        if (collisions == null) {
+            collisions = new ArrayList<>(1);
+            buckets.put(hash, collisions);
+        }
+        Bucket bucket = new Bucket(key, bucketCount++);
+        collisions.add(bucket);
+        return bucket.number;
+    }
+
+    private static long hash(Object key, int depth) {
+        if (key == null) {
+            return 0;
+        }
+        if (key instanceof Long || key instanceof Integer) {
+            // int and byte values are equal if they have the same numeric value
+            return ((Number) key).longValue();
+        }
+        if (key instanceof Double value) {
+            // -0.0 == 0.0 and NaN == NaN
+            return value == 0.0 ? 0 : Double.hashCode(value);
+        }
+        if (key instanceof DecimalValue value) {
+            return value.valueKind == DecimalValueKind.OTHER ? value.decimalValue().stripTrailingZeros().hashCode() : 0;
+        }
+        if (key instanceof BString || key instanceof Boolean) {
+            return key.hashCode();
+        }
+        // cyclic values are equal if their unfoldings are equal, hence only the first few levels are hashed
+        if (depth == MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (key instanceof BMap<?, ?> mapping) {
+            long result = 0;
+            for (Map.Entry<?, ?> entry : mapping.entrySet()) {
+                result += Objects.hashCode(entry.getKey()) * 31L + hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (key instanceof BArray list) {
+            long result = 1;
+            for (long i = 0, size = list.size(); i < size; i++) {
+                result = 31 * result + hash(list.get(i), depth + 1);
+            }
+            return result;
+        }
+        // other values, e.g. xml, tables and errors, fall into the same chain and are only compared for equality
+        return -1;
+    }
+
+    private record Bucket(Object key, long number) {
+    }
+}
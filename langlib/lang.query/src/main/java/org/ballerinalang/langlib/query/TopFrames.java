@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded heap used by an order by clause followed by a limit clause, which keeps only the first K frames in the
+ * order of their order keys. Keys are compared the same way as {@code array:sort} does, and frames with equal keys
+ * retain their relative order.
+ *
+ * @since 2201.10.0
+ */
+public class TopFrames {
+
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private final long limit;
+    // the last of the kept frames is at the head of the heap, so that it can be replaced by a frame ordered before it
+    private final PriorityQueue<Entry> heap;
+    private long count = 0;
+
+    private TopFrames(long limit) {
+        this.limit = limit;
+        this.heap = new PriorityQueue<>((entry1, entry2) -> compare(entry2, entry1));
+    }
+
+    public static Object createTopFrames(long limit) {
+        return new TopFrames(limit);
+    }
+
+    /**
+     * Adds a frame, dropping the last of the kept frames if there are more than the limit.
+     *
+     * @param topFrames  top frames created with {@link #createTopFrames(long)}
+     * @param frame      frame to be added
+     * @param directions order directions of the frame, true if ascending
+     * @param keys       order keys of the frame
+     */
+    public static void addTopFrame(Object topFrames, BMap<?, ?> frame, BArray directions, BArray keys) {
+        ((TopFrames) topFrames).add(frame, directions, keys);
+    }
+
+    /**
+     * Appends the kept frames to the given list, in the order of their order keys.
+     *
+     * @param topFrames top frames created with {@link #createTopFrames(long)}
+     * @param frames    list to append to
+     */
+    public static void getTopFrames(Object topFrames, BArray frames) {
+        List<Entry> entries = new ArrayList<>(((TopFrames) topFrames).heap);
+        entries.sort(TopFrames::compare);
+        for (Entry entry : entries) {
+            frames.append(entry.frame);
+        }
+    }
+
+    private void add(BMap<?, ?> frame, BArray directions, BArray keys) {
+        int size = (int) keys.size();
+        Object[] keyValues = new Object[size];
+        boolean[] ascending = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            keyValues[i] = keys.get(i);
+            ascending[i] = (Boolean) directions.get(i);
+        }
+        Entry entry = new Entry(frame, keyValues, ascending, count++);
+        if (heap.size() < limit) {
+            heap.add(entry);
+        } else if (compare(entry, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    private static int compare(Entry entry1, Entry entry2) {
+        for (int i = 0; i < entry1.keys.length; i++) {
+            // () is ordered last in both directions
+            int result = entry1.ascending[i] ?
+                    ValueComparisonUtils.compareValues(entry1.keys[i], entry2.keys[i], ASCENDING) :
+                    ValueComparisonUtils.compareValues(entry2.keys[i], entry1.keys[i], DESCENDING);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(entry1.sequence, entry2.sequence);
+    }
+
+    private record Entry(BMap<?, ?> frame, Object[] keys, boolean[] ascending, long sequence) {
+    }
+}
@@ -27,7 +27,7 @@ import org.ballerinalang.langserver.commons.command.spi.LSCommandExecutor;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.config.LSClientConfigHolder;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
-import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsScheduler;
 import org.ballerinalang.langserver.exception.UserErrorException;
 import org.ballerinalang.langserver.telemetry.TelemetryUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManagerProxy;
@@ -94,10 +94,10 @@ public class BallerinaWorkspaceService implements WorkspaceService {
                         ContextBuilder.buildDidChangeWatchedFilesContext(
                                 this.workspaceManagerProxy.get(),
                                 this.serverContext);
-                DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(this.serverContext);
+                DiagnosticsScheduler diagnosticsScheduler = DiagnosticsScheduler.getInstance(this.serverContext);
                 // project roots are the reloaded project roots. Hence we re-publish the diagnostics.
                 for (Path projectRoot : paths) {
-                    diagnosticsHelper.schedulePublishDiagnostics(this.languageServer.getClient(), context, projectRoot);
+                    diagnosticsScheduler.schedule(this.languageServer.getClient(), context, projectRoot);
                 }
             }
         } catch (WorkspaceDocumentException e) {
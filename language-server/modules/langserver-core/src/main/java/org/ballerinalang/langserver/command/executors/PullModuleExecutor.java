@@ -33,7 +33,7 @@ import org.ballerinalang.langserver.commons.command.spi.LSCommandExecutor;
 import org.ballerinalang.langserver.commons.eventsync.EventKind;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
-import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsScheduler;
 import org.ballerinalang.langserver.eventsync.EventSyncPubSubHolder;
 import org.ballerinalang.langserver.exception.UserErrorException;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
@@ -127,8 +127,8 @@ public class PullModuleExecutor implements LSCommandExecutor {
                     DocumentServiceContext docContext = ContextBuilder.buildDocumentServiceContext(finalFileUri,
                             context.workspace(), LSContextOperation.TXT_DID_CHANGE,
                             context.languageServercontext());
-                    DiagnosticsHelper.getInstance(context.languageServercontext())
-                            .schedulePublishDiagnostics(languageClient, docContext);
+                    DiagnosticsScheduler.getInstance(context.languageServercontext())
+                            .schedule(languageClient, docContext);
                 })
                 .thenRunAsync(() -> {
                     Optional<List<String>> missingModules = context.workspace()
@@ -15,6 +15,7 @@
  */
 package org.ballerinalang.langserver.diagnostic;
 
+import io.ballerina.projects.ModuleCompilation;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
@@ -24,7 +25,6 @@ import org.ballerinalang.langserver.command.CommandUtil;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
-import org.ballerinalang.langserver.commons.WorkspaceServiceContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
@@ -39,14 +39,16 @@ import org.eclipse.lsp4j.Range;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 /**
  * Utilities for the diagnostics related operations.
@@ -57,12 +59,11 @@ public class DiagnosticsHelper {
     private final List<Diagnostic> emptyDiagnosticList = new ArrayList<>(0);
     private static final LanguageServerContext.Key<DiagnosticsHelper> DIAGNOSTICS_HELPER_KEY =
             new LanguageServerContext.Key<>();
-    private static final long DIAGNOSTIC_DELAY = 1;
+    private static final String COMPILER_DIAGNOSTIC_CODE_PREFIX = "BC";
     /**
      * Holds last sent diagnostics for the purpose of clear-off when publishing new diagnostics.
      */
     private final Map<Path, Map<String, List<Diagnostic>>> lastDiagnosticMap;
-    private CompletableFuture<Boolean> latestScheduled = null;
     private final Stack<String> cyclicDependencyErrors;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
@@ -81,70 +82,101 @@ public class DiagnosticsHelper {
     }
 
     /**
-     * Schedule the diagnostics publishing.
-     * In general the diagnostics publishing is done for document open, close and change events. When the document
-     * change events are triggered frequently in subsequent edits, we do compilations and diagnostic calculation for
-     * each of the change event. This is time-consuming for the large projects and from the user experience point of
-     * view, we can publish the diagnostics after a delay. The default delay specified in {@link #DIAGNOSTIC_DELAY}
+     * Compiles and publishes diagnostics for a project.
      *
-     * @param client  Language client
-     * @param context Document Service context.
+     * @param client      Language server client
+     * @param projectRoot project root
+     * @param compilation package compilation
      */
-    public synchronized void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
-        WorkspaceManager workspaceManager = context.workspace();
-        Path projectRoot = workspaceManager.projectRoot(context.filePath());
-        compileAndSendDiagnostics(workspaceManager, projectRoot, client);
+    synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, Path projectRoot,
+                                                PackageCompilation compilation,
+                                                WorkspaceManager workspaceManager) {
+        Map<String, List<Diagnostic>> diagnosticMap =
+                toDiagnosticsMap(compilation.diagnosticResult().diagnostics(false), projectRoot, workspaceManager);
+        sendDiagnostics(client, diagnosticMap, projectRoot);
     }
 
     /**
-     * Schedule the diagnostics publishing for a project specified with the given project root.
-     * This particular diagnostics publishing API is used for publishing diagnostics through the workspace service.
-     * This is time-consuming for the large projects and from the user experience point of
-     * view, we can publish the diagnostics after a delay. The default delay specified in {@link #DIAGNOSTIC_DELAY}
+     * Compiles the modules of the documents opened in a project and publishes the diagnostics of those documents.
+     * This is done ahead of compiling the whole package, so that the diagnostics of the documents the user is working
+     * on are published without waiting for the modules which do not affect them.
      *
-     * @param client      Language client
-     * @param context     Workspace Service context
-     * @param projectRoot project root
+     * @param client         Language server client
+     * @param workspace      Workspace manager
+     * @param projectRoot    project root
+     * @param isSourceChange True if a source of the project is changed
+     * @param isCancelled    supplies whether the compilation is superseded by a newer change
+     * @return true if the diagnostics were published
      */
-    public synchronized void schedulePublishDiagnostics(ExtendedLanguageClient client,
-                                                        WorkspaceServiceContext context,
-                                                        Path projectRoot) {
-        WorkspaceManager workspaceManager = context.workspace();
-        compileAndSendDiagnostics(workspaceManager, projectRoot, client);
+    boolean compileAndSendOpenDocumentDiagnostics(ExtendedLanguageClient client, BallerinaWorkspaceManager workspace,
+                                                  Path projectRoot, boolean isSourceChange,
+                                                  BooleanSupplier isCancelled) {
+        List<Path> openedDocuments = workspace.openedDocuments(projectRoot);
+        if (client == null || openedDocuments.isEmpty()) {
+            return false;
+        }
+
+        Set<ModuleCompilation> compilations = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Path openedDocument : openedDocuments) {
+            if (isCancelled.getAsBoolean()) {
+                return false;
+            }
+            Optional<ModuleCompilation> compilation =
+                    workspace.waitAndGetModuleCompilation(openedDocument, isSourceChange);
+            if (compilation.isEmpty()) {
+                return false;
+            }
+            compilations.add(compilation.get());
+        }
+
+        Set<String> openedDocumentUris = new HashSet<>();
+        for (Path openedDocument : openedDocuments) {
+            openedDocumentUris.add(PathUtil.getModifiedUri(workspace, openedDocument.toUri().toString()));
+        }
+        Map<String, List<Diagnostic>> diagnosticMap = new HashMap<>();
+        for (ModuleCompilation compilation : compilations) {
+            toDiagnosticsMap(compilation.diagnostics().diagnostics(false), projectRoot, workspace)
+                    .forEach((uri, diagnostics) -> {
+                        if (openedDocumentUris.contains(uri)) {
+                            diagnosticMap.computeIfAbsent(uri, key -> new ArrayList<>()).addAll(diagnostics);
+                        }
+                    });
+        }
+        if (isCancelled.getAsBoolean()) {
+            return false;
+        }
+        sendOpenDocumentDiagnostics(client, diagnosticMap, openedDocumentUris, projectRoot);
+        return true;
     }
 
-    /**
-     * Compiles and publishes diagnostics for a source file.
-     * In order to avoid the unnecessary compilations, we will be scheduling the diagnostic compilations. Hence, instead
-     * of this method, it is highly recommended to use
-     * {@link #schedulePublishDiagnostics(ExtendedLanguageClient, DocumentServiceContext)}
-     *
-     * @param client  Language server client
-     * @param context LS context
-     */
-    public synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
-        // Compile diagnostics
-        Optional<Project> project = context.workspace().project(context.filePath());
-        if (project.isEmpty()) {
-            return;
+    private synchronized void sendOpenDocumentDiagnostics(ExtendedLanguageClient client,
+                                                          Map<String, List<Diagnostic>> diagnosticMap,
+                                                          Set<String> openedDocumentUris, Path projectRoot) {
+        Map<String, List<Diagnostic>> lastProjectDiagnostics =
+                lastDiagnosticMap.computeIfAbsent(projectRoot, key -> new HashMap<>());
+        for (String uri : openedDocumentUris) {
+            List<Diagnostic> diagnostics = new ArrayList<>(diagnosticMap.getOrDefault(uri, emptyDiagnosticList));
+            // Compiler plugins report diagnostics only when the whole package is compiled, hence the last published
+            // ones are kept until then
+            for (Diagnostic diagnostic : lastProjectDiagnostics.getOrDefault(uri, emptyDiagnosticList)) {
+                if (!isCompilerDiagnostic(diagnostic)) {
+                    diagnostics.add(diagnostic);
+                }
+            }
+            client.publishDiagnostics(new PublishDiagnosticsParams(uri, diagnostics));
+
+            // Record the published diagnostics, so that the package diagnostics clear them off if required
+            if (diagnostics.isEmpty()) {
+                lastProjectDiagnostics.remove(uri);
+            } else {
+                lastProjectDiagnostics.put(uri, diagnostics);
+            }
         }
-        Map<String, List<Diagnostic>> latestDiagnostics = getLatestDiagnostics(context);
-        sendDiagnostics(client, latestDiagnostics, project.get().sourceRoot());
     }
 
-    /**
-     * Compiles and publishes diagnostics for a project.
-     *
-     * @param client      Language server client
-     * @param projectRoot project root
-     * @param compilation package compilation
-     */
-    private synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, Path projectRoot,
-                                                        PackageCompilation compilation,
-                                                        WorkspaceManager workspaceManager) {
-        Map<String, List<Diagnostic>> diagnosticMap =
-                toDiagnosticsMap(compilation.diagnosticResult().diagnostics(false), projectRoot, workspaceManager);
-        sendDiagnostics(client, diagnosticMap, projectRoot);
+    private static boolean isCompilerDiagnostic(Diagnostic diagnostic) {
+        return diagnostic.getCode() != null && diagnostic.getCode().isLeft()
+                && diagnostic.getCode().getLeft().startsWith(COMPILER_DIAGNOSTIC_CODE_PREFIX);
     }
 
     private synchronized void sendDiagnostics(ExtendedLanguageClient client,
@@ -248,21 +280,4 @@ public class DiagnosticsHelper {
         }
         return diagnosticsMap;
     }
-
-    private synchronized void compileAndSendDiagnostics(WorkspaceManager workspaceManager,
-                                                        Path projectRoot,
-                                                        ExtendedLanguageClient client) {
-        if (latestScheduled != null && !latestScheduled.isDone()) {
-            latestScheduled.completeExceptionally(new Throwable("Cancelled diagnostic publisher"));
-        }
-
-        Executor delayedExecutor = CompletableFuture.delayedExecutor(DIAGNOSTIC_DELAY, TimeUnit.SECONDS);
-        CompletableFuture<Boolean> scheduledFuture = CompletableFuture.supplyAsync(() -> true, delayedExecutor);
-        latestScheduled = scheduledFuture;
-        scheduledFuture
-                .thenApplyAsync((bool) -> workspaceManager.waitAndGetPackageCompilation(projectRoot))
-                .thenAccept(compilation ->
-                        compilation.ifPresent(pkgCompilation ->
-                                compileAndSendDiagnostics(client, projectRoot, pkgCompilation, workspaceManager)));
-    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.diagnostic;
+
+import io.ballerina.projects.PackageCompilation;
+import org.ballerinalang.langserver.LSClientLogger;
+import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.LSOperation;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.WorkspaceServiceContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.telemetry.LSDiagnosticsTelemetryEvent;
+import org.ballerinalang.langserver.telemetry.TelemetryUtil;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.Position;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Schedules the compilations which publish the diagnostics of the projects.
+ * <p>
+ * Diagnostics are computed after a short delay, so that a burst of changes to a project results in a single
+ * compilation. A change to a project supersedes the compilation in progress for the same project, whose diagnostics
+ * are then discarded instead of being published. The diagnostics of the opened documents are published first, and the
+ * diagnostics of the whole package are published afterwards.
+ *
+ * @since 2201.10.0
+ */
+public class DiagnosticsScheduler {
+
+    private static final LanguageServerContext.Key<DiagnosticsScheduler> DIAGNOSTICS_SCHEDULER_KEY =
+            new LanguageServerContext.Key<>();
+    private static final long DIAGNOSTIC_DELAY = 500;
+
+    private final LanguageServerContext serverContext;
+    private final Map<Path, ProjectSchedule> projectSchedules = new ConcurrentHashMap<>();
+
+    public static DiagnosticsScheduler getInstance(LanguageServerContext serverContext) {
+        DiagnosticsScheduler diagnosticsScheduler = serverContext.get(DIAGNOSTICS_SCHEDULER_KEY);
+        if (diagnosticsScheduler == null) {
+            diagnosticsScheduler = new DiagnosticsScheduler(serverContext);
+        }
+
+        return diagnosticsScheduler;
+    }
+
+    private DiagnosticsScheduler(LanguageServerContext serverContext) {
+        serverContext.put(DIAGNOSTICS_SCHEDULER_KEY, this);
+        this.serverContext = serverContext;
+    }
+
+    /**
+     * Schedules publishing the diagnostics of the project of the given document. The previously scheduled
+     * compilation of the project is cancelled if it has not started yet, and superseded otherwise.
+     *
+     * @param client  Language client
+     * @param context Document Service context
+     */
+    public void schedule(ExtendedLanguageClient client, DocumentServiceContext context) {
+        WorkspaceManager workspaceManager = context.workspace();
+        Path filePath = context.filePath();
+        schedule(client, workspaceManager, filePath, workspaceManager.projectRoot(filePath), context.operation());
+    }
+
+    /**
+     * Schedules publishing the diagnostics of the project of the given project root. This is used for the changes
+     * notified through the workspace service, such as the reloading of a project when its files are changed.
+     *
+     * @param client      Language client
+     * @param context     Workspace Service context
+     * @param projectRoot project root
+     */
+    public void schedule(ExtendedLanguageClient client, WorkspaceServiceContext context, Path projectRoot) {
+        schedule(client, context.workspace(), projectRoot, projectRoot, context.operation());
+    }
+
+    /**
+     * Discards the schedule of the project of the given project root, once the project is removed from the
+     * workspace. The scheduled compilation of the project is cancelled, and the compilation in progress is superseded.
+     *
+     * @param projectRoot project root
+     */
+    public void remove(Path projectRoot) {
+        ProjectSchedule schedule = projectSchedules.remove(projectRoot);
+        if (schedule == null) {
+            return;
+        }
+        synchronized (schedule) {
+            schedule.version++;
+            if (schedule.scheduledRun != null) {
+                schedule.scheduledRun.cancel(false);
+            }
+        }
+    }
+
+    private void schedule(ExtendedLanguageClient client, WorkspaceManager workspaceManager, Path filePath,
+                          Path projectRoot, LSOperation operation) {
+        boolean isSourceChange = operation == LSContextOperation.TXT_DID_CHANGE;
+
+        ProjectSchedule schedule = projectSchedules.computeIfAbsent(projectRoot, key -> new ProjectSchedule());
+        synchronized (schedule) {
+            long version = ++schedule.version;
+            if (schedule.scheduledRun != null) {
+                schedule.scheduledRun.cancel(false);
+            }
+            if (schedule.pendingChanges == 0) {
+                schedule.firstPendingChangeTime = System.nanoTime();
+            }
+            schedule.pendingChanges++;
+            schedule.sourceChanged |= isSourceChange;
+
+            Executor delayedExecutor = CompletableFuture.delayedExecutor(DIAGNOSTIC_DELAY, TimeUnit.MILLISECONDS);
+            schedule.scheduledRun = CompletableFuture.runAsync(() -> publishDiagnostics(client, workspaceManager,
+                    filePath, projectRoot, operation, schedule, version), delayedExecutor);
+        }
+    }
+
+    private void publishDiagnostics(ExtendedLanguageClient client, WorkspaceManager workspaceManager, Path filePath,
+                                    Path projectRoot, LSOperation operation, ProjectSchedule schedule,
+                                    long version) {
+        BooleanSupplier isCancelled = () -> schedule.version != version;
+        boolean isSourceChange;
+        synchronized (schedule) {
+            if (isCancelled.getAsBoolean()) {
+                return;
+            }
+            isSourceChange = schedule.sourceChanged;
+        }
+
+        long openDocumentsLatency = -1;
+        boolean published = false;
+        try {
+            DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(serverContext);
+            Optional<PackageCompilation> compilation;
+            if (workspaceManager instanceof BallerinaWorkspaceManager ballerinaWorkspaceManager) {
+                if (diagnosticsHelper.compileAndSendOpenDocumentDiagnostics(client, ballerinaWorkspaceManager,
+                        projectRoot, isSourceChange, isCancelled)) {
+                    openDocumentsLatency = elapsedMillis(schedule);
+                }
+                if (isCancelled.getAsBoolean()) {
+                    cancel(schedule);
+                    return;
+                }
+                compilation = ballerinaWorkspaceManager.waitAndGetPackageCompilation(filePath, isSourceChange);
+            } else {
+                compilation = workspaceManager.waitAndGetPackageCompilation(filePath);
+            }
+
+            if (isCancelled.getAsBoolean()) {
+                cancel(schedule);
+                return;
+            }
+            if (compilation.isPresent()) {
+                diagnosticsHelper.compileAndSendDiagnostics(client, projectRoot, compilation.get(),
+                        workspaceManager);
+                published = true;
+            }
+        } catch (Throwable e) {
+            LSClientLogger.getInstance(serverContext).logError(operation, "Failed to publish diagnostics", e,
+                    null, (Position) null);
+        } finally {
+            // Resets the pending changes even if the compilation fails, which is a no-op if it has been superseded
+            complete(schedule, version, openDocumentsLatency, published);
+        }
+    }
+
+    private void cancel(ProjectSchedule schedule) {
+        synchronized (schedule) {
+            schedule.cancelledCompilations++;
+        }
+    }
+
+    private void complete(ProjectSchedule schedule, long version, long openDocumentsLatency, boolean published) {
+        LSDiagnosticsTelemetryEvent event;
+        synchronized (schedule) {
+            // The changes made after this compilation started are published by their own compilation
+            if (schedule.version != version) {
+                return;
+            }
+            event = LSDiagnosticsTelemetryEvent.from(openDocumentsLatency, elapsedMillis(schedule),
+                    schedule.pendingChanges, schedule.cancelledCompilations);
+            schedule.pendingChanges = 0;
+            schedule.cancelledCompilations = 0;
+            schedule.sourceChanged = false;
+        }
+        if (published) {
+            TelemetryUtil.sendTelemetryEvent(serverContext, event);
+        }
+    }
+
+    private static long elapsedMillis(ProjectSchedule schedule) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - schedule.firstPendingChangeTime);
+    }
+
+    /**
+     * Holds the state of the diagnostics publishing of a project. Fields other than the version are guarded by the
+     * instance lock.
+     */
+    private static class ProjectSchedule {
+
+        private volatile long version;
+        private CompletableFuture<Void> scheduledRun;
+        private int pendingChanges;
+        private int cancelledCompilations;
+        private long firstPendingChangeTime;
+        private boolean sourceChanged;
+    }
+}
@@ -24,7 +24,7 @@ import org.ballerinalang.langserver.commons.capability.LSClientCapabilities;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.eventsync.EventKind;
 import org.ballerinalang.langserver.commons.eventsync.spi.EventSubscriber;
-import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsScheduler;
 
 /**
  * Publishes diagnostics.
@@ -46,8 +46,7 @@ public class PublishDiagnosticSubscriber implements EventSubscriber {
                         LanguageServerContext languageServerContext) {
         LSClientCapabilities lsClientCapabilities = context.languageServercontext().get(LSClientCapabilities.class);
         if (!lsClientCapabilities.getInitializationOptions().isEnableLightWeightMode()) {
-            DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(languageServerContext);
-            diagnosticsHelper.compileAndSendDiagnostics(client, context);
+            DiagnosticsScheduler.getInstance(languageServerContext).schedule(client, context);
         }
     }
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.telemetry;
+
+import org.ballerinalang.langserver.common.utils.CommonUtil;
+
+/**
+ * Represents a telemetry event sent to gather the latency of publishing diagnostics.
+ * <p>
+ * Latencies are measured from the first change which had not been published yet, hence they include the time spent
+ * waiting for further changes and the time spent on the compilations superseded by newer changes.
+ *
+ * @since 2201.10.0
+ */
+public class LSDiagnosticsTelemetryEvent extends LSTelemetryEvent {
+
+    private static final String DIAGNOSTICS_COMPONENT_NAME = LS_TELEMETRY_COMPONENT_NAME + ".diagnostics";
+
+    private final long openDocumentsLatency;
+    private final long packageLatency;
+    private final int coalescedChanges;
+    private final int cancelledCompilations;
+
+    protected LSDiagnosticsTelemetryEvent(String component, String version, long openDocumentsLatency,
+                                          long packageLatency, int coalescedChanges, int cancelledCompilations) {
+        super(LSTelemetryEvent.TYPE_DIAGNOSTICS_EVENT, component, version);
+        this.openDocumentsLatency = openDocumentsLatency;
+        this.packageLatency = packageLatency;
+        this.coalescedChanges = coalescedChanges;
+        this.cancelledCompilations = cancelledCompilations;
+    }
+
+    /**
+     * Get the time in milliseconds taken to publish the diagnostics of the opened documents.
+     *
+     * @return Latency, or -1 if the diagnostics of the opened documents were not published separately
+     */
+    public long getOpenDocumentsLatency() {
+        return openDocumentsLatency;
+    }
+
+    /**
+     * Get the time in milliseconds taken to publish the diagnostics of the whole package.
+     *
+     * @return Latency
+     */
+    public long getPackageLatency() {
+        return packageLatency;
+    }
+
+    public int getCoalescedChanges() {
+        return coalescedChanges;
+    }
+
+    public int getCancelledCompilations() {
+        return cancelledCompilations;
+    }
+
+    public static LSDiagnosticsTelemetryEvent from(long openDocumentsLatency, long packageLatency,
+                                                   int coalescedChanges, int cancelledCompilations) {
+        return new LSDiagnosticsTelemetryEvent(DIAGNOSTICS_COMPONENT_NAME, CommonUtil.SDK_VERSION,
+                openDocumentsLatency, packageLatency, coalescedChanges, cancelledCompilations);
+    }
+}
@@ -27,6 +27,7 @@ public abstract class LSTelemetryEvent {
     /** Sub types of this class. */
     public static final String TYPE_ERROR_EVENT = "ErrorTelemetryEvent";
     public static final String TYPE_FEATURE_USAGE_EVENT = "FeatureUsageTelemetryEvent";
+    public static final String TYPE_DIAGNOSTICS_EVENT = "DiagnosticsTelemetryEvent";
 
     protected static final String LS_PACKAGE_NAME = "org.ballerinalang.langserver";
     protected static final String LS_TELEMETRY_COMPONENT_NAME = "component.langserver";
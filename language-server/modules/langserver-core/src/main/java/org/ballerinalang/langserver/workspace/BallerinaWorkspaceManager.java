@@ -65,6 +65,7 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.config.LSClientConfigHolder;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsScheduler;
 import org.ballerinalang.langserver.eventsync.EventSyncPubSubHolder;
 import org.ballerinalang.langserver.exception.UserErrorException;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
@@ -98,6 +99,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -126,7 +128,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     protected final Map<Path, ProjectContext> sourceRootToProject;
     protected final LSClientLogger clientLogger;
     private final LanguageServerContext serverContext;
-    private final Set<Path> openedDocuments = new HashSet<>();
+    private final Set<Path> openedDocuments = ConcurrentHashMap.newKeySet();
+    private final SharedProjectEnvironment sharedProjectEnvironment = new SharedProjectEnvironment();
 
     public BallerinaWorkspaceManager(LanguageServerContext serverContext) {
         this.serverContext = serverContext;
@@ -362,6 +365,48 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    /**
+     * Returns the compilation of the module of the given document, without compiling the other modules of the
+     * package which the module does not depend on.
+     *
+     * @param filePath       file path of the document
+     * @param isSourceChange True if the given file's source is changed
+     * @return {@link ModuleCompilation}
+     */
+    public Optional<ModuleCompilation> waitAndGetModuleCompilation(Path filePath, boolean isSourceChange) {
+        // Get Project and Lock
+        Optional<ProjectContext> projectPair = projectContext(projectRoot(filePath));
+        if (projectPair.isEmpty() || (projectPair.get().compilationCrashed() && !isSourceChange)) {
+            return Optional.empty();
+        }
+
+        // Lock Project Instance
+        Lock lock = projectPair.get().lockAndGet();
+        try {
+            Optional<Module> module = module(filePath);
+            // Modules cannot be compiled on their own if the dependencies of the package could not be resolved
+            if (module.isEmpty() || module.get().packageInstance().getResolution().diagnosticResult().hasErrors()) {
+                return Optional.empty();
+            }
+            return Optional.of(module.get().getCompilation());
+        } finally {
+            // Unlock Project Instance
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the paths of the documents opened in the client, which belong to the given project.
+     *
+     * @param projectRoot project root
+     * @return paths of the opened documents
+     */
+    public List<Path> openedDocuments(Path projectRoot) {
+        return this.openedDocuments.stream()
+                .filter(filePath -> projectRoot.equals(projectRoot(filePath)))
+                .toList();
+    }
+
     /**
      * Returns module compilation from the file path provided.
      *
@@ -852,6 +897,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                     // If it is a single-file-project, remove project from mapping
                     Path projectRoot = project.sourceRoot();
                     sourceRootToProject.remove(projectRoot);
+                    DiagnosticsScheduler.getInstance(serverContext).remove(projectRoot);
                     clientLogger.logTrace(String.format("Operation '%s' {project: '%s' kind: '%s'} removed",
                             LSContextOperation.WS_WF_CHANGED.getName(),
                             projectRoot.toUri().toString(),
@@ -907,6 +953,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                     try {
                         Path projectRoot = project.sourceRoot();
                         sourceRootToProject.remove(projectRoot);
+                        sharedProjectEnvironment.release(projectRoot);
+                        DiagnosticsScheduler.getInstance(serverContext).remove(projectRoot);
                         clientLogger.logTrace(
                                 String.format("Operation '%s' {project: '%s', kind: '%s'} removed",
                                         LSContextOperation.WS_WF_CHANGED.getName(),
@@ -1115,6 +1163,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                         // When changing project type; need to remove key as well
                         // First, remove single-file-project key
                         sourceRootToProject.remove(projectContext.project().sourceRoot());
+                        DiagnosticsScheduler.getInstance(serverContext).remove(projectContext.project().sourceRoot());
                         // Then, add the project as a build-project
                         Path ballerinaTomlFilePath = projectContext.project().sourceRoot().getParent()
                                 .resolve(ProjectConstants.BALLERINA_TOML);
@@ -1335,6 +1384,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (project.get().kind() == ProjectKind.SINGLE_FILE_PROJECT) {
             Path projectRoot = project.get().sourceRoot();
             sourceRootToProject.remove(projectRoot);
+            DiagnosticsScheduler.getInstance(serverContext).remove(projectRoot);
             clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {project: '" + projectRoot.toUri().toString() +
                     "' kind: '" + project.get().kind().name().toLowerCase(Locale.getDefault()) +
@@ -1383,7 +1433,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                     .setSticky(true)
                     .build();
             if (projectKind == ProjectKind.BUILD_PROJECT) {
-                project = BuildProject.load(projectRoot, options);
+                project = sharedProjectEnvironment.loadBuildProject(projectRoot, options);
             } else if (projectKind == ProjectKind.SINGLE_FILE_PROJECT) {
                 project = SingleFileProject.load(projectRoot, options);
             } else {
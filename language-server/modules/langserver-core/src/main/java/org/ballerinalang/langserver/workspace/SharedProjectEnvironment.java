@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.PackageName;
+import io.ballerina.projects.PackageOrg;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.projects.environment.PackageCache;
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.toml.semantic.ast.TomlStringValueNode;
+import io.ballerina.toml.semantic.ast.TomlValueNode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds an {@link Environment} shared by the build projects of a workspace.
+ * <p>
+ * The dependencies resolved and compiled for a project, including the lang libs, are cached in the environment and
+ * are reused by the other projects of the environment, instead of being loaded and compiled once per project. As the
+ * environment retains the dependencies of all of its projects, it is no longer shared once one of its projects is
+ * released, and it is dropped once the rest of its projects are released or reloaded.
+ * <p>
+ * A build project is not shared if another project of the environment, or one of its dependencies, has the same
+ * package name, so that their modules do not replace each other in the compiler caches. This is checked against the
+ * package name in the Ballerina.toml, before the project is loaded. Single file projects are not shared, since all
+ * of them compile as the same anonymous package.
+ *
+ * @since 2201.10.0
+ */
+class SharedProjectEnvironment {
+
+    private final Map<Path, SharedProject> projects = new HashMap<>();
+    private Environment environment;
+
+    /**
+     * Loads the build project of the given root, using the shared environment when possible.
+     *
+     * @param projectRoot  root of the project
+     * @param buildOptions build options of the project
+     * @return the loaded project
+     */
+    BuildProject loadBuildProject(Path projectRoot, BuildOptions buildOptions) {
+        Optional<Environment> sharedEnvironment = acquire(projectRoot, packageDescriptor(projectRoot));
+        if (sharedEnvironment.isEmpty()) {
+            return BuildProject.load(projectRoot, buildOptions);
+        }
+        try {
+            return BuildProject.load(ProjectEnvironmentBuilder.getBuilder(sharedEnvironment.get()), projectRoot,
+                    buildOptions);
+        } catch (RuntimeException e) {
+            release(projectRoot);
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the shared environment from the project of the given root, after which the environment is not shared
+     * with the projects loaded later on. This is a no-op if the project does not use the shared environment.
+     *
+     * @param projectRoot root of the project
+     */
+    synchronized void release(Path projectRoot) {
+        SharedProject project = projects.remove(projectRoot);
+        if (project != null && project.environment() == environment) {
+            environment = null;
+        }
+    }
+
+    private synchronized Optional<Environment> acquire(Path projectRoot, PackageDescriptor descriptor) {
+        if (hasConflict(projectRoot, descriptor)) {
+            release(projectRoot);
+            return Optional.empty();
+        }
+        if (environment == null) {
+            environment = EnvironmentBuilder.getBuilder().setRetainPackages(true).build();
+        }
+        projects.put(projectRoot, new SharedProject(descriptor, environment));
+        return Optional.of(environment);
+    }
+
+    private boolean hasConflict(Path projectRoot, PackageDescriptor descriptor) {
+        if (environment == null) {
+            return false;
+        }
+        for (Map.Entry<Path, SharedProject> entry : projects.entrySet()) {
+            SharedProject other = entry.getValue();
+            if (!entry.getKey().equals(projectRoot) && other.environment() == environment
+                    && other.descriptor().org().equals(descriptor.org())
+                    && other.descriptor().name().equals(descriptor.name())) {
+                return true;
+            }
+        }
+        PackageCache packageCache = environment.getService(PackageCache.class);
+        return !packageCache.getPackages(descriptor.org(), descriptor.name()).isEmpty();
+    }
+
+    private static PackageDescriptor packageDescriptor(Path projectRoot) {
+        // Defaults to the same org and name as the project loader does, if they are not given
+        PackageOrg org = ProjectUtils.defaultOrg();
+        PackageName name = ProjectUtils.defaultName(projectRoot);
+        Toml ballerinaToml;
+        try {
+            ballerinaToml = Toml.read(projectRoot.resolve(ProjectConstants.BALLERINA_TOML));
+        } catch (IOException e) {
+            // Loading the project reports the missing Ballerina.toml
+            return PackageDescriptor.from(org, name);
+        }
+        if (ballerinaToml == null) {
+            return PackageDescriptor.from(org, name);
+        }
+        Optional<TomlValueNode> orgNode = ballerinaToml.get("package.org");
+        if (orgNode.isPresent() && orgNode.get() instanceof TomlStringValueNode orgValue) {
+            org = PackageOrg.from(orgValue.getValue());
+        }
+        Optional<TomlValueNode> nameNode = ballerinaToml.get("package.name");
+        if (nameNode.isPresent() && nameNode.get() instanceof TomlStringValueNode nameValue) {
+            name = PackageName.from(nameValue.getValue());
+        }
+        return PackageDescriptor.from(org, name);
+    }
+
+    private record SharedProject(PackageDescriptor descriptor, Environment environment) {
+    }
+}
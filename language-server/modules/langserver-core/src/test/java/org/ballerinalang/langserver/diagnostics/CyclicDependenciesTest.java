@@ -25,7 +25,7 @@ import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncExcept
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
 import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
-import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsScheduler;
 import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.MessageParams;
@@ -62,8 +62,8 @@ public class CyclicDependenciesTest {
                         this.serverContext);
 
         this.workspaceManager.loadProject(projectPath);
-        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(this.serverContext);
-        diagnosticsHelper.schedulePublishDiagnostics(mockClient, serviceContext);
+        DiagnosticsScheduler diagnosticsScheduler = DiagnosticsScheduler.getInstance(this.serverContext);
+        diagnosticsScheduler.schedule(mockClient, serviceContext);
         Thread.sleep(2000);
 
         Mockito.verify(mockClient, Mockito.times(expectedMessages.size())).showMessage(Mockito.any());
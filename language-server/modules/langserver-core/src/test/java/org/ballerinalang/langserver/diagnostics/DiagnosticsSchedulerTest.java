@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.diagnostics;
+
+import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.ContextBuilder;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsScheduler;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests the scheduling of the diagnostics publishing.
+ *
+ * @since 2201.10.0
+ */
+public class DiagnosticsSchedulerTest {
+
+    private final Path projectRoot =
+            FileUtils.RES_DIR.resolve("diagnostics").resolve("sources").resolve("diag_project");
+    private final LanguageServerContext serverContext = new LanguageServerContextImpl();
+    private final BallerinaWorkspaceManager workspaceManager = new BallerinaWorkspaceManager(serverContext);
+
+    @Test
+    public void testCoalescedChanges() throws IOException, WorkspaceDocumentException {
+        Path openedDocument = projectRoot.resolve("modules").resolve("module1").resolve("main.bal");
+        Path otherDocument = projectRoot.resolve("main.bal");
+        String uri = openedDocument.toUri().toString();
+
+        DidOpenTextDocumentParams documentParams = new DidOpenTextDocumentParams();
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(uri);
+        textDocumentItem.setText(Files.readString(openedDocument));
+        documentParams.setTextDocument(textDocumentItem);
+        workspaceManager.didOpen(openedDocument, documentParams);
+
+        ExtendedLanguageClient mockClient = Mockito.mock(ExtendedLanguageClient.class);
+        DocumentServiceContext serviceContext = ContextBuilder.buildDocumentServiceContext(uri,
+                this.workspaceManager, LSContextOperation.TXT_DID_CHANGE, this.serverContext);
+        DiagnosticsScheduler diagnosticsScheduler = DiagnosticsScheduler.getInstance(serverContext);
+        for (int i = 0; i < 5; i++) {
+            diagnosticsScheduler.schedule(mockClient, serviceContext);
+        }
+
+        // The opened document is published ahead of the package and again with the package, while the other
+        // documents are published only with the package. The changes are coalesced into a single compilation.
+        Mockito.verify(mockClient, Mockito.timeout(10000).times(2))
+                .publishDiagnostics(Mockito.argThat(diagnosticsOf(openedDocument)));
+        Mockito.verify(mockClient, Mockito.timeout(10000).times(1))
+                .publishDiagnostics(Mockito.argThat(diagnosticsOf(otherDocument)));
+    }
+
+    private static ArgumentMatcher<PublishDiagnosticsParams> diagnosticsOf(Path document) {
+        Path documentPath = document.toAbsolutePath().normalize();
+        return params -> params != null && !params.getDiagnostics().isEmpty()
+                && Path.of(URI.create(params.getUri())).normalize().equals(documentPath);
+    }
+}
@@ -555,6 +555,48 @@ public class TestWorkspaceManager {
         Assert.assertTrue(project.isPresent());
     }
 
+    @Test
+    public void testSharedProjectEnvironment() throws WorkspaceDocumentException, EventSyncException {
+        Path project2File = RESOURCE_DIRECTORY.resolve("workspace").resolve("workspace3").resolve("project2")
+                .resolve("main.bal").toAbsolutePath();
+        Path project3File = RESOURCE_DIRECTORY.resolve("workspace").resolve("workspace3").resolve("project3")
+                .resolve("main.bal").toAbsolutePath();
+        // Following projects have the same org and package name
+        Path longRunningFile = RESOURCE_DIRECTORY.resolve("long_running").resolve("main.bal").toAbsolutePath();
+        Path helloServiceFile = RESOURCE_DIRECTORY.resolve("hello_service").resolve("main.bal").toAbsolutePath();
+
+        Project project2 = workspaceManager.loadProject(project2File);
+        Project project3 = workspaceManager.loadProject(project3File);
+        Project longRunning = workspaceManager.loadProject(longRunningFile);
+        Project helloService = workspaceManager.loadProject(helloServiceFile);
+
+        // Distinct build projects share the environment, while projects with the same package name do not
+        Assert.assertSame(project3.projectEnvironmentContext().environment(),
+                project2.projectEnvironmentContext().environment());
+        Assert.assertSame(longRunning.projectEnvironmentContext().environment(),
+                project2.projectEnvironmentContext().environment());
+        Assert.assertNotSame(helloService.projectEnvironmentContext().environment(),
+                project2.projectEnvironmentContext().environment());
+
+        // Both projects compile using the shared environment
+        Assert.assertFalse(project2.currentPackage().getCompilation().diagnosticResult().hasErrors());
+        Assert.assertFalse(project3.currentPackage().getCompilation().diagnosticResult().hasErrors());
+
+        // Single file projects compile as the same anonymous package, hence each of them has its own environment
+        Path greetFile = RESOURCE_DIRECTORY.resolve("single-files").resolve("greet.bal").toAbsolutePath();
+        Path farewellFile = RESOURCE_DIRECTORY.resolve("single-files").resolve("farewell.bal")
+                .toAbsolutePath();
+        Project greet = workspaceManager.loadProject(greetFile);
+        Project farewell = workspaceManager.loadProject(farewellFile);
+        Assert.assertEquals(greet.kind(), ProjectKind.SINGLE_FILE_PROJECT);
+        Assert.assertNotSame(greet.projectEnvironmentContext().environment(),
+                project2.projectEnvironmentContext().environment());
+        Assert.assertNotSame(farewell.projectEnvironmentContext().environment(),
+                greet.projectEnvironmentContext().environment());
+        Assert.assertFalse(greet.currentPackage().getCompilation().diagnosticResult().hasErrors());
+        Assert.assertFalse(farewell.currentPackage().getCompilation().diagnosticResult().hasErrors());
+    }
+
     @Test
     public void testWSRunStopProject()
             throws WorkspaceDocumentException, EventSyncException, LSCommandExecutorException, IOException {
@@ -0,0 +1,9 @@
+import ballerina/io;
+
+public function main() {
+    io:println(farewell());
+}
+
+function farewell() returns string {
+    return "Bye";
+}
@@ -0,0 +1,9 @@
+import ballerina/io;
+
+public function main() {
+    io:println(greeting());
+}
+
+function greeting() returns string {
+    return "Hello";
+}
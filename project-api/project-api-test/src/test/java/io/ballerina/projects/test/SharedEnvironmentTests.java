@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Contains cases to test projects which share an environment.
+ *
+ * @since 2201.10.0
+ */
+public class SharedEnvironmentTests {
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/shared_environment")
+            .toAbsolutePath();
+
+    @BeforeClass
+    public void setup() {
+        BCompileUtil.compileAndCacheBala("hierarchical_pkg_names/package_a");
+        BCompileUtil.compileAndCacheBala("hierarchical_pkg_names/package_a.b");
+    }
+
+    @Test(description = "tests changing the imports of a project which shares its dependencies with another project")
+    public void testChangeImportsOfProjectWithSharedDependencies() {
+        Environment environment = EnvironmentBuilder.getBuilder().setRetainPackages(true).build();
+        BuildProject projectOne = TestUtils.loadBuildProject(ProjectEnvironmentBuilder.getBuilder(environment),
+                RESOURCE_DIRECTORY.resolve("app_one"));
+        BuildProject projectTwo = TestUtils.loadBuildProject(ProjectEnvironmentBuilder.getBuilder(environment),
+                RESOURCE_DIRECTORY.resolve("app_two"));
+        assertNoErrors(projectOne);
+        assertNoErrors(projectTwo);
+
+        PackageCache packageCache = PackageCache.getInstance(
+                projectTwo.projectEnvironmentContext().getService(CompilerContext.class));
+        BPackageSymbol sharedDependency = packageCache.getSymbol("samjs/a.b");
+        Assert.assertNotNull(sharedDependency);
+
+        // Drop the dependency shared with the other project
+        Document documentOne = getDocument(projectOne, "main.bal");
+        documentOne.modify().withContent("""
+                import samjs/a;
+
+                public function funcOne() {
+                    a:funcA();
+                }
+                """).apply();
+        assertNoErrors(projectOne);
+        Assert.assertSame(packageCache.getSymbol("samjs/a.b"), sharedDependency);
+
+        // The other project is recompiled using the same dependency
+        Document documentTwo = getDocument(projectTwo, "main.bal");
+        documentTwo.modify().withContent(documentTwo.textDocument().toString() + "\npublic function funcThree() {\n}\n")
+                .apply();
+        assertNoErrors(projectTwo);
+        Assert.assertSame(packageCache.getSymbol("samjs/a.b"), sharedDependency);
+    }
+
+    private static void assertNoErrors(Project project) {
+        DiagnosticResult diagnosticResult = project.currentPackage().getCompilation().diagnosticResult();
+        Assert.assertFalse(diagnosticResult.hasErrors(), TestUtils.getDiagnosticsAsString(diagnosticResult));
+    }
+
+    private static Document getDocument(Project project, String documentName) {
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        for (DocumentId documentId : defaultModule.documentIds()) {
+            Document document = defaultModule.document(documentId);
+            if (document.name().equals(documentName)) {
+                return document;
+            }
+        }
+        throw new IllegalStateException("Document not found: " + documentName);
+    }
+}
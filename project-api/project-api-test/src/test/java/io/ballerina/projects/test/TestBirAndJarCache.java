@@ -30,10 +30,12 @@ import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.repos.FileSystemCache;
 import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -105,6 +107,107 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests reusing the cached BIR and Jar files of unchanged modules")
+    public void testBirAndJarCacheReuse() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+
+        // 1) The first build compiles and caches every module
+        TestCompilationCache compilationCache = compileWithCache(projectPath, cacheDirPath, buildOptions);
+        Assert.assertTrue(compilationCache.birCachedCount > 0);
+        try (Stream<Path> pathStream = Files.find(cacheDirPath, 100, (path, fileAttributes) ->
+                path.getFileName().toString().endsWith(ProjectConstants.BLANG_COMPILED_PKG_BIR_HASH_EXT))) {
+            Assert.assertEquals(pathStream.count(), compilationCache.birCachedCount);
+        }
+
+        // 2) A build of the unchanged project reuses the cached BIR and Jar files
+        compilationCache = compileWithCache(projectPath, cacheDirPath, buildOptions);
+        Assert.assertEquals(compilationCache.birCachedCount, 0);
+        Assert.assertEquals(compilationCache.jarCachedCount, 0);
+
+        // 3) Changing a build option that affects code generation invalidates the cache
+        BuildOptions observabilityOptions = BuildOptions.builder()
+                .setEnableCache(true)
+                .setObservabilityIncluded(true)
+                .build();
+        compilationCache = compileWithCache(projectPath, cacheDirPath, observabilityOptions);
+        Assert.assertTrue(compilationCache.birCachedCount > 0);
+        Assert.assertEquals(compilationCache.jarCachedCount, compilationCache.birCachedCount);
+    }
+
+    @Test(description = "tests invalidating the cached BIR and Jar files of modules with changed resources")
+    public void testBirAndJarCacheWithChangedResources() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-bir-cache-resources" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne").toFile(),
+                projectPath.toFile());
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+        compileWithCache(projectPath, cacheDirPath, buildOptions);
+
+        // 1) Changing the content of a resource recompiles only the module of the resource
+        Path resourcesPath = projectPath.resolve(ProjectConstants.MODULES_ROOT).resolve("storage")
+                .resolve(ProjectConstants.RESOURCE_DIR_NAME);
+        Files.writeString(resourcesPath.resolve("db.json"), "{\"name\": \"changed\"}");
+        TestCompilationCache compilationCache = compileWithCache(projectPath, cacheDirPath, buildOptions);
+        Assert.assertEquals(compilationCache.birCachedCount, 1);
+        Assert.assertEquals(compilationCache.jarCachedCount, 1);
+
+        // 2) Adding a resource recompiles the module as well
+        Files.writeString(resourcesPath.resolve("db-copy.json"), "{\"name\": \"changed\"}");
+        compilationCache = compileWithCache(projectPath, cacheDirPath, buildOptions);
+        Assert.assertEquals(compilationCache.birCachedCount, 1);
+        Assert.assertEquals(compilationCache.jarCachedCount, 1);
+
+        // 3) The unchanged project reuses the cache again
+        compilationCache = compileWithCache(projectPath, cacheDirPath, buildOptions);
+        Assert.assertEquals(compilationCache.birCachedCount, 0);
+        Assert.assertEquals(compilationCache.jarCachedCount, 0);
+    }
+
+    private static TestCompilationCache compileWithCache(Path projectPath, Path cacheDirPath,
+                                                         BuildOptions buildOptions) {
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+        return testCompCacheFactory.compilationCache();
+    }
+
+    @Test(description = "tests caching the BIR of a module only after its Jar is cached")
+    public void testBirIsNotCachedWhenJarCachingFails() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath, "storage");
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        Package currentPackage = project.currentPackage();
+        PackageCompilation pkgCompilation = currentPackage.getCompilation();
+
+        try {
+            JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_17);
+            Assert.fail("expected caching the jar of the storage module to fail");
+        } catch (ProjectException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to cache generated jar, module: winery.storage");
+        }
+
+        // The other modules, which do not depend on the failed module, are still cached
+        TestCompilationCache testCompilationCache = testCompCacheFactory.compilationCache();
+        Assert.assertEquals(testCompilationCache.birCachedCount, currentPackage.moduleIds().size() - 1);
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            ModuleName moduleName = currentPackage.module(moduleId).moduleName();
+            boolean isFailedModule = "storage".equals(moduleName.moduleNamePart());
+            Assert.assertEquals(testCompilationCache.getBirContentHash(moduleName).isEmpty(), isFailedModule,
+                    moduleName.toString());
+        }
+    }
+
     @Test
     public void testCachingWhenCodeGenHasErrors() throws IOException {
         Path projectPath = RESOURCE_DIRECTORY.resolve("project_with_nonexisting_interop");
@@ -127,14 +230,20 @@ public class TestBirAndJarCache {
     private static class TestCompilationCacheFactory implements CompilationCacheFactory {
         private TestCompilationCache compilationCache;
         private final Path cacheDirPath;
+        private final String failingModuleNamePart;
 
         TestCompilationCacheFactory(Path cacheDirPath) {
+            this(cacheDirPath, null);
+        }
+
+        TestCompilationCacheFactory(Path cacheDirPath, String failingModuleNamePart) {
             this.cacheDirPath = cacheDirPath;
+            this.failingModuleNamePart = failingModuleNamePart;
         }
 
         @Override
         public CompilationCache createCompilationCache(Project project) {
-            compilationCache = new TestCompilationCache(project, cacheDirPath);
+            compilationCache = new TestCompilationCache(project, cacheDirPath, failingModuleNamePart);
             return compilationCache;
         }
 
@@ -149,21 +258,27 @@ public class TestBirAndJarCache {
     private static class TestCompilationCache extends FileSystemCache {
         public int birCachedCount;
         public int jarCachedCount;
+        private final String failingModuleNamePart;
 
-        public TestCompilationCache(Project project, Path cacheDirPath) {
+        public TestCompilationCache(Project project, Path cacheDirPath, String failingModuleNamePart) {
             super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
+            this.failingModuleNamePart = failingModuleNamePart;
         }
 
+        // Modules are cached concurrently
         @Override
-        public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        public synchronized void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
             super.cacheBir(moduleName, birContent);
             birCachedCount++;
         }
 
         @Override
-        public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
-                                                 String libraryName,
-                                                 ByteArrayOutputStream libraryContent) {
+        public synchronized void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                              String libraryName,
+                                                              ByteArrayOutputStream libraryContent) {
+            if (failingModuleNamePart != null && libraryName.contains("." + failingModuleNamePart + "-")) {
+                throw new IllegalStateException("Failed to write library: " + libraryName);
+            }
             super.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
             jarCachedCount++;
         }
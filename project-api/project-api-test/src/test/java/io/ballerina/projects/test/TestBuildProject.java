@@ -80,6 +80,7 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -1330,6 +1331,45 @@ public class TestBuildProject extends BaseTest {
                 .contains("missing required parameter 'c'"));
     }
 
+    @Test
+    public void testEditFunctionBodyOfDependantModuleDocument() {
+        Path projectPath = tempResourceDir.resolve("projects_for_edit_api_tests/package_with_dependencies");
+        // The edited body spans more lines than the original one
+        String updatedFunctionStr = """
+                public function concatStrings(string a, string b) returns string {
+                \tstring result = b + a;
+
+                \treturn result;
+                }
+                """;
+
+        // 1) Initialize the project instance
+        BuildProject project = loadBuildProject(projectPath);
+        // 2) Load current package
+        Package currentPackage = project.currentPackage();
+
+        // 3) Compile the package
+        PackageCompilation compilation = currentPackage.getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().diagnosticCount(), 0);
+
+        // 4) Edit only the function body of a module that is used by another module
+        Module module = currentPackage.module(ModuleName.from(PackageName.from("myproject"), "util"));
+        DocumentId documentId = module.documentIds().stream().findFirst().get();
+        module.document(documentId).modify().withContent(updatedFunctionStr).apply();
+
+        // 5) The dependant module should not be compiled again
+        PackageCompilation compilation1 = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation1.diagnosticResult().diagnosticCount(), 0);
+        Assert.assertSame(compilation1.defaultModuleBLangPackage(), compilation.defaultModuleBLangPackage());
+
+        // 6) The code of the reused dependant module is generated along with the edited module
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation1, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                jBallerinaBackend.diagnosticResult().errors().toString());
+        Path execPath = project.sourceRoot().resolve(TARGET_DIR_NAME).resolve("edited.jar");
+        Assert.assertTrue(jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, execPath).successful());
+    }
+
     @Test
     public void testRemoveDependantModuleDocument() {
         Path projectPath = tempResourceDir.resolve("projects_for_edit_api_tests/package_with_dependencies");
@@ -1748,6 +1788,28 @@ public class TestBuildProject extends BaseTest {
         }
     }
 
+    @Test
+    public void testEmitUnchangedExecutable() throws IOException {
+        Path projectPath = tempResourceDir.resolve("projects_for_resources_tests/package_e");
+        BuildProject buildProject = loadBuildProject(projectPath);
+        PackageCompilation compilation = buildProject.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        Path execPath = buildProject.sourceRoot().resolve(TARGET_DIR_NAME).resolve("unchanged.jar");
+        Assert.assertTrue(jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, execPath).successful());
+        FileTime lastModifiedTime = Files.getLastModifiedTime(execPath);
+
+        // Emitting again from the same inputs keeps the assembled executable
+        Assert.assertTrue(jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, execPath).successful());
+        Assert.assertEquals(Files.getLastModifiedTime(execPath), lastModifiedTime);
+
+        // A modified executable is assembled again
+        Files.writeString(execPath, "");
+        Assert.assertTrue(jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, execPath).successful());
+        try (JarFile execJar = new JarFile(execPath.toString())) {
+            Assert.assertNotNull(execJar.getJarEntry(RESOURCE_DIR_NAME + "/asmaj/package_e/0/project-info.properties"));
+        }
+    }
+
     @Test
     public void testAddResources() throws IOException {
         // 1. load the project
@@ -0,0 +1,7 @@
+import samjs/a;
+import samjs/a.b;
+
+public function funcOne() {
+    a:funcA();
+    b:funcAB();
+}
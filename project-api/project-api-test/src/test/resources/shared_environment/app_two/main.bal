@@ -0,0 +1,5 @@
+import samjs/a.b;
+
+public function funcTwo() {
+    b:funcAB();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.semantic.api.test.allreferences;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.semantic.api.test.allreferences.FindAllReferencesTest.assertLocations;
+import static io.ballerina.semantic.api.test.allreferences.FindAllReferencesTest.location;
+import static io.ballerina.semantic.api.test.util.SemanticAPITestUtils.getDefaultModulesSemanticModel;
+import static io.ballerina.semantic.api.test.util.SemanticAPITestUtils.getDocument;
+import static io.ballerina.semantic.api.test.util.SemanticAPITestUtils.getSemanticModelOf;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test cases for finding the references of module-level symbols, for which only the documents in which the name of
+ * the symbol appears are searched.
+ *
+ * @since 2201.10.0
+ */
+@Test
+public class FindRefsByNameTest {
+
+    private Project project;
+    private SemanticModel model;
+
+    @BeforeClass
+    public void setup() {
+        project = BCompileUtil.loadProject("test-src/find-all-ref/findRefsByNameProj");
+        model = getDefaultModulesSemanticModel(project);
+    }
+
+    @Test(dataProvider = "PositionProvider")
+    public void testFindReferencesInDefaultModule(String moduleName, String srcFile, LinePosition linePosition,
+                                                  List<Location> expLocations) {
+        Optional<Document> srcDocument = getDocument(project, moduleName, srcFile);
+        assertTrue(srcDocument.isPresent());
+        Optional<Symbol> symbol = getSemanticModelOf(project, moduleName).symbol(srcDocument.get(), linePosition);
+        assertTrue(symbol.isPresent());
+
+        List<Location> references = model.references(symbol.get());
+        assertLocations(references, expLocations);
+    }
+
+    @DataProvider(name = "PositionProvider")
+    public Object[][] getLookupPositions() {
+        return new Object[][]{
+                // Qualified references, including one with an import prefix and one within a string template
+                {"lib", "lib.bal", LinePosition.from(6, 16),
+                        List.of(location(3, 15, 20, "qualified.bal"),
+                                location(3, 20, 25, "aliased.bal"),
+                                location(3, 36, 41, "template.bal"))},
+                // Reference as an annotation
+                {"lib", "lib.bal", LinePosition.from(4, 29),
+                        List.of(location(2, 5, 11, "annotated.bal"))},
+                // References within a string template and an annotation value only
+                {null, "main.bal", LinePosition.from(0, 6),
+                        List.of(location(0, 6, 12, "main.bal"),
+                                location(3, 21, 27, "template.bal"),
+                                location(2, 19, 25, "annotated.bal"))},
+        };
+    }
+}
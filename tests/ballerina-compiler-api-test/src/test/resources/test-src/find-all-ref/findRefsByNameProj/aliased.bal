@@ -0,0 +1,5 @@
+import findRefsByNameProj.lib as greeting;
+
+function useAliased() returns string {
+    return greeting:greet("aliased");
+}
@@ -0,0 +1,5 @@
+import findRefsByNameProj.lib;
+
+@lib:Config {name: PREFIX}
+function annotated() {
+}
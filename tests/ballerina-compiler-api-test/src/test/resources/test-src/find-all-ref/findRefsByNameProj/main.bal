@@ -0,0 +1,4 @@
+const PREFIX = "pre";
+
+public function main() {
+}
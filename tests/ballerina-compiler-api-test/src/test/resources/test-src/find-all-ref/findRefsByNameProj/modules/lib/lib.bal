@@ -0,0 +1,9 @@
+public type ConfigData record {|
+    string name;
+|};
+
+public annotation ConfigData Config on function;
+
+public function greet(string name) returns string {
+    return "Hello " + name;
+}
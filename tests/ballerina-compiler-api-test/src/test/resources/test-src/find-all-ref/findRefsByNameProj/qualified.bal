@@ -0,0 +1,5 @@
+import findRefsByNameProj.lib;
+
+function useQualified() returns string {
+    return lib:greet("qualified");
+}
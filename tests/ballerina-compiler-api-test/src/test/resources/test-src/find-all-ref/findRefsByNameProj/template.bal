@@ -0,0 +1,5 @@
+import findRefsByNameProj.lib;
+
+function useInTemplate() returns string {
+    return string `${PREFIX}: ${lib:greet("template")}`;
+}
@@ -0,0 +1,3 @@
+function unrelated() returns int {
+    return 0;
+}
@@ -0,0 +1,80 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkInnerJoinWithQuery(int warmupCount, int benchmarkCount) returns int {
+    _ = innerJoin(getPersonArray(warmupCount), getDepartmentArray(warmupCount));
+
+    Person[] pl = getPersonArray(benchmarkCount);
+    Department[] dl = getDepartmentArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = innerJoin(pl, dl);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkOuterJoinWithQuery(int warmupCount, int benchmarkCount) returns int {
+    // only half of the persons have a department
+    _ = outerJoin(getPersonArray(warmupCount), getDepartmentArray(warmupCount / 2));
+
+    Person[] pl = getPersonArray(benchmarkCount);
+    Department[] dl = getDepartmentArray(benchmarkCount / 2);
+    int startTime = nanoTime();
+    _ = outerJoin(pl, dl);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJoinWithQueryAndSmallLimit(int warmupCount, int benchmarkCount) returns int {
+    _ = innerJoinWithLimit(getPersonArray(warmupCount), getDepartmentArray(warmupCount), 10);
+
+    Person[] pl = getPersonArray(benchmarkCount);
+    Department[] dl = getDepartmentArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = innerJoinWithLimit(pl, dl, 10);
+    return (nanoTime() - startTime);
+}
+
+function innerJoin(Person[] pl, Department[] dl) returns DeptPerson[] {
+    return from var person in pl
+        join var dept in dl
+        on person.id equals dept.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+}
+
+function outerJoin(Person[] pl, Department[] dl) returns DeptPerson[] {
+    return from var person in pl
+        outer join var dept in dl
+        on person.id equals dept?.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept?.name
+        };
+}
+
+function innerJoinWithLimit(Person[] pl, Department[] dl, int count) returns DeptPerson[] {
+    return from var person in pl
+        join var dept in dl
+        on person.id equals dept.id
+        limit count
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+}
@@ -0,0 +1,58 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+public function benchmarkQueryWhereLetSelect(int warmupCount, int benchmarkCount) returns int {
+    _ = whereLetSelect(getNumberArray(warmupCount));
+
+    int[] numbers = getNumberArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = whereLetSelect(numbers);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryWhereLetSelectPipeline(int warmupCount, int benchmarkCount) returns int {
+    _ = whereLetSelectWithLimit(getNumberArray(warmupCount), warmupCount);
+
+    int[] numbers = getNumberArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = whereLetSelectWithLimit(numbers, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function getNumberArray(int size) returns int[] {
+    int[] numbers = [];
+    foreach int i in 0 ..< size {
+        numbers.push(i);
+    }
+    return numbers;
+}
+
+function whereLetSelect(int[] numbers) returns int[] {
+    return from var n in numbers
+        where n % 2 == 0
+        let int squared = n * n
+        select squared + 1;
+}
+
+function whereLetSelectWithLimit(int[] numbers, int count) returns int[] {
+    // the limit clause keeps this query on the stream pipeline.
+    return from var n in numbers
+        where n % 2 == 0
+        let int squared = n * n
+        limit count
+        select squared + 1;
+}
@@ -0,0 +1,87 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkWorkerSendReceive() {
+    worker w1 {
+        foreach int i in 0 ..< 100 {
+            i -> w2;
+        }
+    }
+
+    worker w2 returns int {
+        int sum = 0;
+        foreach int i in 0 ..< 100 {
+            int value = <- w1;
+            sum = sum + value;
+        }
+        return sum;
+    }
+
+    int _ = wait w2;
+}
+
+public function benchmarkWorkerSyncSendReceive() {
+    worker w1 {
+        foreach int i in 0 ..< 100 {
+            i ->> w2;
+        }
+    }
+
+    worker w2 returns int {
+        int sum = 0;
+        foreach int i in 0 ..< 100 {
+            int value = <- w1;
+            sum = sum + value;
+        }
+        return sum;
+    }
+
+    int _ = wait w2;
+}
+
+public function benchmarkWorkerPingPong() {
+    worker ping {
+        foreach int i in 0 ..< 100 {
+            i -> pong;
+            int _ = <- pong;
+        }
+    }
+
+    worker pong {
+        foreach int i in 0 ..< 100 {
+            int value = <- ping;
+            value -> ping;
+        }
+    }
+
+    _ = wait {ping, pong};
+}
+
+public function benchmarkStrandFanOut() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< 1000 {
+        futures.push(start square(i));
+    }
+
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += wait f;
+    }
+}
+
+function square(int i) returns int {
+    return i * i;
+}
@@ -36,6 +36,11 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkInnerJoinWithQuery", benchmarkInnerJoinWithQuery);
+    addSingleExecFunction("benchmarkOuterJoinWithQuery", benchmarkOuterJoinWithQuery);
+    addSingleExecFunction("benchmarkJoinWithQueryAndSmallLimit", benchmarkJoinWithQueryAndSmallLimit);
+    addSingleExecFunction("benchmarkQueryWhereLetSelect", benchmarkQueryWhereLetSelect);
+    addSingleExecFunction("benchmarkQueryWhereLetSelectPipeline", benchmarkQueryWhereLetSelectPipeline);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +68,8 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkWorkerSendReceive", benchmarkWorkerSendReceive);
+    addMultiExecFunction("benchmarkWorkerSyncSendReceive", benchmarkWorkerSyncSendReceive);
+    addMultiExecFunction("benchmarkWorkerPingPong", benchmarkWorkerPingPong);
+    addMultiExecFunction("benchmarkStrandFanOut", benchmarkStrandFanOut);
 }
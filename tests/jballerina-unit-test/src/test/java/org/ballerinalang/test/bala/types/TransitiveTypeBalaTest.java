@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.test.bala.types;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Bala tests for types that are read from the BIR of a dependency but are defined in a transitive dependency.
+ *
+ * @since 2201.10.0
+ */
+public class TransitiveTypeBalaTest {
+
+    @BeforeClass
+    public void setup() {
+        BCompileUtil.compileAndCacheBala("test-src/bala/test_projects/test_project_transitive_types_base");
+        BCompileUtil.compileAndCacheBala("test-src/bala/test_projects/test_project_transitive_types");
+    }
+
+    @Test
+    public void testTypesOfTransitiveDependency() {
+        CompileResult result = BCompileUtil.compile("test-src/bala/test_bala/types/transitive_type_bala_test.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, result.getDiagnosticResult().diagnostics().toString());
+        BRunUtil.invoke(result, "testTypesOfTransitiveDependency");
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRConstantFoldingOptimizer;
+
+/**
+ * Test to confirm the functionality of the {@link BIRConstantFoldingOptimizer}.
+ */
+public class BirConstantFoldingTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/constant_folding.bal";
+    private BCompileUtil.BIRCompileResult birResult;
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        BuildOptions buildOptions = BuildOptions.builder().setOptimizeBir(true).build();
+        birResult = BCompileUtil.generateBIR(SOURCE_FILE, buildOptions);
+        compileResult = BCompileUtil.compile(SOURCE_FILE, buildOptions);
+    }
+
+    @Test(description = "Test folding of constant arithmetic, concatenation and type tests")
+    public void testFoldedExpressions() {
+        for (String funcName : new String[]{"foldIntArithmetic", "foldStringConcat", "foldTypeTest"}) {
+            BIRNode.BIRFunction func = getFunction(funcName);
+            for (BIRNode.BIRBasicBlock basicBlock : func.basicBlocks) {
+                for (BIRNonTerminator instruction : basicBlock.instructions) {
+                    Assert.assertFalse(instruction instanceof BIRNonTerminator.BinaryOp
+                                    || instruction instanceof BIRNonTerminator.UnaryOP
+                                    || instruction instanceof BIRNonTerminator.TypeTest,
+                            "unexpected " + instruction.kind + " in " + funcName);
+                }
+            }
+        }
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "foldIntArithmetic"), 1L);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "foldStringConcat"),
+                StringUtils.fromString("Hello, Ballerina"));
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "foldTypeTest"), true);
+    }
+
+    @Test(description = "Test removal of branches on constant conditions")
+    public void testFoldedBranch() {
+        BIRNode.BIRFunction func = getFunction("foldBranch");
+        for (BIRNode.BIRBasicBlock basicBlock : func.basicBlocks) {
+            Assert.assertFalse(basicBlock.terminator instanceof BIRTerminator.Branch);
+        }
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "foldBranch"), 1L);
+    }
+
+    @Test(description = "Test that operations that panic at runtime are not folded")
+    public void testPanickingOperationsNotFolded() {
+        Assert.assertTrue(BRunUtil.invoke(compileResult, "keepDivisionByZero") instanceof BError);
+        Assert.assertTrue(BRunUtil.invoke(compileResult, "keepOverflow") instanceof BError);
+    }
+
+    private BIRNode.BIRFunction getFunction(String name) {
+        return birResult.getExpectedBIR().functions.stream()
+                .filter(func -> func.name.value.equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        compileResult = null;
+    }
+}
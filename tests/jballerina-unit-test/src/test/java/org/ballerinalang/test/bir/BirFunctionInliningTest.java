@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.ballerinalang.test.exceptions.BLangTestException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRFunctionInliner;
+
+/**
+ * Test to confirm the functionality of the {@link BIRFunctionInliner}.
+ */
+public class BirFunctionInliningTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/function_inlining.bal";
+    private BCompileUtil.BIRCompileResult birResult;
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        BuildOptions buildOptions = BuildOptions.builder().setOptimizeBir(true).build();
+        birResult = BCompileUtil.generateBIR(SOURCE_FILE, buildOptions);
+        compileResult = BCompileUtil.compile(SOURCE_FILE, buildOptions);
+    }
+
+    @Test(description = "Test inlining of small non-yielding functions")
+    public void testInlinedCalls() {
+        Assert.assertFalse(hasCall("sumOfSquares", "square"));
+        Assert.assertFalse(hasCall("largerSquare", "max"));
+        Assert.assertFalse(hasCall("largerSquare", "square"));
+        Assert.assertFalse(hasCall("greet", "getName"));
+
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "sumOfSquares", new Object[]{3L, 4L}), 25L);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "largerSquare", new Object[]{3L, 5L}), 25L);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "largerSquare", new Object[]{-7L, 5L}), 25L);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "greet"), StringUtils.fromString("Hello Anne"));
+    }
+
+    @Test(description = "Test that functions that call other functions are not inlined")
+    public void testCallingFunctionNotInlined() {
+        Assert.assertTrue(hasCall("recursiveCall", "factorial"));
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "recursiveCall"), 120L);
+    }
+
+    @Test(description = "Test that panics raised by inlined functions propagate to the caller")
+    public void testPanicInInlinedFunction() {
+        Assert.assertFalse(hasCall("averageAge", "divide"));
+        Assert.assertFalse(hasCall("getAge", "checkAge"));
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "averageAge", new Object[]{100L, 4L}), 25L);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "getAge", new Object[]{30L}), 30L);
+
+        // The panics of the inlined bodies are caught by the traps around the calls to their callers. Calls made
+        // within a trap are not inlined, so they stay covered by the trap.
+        Assert.assertTrue(hasCall("trapPanicsOfInlinedFunctions", "divide"));
+        BArray messages = (BArray) BRunUtil.invoke(compileResult, "trapPanicsOfInlinedFunctions");
+        Assert.assertEquals(messages.getBString(0).getValue(), "{ballerina}DivisionByZero");
+        Assert.assertEquals(messages.getBString(1).getValue(), "invalid age");
+        Assert.assertEquals(messages.getBString(2).getValue(), "{ballerina}DivisionByZero");
+    }
+
+    @Test(description = "Test that a panic raised by an inlined function propagates out of the caller",
+            expectedExceptions = BLangTestException.class,
+            expectedExceptionsMessageRegExp = "error: invalid age.*")
+    public void testUncaughtPanicInInlinedFunction() {
+        BRunUtil.invoke(compileResult, "getAge", new Object[]{-1L});
+    }
+
+    private boolean hasCall(String callerName, String calleeName) {
+        BIRNode.BIRFunction caller = birResult.getExpectedBIR().functions.stream()
+                .filter(func -> func.name.value.equals(callerName))
+                .findFirst()
+                .orElseThrow();
+        for (BIRNode.BIRBasicBlock basicBlock : caller.basicBlocks) {
+            if (basicBlock.terminator instanceof BIRTerminator.Call call && call.name.value.equals(calleeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        compileResult = null;
+    }
+}
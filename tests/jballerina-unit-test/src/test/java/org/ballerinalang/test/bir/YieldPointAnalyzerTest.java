@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.YieldPointAnalyzer;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+
+/**
+ * Test to confirm the functionality of the {@link YieldPointAnalyzer}.
+ */
+public class YieldPointAnalyzerTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/yield_points.bal";
+    private BIRNode.BIRPackage birPackage;
+    private YieldPointAnalyzer yieldPointAnalyzer;
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        birPackage = BCompileUtil.generateBIR(SOURCE_FILE).getExpectedBIR();
+        yieldPointAnalyzer = YieldPointAnalyzer.analyze(birPackage);
+        compileResult = BCompileUtil.compile(SOURCE_FILE);
+    }
+
+    @Test(description = "Test functions that never yield")
+    public void testNonYieldingFunctions() {
+        Assert.assertTrue(yieldPointAnalyzer.isNonYielding(getFunction("fib")));
+        Assert.assertTrue(yieldPointAnalyzer.isNonYielding(getFunction("isEven")));
+        Assert.assertTrue(yieldPointAnalyzer.isNonYielding(getFunction("isOdd")));
+        Assert.assertTrue(yieldPointAnalyzer.isNonYielding(getFunction("testMutualRecursion")));
+
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "testFib"), 6765L);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "testMutualRecursion"), true);
+    }
+
+    @Test(description = "Test functions that may yield")
+    public void testYieldingFunctions() {
+        Assert.assertFalse(yieldPointAnalyzer.isNonYielding(getFunction("waitForWorker")));
+        Assert.assertFalse(yieldPointAnalyzer.isNonYielding(getFunction("callsYieldingFunction")));
+        Assert.assertFalse(yieldPointAnalyzer.isNonYielding(getFunction("callsFunctionPointer")));
+
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "callsYieldingFunction"), 60L);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "callsFunctionPointer"), 55L);
+    }
+
+    private BIRNode.BIRFunction getFunction(String name) {
+        return birPackage.functions.stream()
+                .filter(func -> func.name.value.equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birPackage = null;
+        yieldPointAnalyzer = null;
+        compileResult = null;
+    }
+}
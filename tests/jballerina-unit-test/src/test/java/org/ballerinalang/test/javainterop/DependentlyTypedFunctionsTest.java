@@ -37,10 +37,15 @@ import static org.ballerinalang.test.BAssertUtil.validateError;
 public class DependentlyTypedFunctionsTest {
 
     private CompileResult result;
+    private CompileResult projectResult;
 
     @BeforeClass
     public void setup() {
         result = BCompileUtil.compile("test-src/javainterop/dependently_typed_functions_test.bal");
+        // The code of the independent modules of the project is generated concurrently
+        projectResult = BCompileUtil.compile("test-src/javainterop/dependently_typed_functions_project");
+        Assert.assertEquals(projectResult.getErrorCount(), 0,
+                projectResult.getDiagnosticResult().diagnostics().toString());
     }
 
     @Test
@@ -241,8 +246,23 @@ public class DependentlyTypedFunctionsTest {
         };
     }
 
+    @Test(dataProvider = "ProjectFunctionNames")
+    public void testDependentlyTypedFunctionsInProjectModules(String funcName) {
+        BRunUtil.invoke(projectResult, funcName);
+    }
+
+    @DataProvider(name = "ProjectFunctionNames")
+    public Object[][] getProjectFuncNames() {
+        return new Object[][]{
+                {"testSimpleTypes"},
+                {"testRecordTypes"},
+                {"testCollectionTypes"}
+        };
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
+        projectResult = null;
     }
 }
@@ -212,6 +212,14 @@ public class ObjectTest {
         Assert.assertEquals(returns.toString(), "sample name");
     }
 
+    @Test(description = "Test calling attached functions of objects of a different class than the static type")
+    public void testObjectCallAttachedFunctionsOfSubtype() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/object/object-call-attached-functions.bal");
+        Object returns = BRunUtil.invoke(compileResult, "testObjectCallAttachedFunctionsOfSubtype");
+
+        Assert.assertEquals(returns, 20L);
+    }
+
     @Test(description = "Test object inside object with different values")
     public void testObjectInsideObject() {
         CompileResult compileResult = BCompileUtil.compile("test-src/object/object-self-keyword-pass-values.bal");
@@ -125,6 +125,21 @@ public class JoinClauseTest {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
     
+    @Test(description = "Test join clause with decimal keys which differ in scale")
+    public void testJoinOnDecimalKeys() {
+        BRunUtil.invoke(result, "testJoinOnDecimalKeys");
+    }
+
+    @Test(description = "Test join clause with float keys including -0.0 and NaN")
+    public void testJoinOnFloatKeys() {
+        BRunUtil.invoke(result, "testJoinOnFloatKeys");
+    }
+
+    @Test(description = "Test join clause with map keys which differ in field order")
+    public void testJoinOnMapKeys() {
+        BRunUtil.invoke(result, "testJoinOnMapKeys");
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 40);
@@ -231,6 +231,30 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test query expr with order by clause followed by a limit clause over many frames")
+    public void testQueryExprWithOrderByAndLimitOverManyFrames() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitOverManyFrames");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
+    @Test(description = "Test query expr with order by clause followed by a limit clause referring query variables")
+    public void testQueryExprWithOrderByAndLimitReferringQueryVariables() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitReferringQueryVariables");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
+    @Test(description = "Test query expr with order by clause followed by a limit clause with side effects")
+    public void testQueryExprWithOrderByAndLimitWithSideEffects() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitWithSideEffects");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
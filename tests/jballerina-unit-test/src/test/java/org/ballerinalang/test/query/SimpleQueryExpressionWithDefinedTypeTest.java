@@ -388,6 +388,11 @@ public class SimpleQueryExpressionWithDefinedTypeTest {
         BRunUtil.invoke(result, "testQueryExprWithLangLibCallsWithArrowFunctions");
     }
 
+    @Test
+    public void testQueryExprDesugaredToLoop() {
+        BRunUtil.invoke(result, "testQueryExprDesugaredToLoop");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
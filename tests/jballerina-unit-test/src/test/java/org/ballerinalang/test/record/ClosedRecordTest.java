@@ -328,6 +328,11 @@ public class ClosedRecordTest {
         BRunUtil.invoke(compileResult, "testOverridingIncludedFieldInRecordWithReadOnlyIntersection");
     }
 
+    @Test
+    public void testFieldAccessOfValuesOfOtherRecordTypes() {
+        BRunUtil.invoke(compileResult, "testFieldAccessOfValuesOfOtherRecordTypes");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
@@ -144,6 +144,11 @@ public class RecordConstraintTableTest {
         BRunUtil.invoke(result, "testSpreadFieldInConstructor");
     }
 
+    @Test(description = "Test table iteration order after removing and updating rows")
+    public void testTableOrderAfterRemovalsAndUpdates() {
+        BRunUtil.invoke(result, "testTableOrderAfterRemovalsAndUpdates");
+    }
+
     @Test(dataProvider = "functionsToTestEmptyKeyedKeylessTbl")
     public void testEmptyKeyedKeylessTbl(String function) {
         BRunUtil.invoke(result, function);
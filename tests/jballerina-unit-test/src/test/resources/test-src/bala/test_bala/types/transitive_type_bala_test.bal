@@ -0,0 +1,43 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import testorg/transitivetypes as tt;
+
+function testTypesOfTransitiveDependency() {
+    tt:Container container = tt:getContainer("first");
+    assertEquality("first", container.item.name);
+    assertEquality(1, container.item.count);
+    assertEquality("REMOTE", container.item.kind);
+    assertEquality(0, container.others.length());
+
+    container.others.push({name: "second", count: 2});
+    assertEquality("LOCAL", container.others[0].kind);
+
+    tt:ItemKind kind = container.item.kind;
+    assertEquality("REMOTE", kind);
+
+    var counter = tt:getCounter();
+    assertEquality(1, counter.increment());
+    assertEquality(2, counter.increment());
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -0,0 +1,32 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import testorg/transitivetypesbase as base;
+
+public type Container record {|
+    base:Item item;
+    base:Item[] others = [];
+|};
+
+public type ItemKind base:Kind;
+
+public function getContainer(string name) returns Container {
+    return {item: {name, count: 1, kind: "REMOTE"}};
+}
+
+public function getCounter() returns base:Counter {
+    return new;
+}
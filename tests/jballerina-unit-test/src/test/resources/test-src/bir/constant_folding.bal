@@ -0,0 +1,51 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function foldIntArithmetic() returns int {
+    int a = 3;
+    int b = a * 4 + 2;
+    int c = (b - 4) / 2;
+    return c % 4;
+}
+
+function foldStringConcat() returns string {
+    string greeting = "Hello";
+    string name = "Ballerina";
+    return greeting + ", " + name;
+}
+
+function foldBranch() returns int {
+    int limit = 10;
+    if limit > 5 {
+        return 1;
+    }
+    return 2;
+}
+
+function foldTypeTest() returns boolean {
+    int value = 42;
+    return value is int;
+}
+
+function keepDivisionByZero() returns int|error {
+    int zero = 0;
+    return trap (10 / zero);
+}
+
+function keepOverflow() returns int|error {
+    int max = 9223372036854775807;
+    return trap (max + 1);
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Person record {|
+    string name;
+    int age;
+|};
+
+function square(int value) returns int {
+    return value * value;
+}
+
+function max(int a, int b) returns int {
+    if a > b {
+        return a;
+    }
+    return b;
+}
+
+function getName(Person person) returns string {
+    return person.name;
+}
+
+function factorial(int n) returns int {
+    if n <= 1 {
+        return 1;
+    }
+    return n * factorial(n - 1);
+}
+
+function sumOfSquares(int a, int b) returns int {
+    return square(a) + square(b);
+}
+
+function largerSquare(int a, int b) returns int {
+    int x = a;
+    x = max(x, b);
+    return square(x);
+}
+
+function greet() returns string {
+    Person person = {name: "Anne", age: 30};
+    return "Hello " + getName(person);
+}
+
+function recursiveCall() returns int {
+    return factorial(5);
+}
+
+function divide(int a, int b) returns int {
+    return a / b;
+}
+
+function checkAge(int age, error invalidAge) returns int {
+    if age < 0 {
+        panic invalidAge;
+    }
+    return age;
+}
+
+function averageAge(int totalAge, int count) returns int {
+    return divide(totalAge, count);
+}
+
+function getAge(int age) returns int {
+    return checkAge(age, error("invalid age"));
+}
+
+function trapPanicsOfInlinedFunctions() returns string[] {
+    int|error averageResult = trap averageAge(100, 0);
+    int|error ageResult = trap getAge(-1);
+    int|error divisionResult = trap divide(100, 0);
+    return [averageResult is error ? averageResult.message() : "no error",
+            ageResult is error ? ageResult.message() : "no error",
+            divisionResult is error ? divisionResult.message() : "no error"];
+}
@@ -0,0 +1,60 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function fib(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function isEven(int n) returns boolean {
+    if n == 0 {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if n == 0 {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function waitForWorker() returns int {
+    worker w returns int {
+        return 5;
+    }
+    return wait w;
+}
+
+function callsYieldingFunction() returns int {
+    return waitForWorker() + fib(10);
+}
+
+function callsFunctionPointer() returns int {
+    function (int) returns int f = fib;
+    return f(10);
+}
+
+function testFib() returns int {
+    return fib(20);
+}
+
+function testMutualRecursion() returns boolean {
+    return isEven(100) && !isOdd(100);
+}
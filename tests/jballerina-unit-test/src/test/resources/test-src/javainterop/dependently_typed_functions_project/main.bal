@@ -0,0 +1,55 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import dependently_typed_functions_project.collections;
+import dependently_typed_functions_project.records;
+import dependently_typed_functions_project.values;
+
+// The modules are independent of each other, so their code is generated concurrently
+
+function testSimpleTypes() {
+    assert(150, values:getInt());
+    assert(12.34, values:getFloat());
+    assert(23.45d, values:getDecimal());
+    assert("Hello World!", values:getString());
+    assert(true, values:getBoolean());
+}
+
+function testRecordTypes() {
+    assert(<records:Person>{name: "John Doe", age: 20}, records:getPerson());
+    assert(<records:Employee>{name: "Jane Doe", age: 25, designation: "Software Engineer"}, records:getEmployee());
+}
+
+function testCollectionTypes() {
+    assert(<map<int>>{"one": 10, "two": 20}, collections:getIntMap());
+    assert(<map<string>>{"name": "Pubudu", "city": "Panadura"}, collections:getStringMap());
+    assert(<int[]>[10, 20, 30], collections:getIntArray());
+
+    [int, record {}, float] tup = collections:getIntPersonFloatTuple();
+    assert(150, tup[0]);
+    assert(<record {}>{name: "John Doe", age: 20}, tup[1]);
+    assert(12.34, tup[2]);
+}
+
+function assert(anydata expected, anydata actual) {
+    if (expected != actual) {
+        typedesc<anydata> expT = typeof expected;
+        typedesc<anydata> actT = typeof actual;
+        string detail = "expected [" + expected.toString() + "] of type [" + expT.toString()
+                            + "], but found [" + actual.toString() + "] of type [" + actT.toString() + "]";
+        panic error("{AssertionError}", message = detail);
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+public type Person record {
+    readonly string name;
+    int age;
+};
+
+public type Employee record {
+    *Person;
+    string designation;
+};
+
+public function getPerson() returns Person => getRecord();
+
+public function getEmployee() returns Employee => getRecord(td = Employee);
+
+function getRecord(typedesc<anydata> td = Person) returns td = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.VariableReturnType",
+    name: "getRecord",
+    paramTypes: ["io.ballerina.runtime.api.values.BTypedesc"]
+} external;
@@ -0,0 +1,33 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+public function getInt() returns int => getValue(int);
+
+public function getFloat() returns float => getValue(float);
+
+public function getDecimal() returns decimal => getValue(decimal);
+
+public function getString() returns string => getValue(string);
+
+public function getBoolean() returns boolean => getValue(boolean);
+
+function getValue(typedesc<int|float|decimal|string|boolean> td) returns td = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.VariableReturnType",
+    name: "getValue",
+    paramTypes: ["io.ballerina.runtime.api.values.BTypedesc"]
+} external;
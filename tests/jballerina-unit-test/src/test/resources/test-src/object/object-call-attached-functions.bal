@@ -34,3 +34,34 @@ class Person {
         return self.getName();
     }
 }
+
+public function testObjectCallAttachedFunctionsOfSubtype() returns int {
+    Counter c1 = new Counter();
+    Counter c2 = new StepCounter(5);
+    int|string a = c1.increment(2);
+    int? b = c2.increment(3);
+    return <int>a + <int>b + c1.increment(1);
+}
+
+class Counter {
+    public int count = 0;
+
+    function increment(int by) returns int {
+        self.count += by;
+        return self.count;
+    }
+}
+
+class StepCounter {
+    public int count = 0;
+    int step;
+
+    function init(int step) {
+        self.step = step;
+    }
+
+    function increment(int by) returns int {
+        self.count += by * self.step;
+        return self.count;
+    }
+}
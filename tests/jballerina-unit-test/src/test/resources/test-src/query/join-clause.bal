@@ -527,6 +527,54 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+type PricedItem record {|
+    string name;
+    decimal price;
+|};
+
+function testJoinOnDecimalKeys() {
+    decimal[] prices = [1.0, 2.50, 3];
+    PricedItem[] items = [{name: "pen", price: 1.00}, {name: "book", price: 2.5}, {name: "bag", price: 4}];
+
+    string[] names = from decimal price in prices
+            join PricedItem item in items on price equals item.price
+            select item.name;
+    assertEquality(["pen", "book"], names);
+
+    string?[] outerNames = from decimal price in prices
+            outer join PricedItem item in items on price equals item?.price
+            select item?.name;
+    assertEquality(["pen", "book", null], outerNames);
+}
+
+function testJoinOnFloatKeys() {
+    float[] xs = [0.0, 1.5, float:NaN, 3.0];
+    float[] ys = [-0.0, 1.5, float:NaN, 2.0];
+
+    float[] matched = from float x in xs
+            join float y in ys on x equals y
+            select y;
+    assertEquality(3, matched.length());
+    assertEquality(0.0, matched[0]);
+    assertEquality(1.5, matched[1]);
+    assertEquality(true, matched[2].isNaN());
+}
+
+function testJoinOnMapKeys() {
+    map<int>[] keys = [{a: 1, b: 2}, {c: 3}];
+    record {|map<int> key; string name;|}[] entries = [{key: {b: 2, a: 1}, name: "ab"}, {key: {c: 4}, name: "c"}];
+
+    string[] names = from map<int> key in keys
+            join var entry in entries on key equals entry.key
+            select entry.name;
+    assertEquality(["ab"], names);
+
+    string?[] outerNames = from map<int> key in keys
+            outer join var entry in entries on key equals entry?.key
+            select entry?.name;
+    assertEquality(["ab", null], outerNames);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
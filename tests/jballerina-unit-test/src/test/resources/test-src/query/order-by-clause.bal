@@ -502,3 +502,69 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+function testQueryExprWithOrderByAndLimitOverManyFrames() returns boolean {
+    int[] values = from int i in 0 ..< 100 select i;
+
+    // keys repeat, so frames with equal keys have to keep their original relative order.
+    int[] topValues = from var v in values
+         order by v % 10 descending
+         limit 7
+         select v;
+
+    int[] topValuesWithLargeLimit = from var v in values
+         order by v % 10
+         limit 1000
+         select v;
+
+    int[] sortedValues = from var v in values
+         order by v % 10
+         select v;
+
+    int?[] optionalValues = [3, (), 1, (), 2];
+    int offset = 1;
+    int?[] topOptionalValues = from var v in optionalValues
+         order by v descending
+         limit offset + 2
+         select v;
+
+    int?[] topOptionalValuesWithNil = from var v in optionalValues
+         order by v
+         limit offset + 3
+         select v;
+
+    return topValues == [9, 19, 29, 39, 49, 59, 69] && topValuesWithLargeLimit == sortedValues
+            && topOptionalValues == [3, 2, 1] && topOptionalValuesWithNil == [1, 2, 3, ()];
+}
+
+function testQueryExprWithOrderByAndLimitReferringQueryVariables() returns boolean {
+    int[] values = from int i in 0 ..< 100 select i;
+
+    // the limit is evaluated for each ordered frame, hence it cannot be evaluated on the first frame.
+    int[] topValues = from var v in values
+         let int n = v % 5 + 1
+         order by v descending
+         limit n
+         select v;
+
+    return topValues == [99, 98, 97];
+}
+
+int limitEvaluationCount = 0;
+
+function getLimit() returns int {
+    limitEvaluationCount += 1;
+    return 3;
+}
+
+function testQueryExprWithOrderByAndLimitWithSideEffects() returns boolean {
+    int[] values = from int i in 0 ..< 100 select i;
+
+    int[] topValues = from var v in values
+         order by v descending
+         limit getLimit()
+         select v;
+
+    // evaluated once for each emitted frame and once for the frame exceeding the limit.
+    return topValues == [99, 98, 97] && limitEvaluationCount == 4;
+}
@@ -750,6 +750,57 @@ function testQueryExprWithLangLibCallsWithArrowFunctions() {
     assertEquality(true, filteredPersons == [[{"firstName":"John", "lastName":"David", "age":50}]]);
 }
 
+function testQueryExprDesugaredToLoop() {
+    (int|string)[] values = [1, "a", 2, 3, "b", 4];
+
+    int[] evenInts = from var v in values
+        where v is int
+        let int doubled = v * 2
+        where v % 2 == 0
+        select doubled + v;
+    assertEquality(true, evenInts == [6, 12]);
+
+    string[] strings = from var v in values
+        where v is string
+        select v;
+    assertEquality(true, strings == ["a", "b"]);
+
+    int count = 0;
+    int[] empty = [];
+    int[] counts = from int i in empty
+        select count + i;
+    assertEquality(true, counts == []);
+
+    float[] widened = from int i in [1, 2, 3]
+        let int j = i + 1
+        select <float>(i * j);
+    assertEquality(true, widened == [2.0, 6.0, 12.0]);
+
+    // the query variables of each query are separate local variables, and the collection is evaluated once.
+    int[] first = from int i in getFusedCollection()
+        let int j = i * 2
+        select j;
+    int[] second = from int i in getFusedCollection()
+        let int j = i * 3
+        where j > 3
+        select i + j;
+    assertEquality(true, first == [2, 4, 6]);
+    assertEquality(true, second == [8, 12]);
+    assertEquality(2, fusedCollectionEvaluations);
+
+    // queries nesting other queries, and the nested queries themselves, use the stream pipeline.
+    int[][] nested = from int i in [1, 2]
+        select from int j in [10, 20] select i + j;
+    assertEquality(true, nested == [[11, 21], [12, 22]]);
+}
+
+int fusedCollectionEvaluations = 0;
+
+function getFusedCollection() returns int[] {
+    fusedCollectionEvaluations += 1;
+    return [1, 2, 3];
+}
+
 function assertEquality(any|error expected, any|error actual) {
     if expected is anydata && actual is anydata && expected == actual {
         return;
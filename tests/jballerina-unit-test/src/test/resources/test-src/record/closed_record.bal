@@ -406,6 +406,43 @@ function testOverridingIncludedFieldInRecordWithReadOnlyIntersection() {
     assertEquality("world", corge.body.b);
 }
 
+type Point record {|
+    int x;
+    float y;
+    string label;
+|};
+
+type LabeledPoint record {|
+    int x;
+    float y;
+    string label;
+    string color = "red";
+|};
+
+function testFieldAccessOfValuesOfOtherRecordTypes() {
+    Point p1 = {x: 1, y: 2.5, label: "a"};
+    LabeledPoint p2 = {x: 3, y: 4.5, label: "b"};
+    record {| int x; float y; string label; string...; |} p3 = p2;
+    Point & readonly p4 = {x: 5, y: 6.5, label: "c"};
+    Point[] points = [p1, p4];
+
+    int sum = 0;
+    float total = 0;
+    string labels = "";
+    foreach Point p in points {
+        sum += p.x;
+        total += p.y;
+        labels += p.label;
+    }
+    int|string x = p3.x;
+    assertEquality(6, sum);
+    assertEquality(9.0, total);
+    assertEquality("ac", labels);
+    assertEquality(3, x);
+    assertEquality(4.5, p3.y);
+    assertEquality("b", p3.label);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
@@ -745,6 +745,38 @@ function testEqualityWithEmptyKeyedKeylessTbl() {
 
 const ASSERTION_ERROR_REASON = "AssertionError";
 
+type IntKeyedRow record {|
+    readonly int id;
+    string value;
+|};
+
+function testTableOrderAfterRemovalsAndUpdates() {
+    table<IntKeyedRow> key(id) tbl = table [];
+    foreach int i in 0 ..< 100 {
+        tbl.add({id: i, value: i.toString()});
+    }
+    // remove most of the rows, so that adding more rows closes the gaps left by them.
+    foreach int i in 0 ..< 100 {
+        if i % 10 != 0 {
+            _ = tbl.remove(i);
+        }
+    }
+    tbl.put({id: 50, value: "updated"});
+    foreach int i in 100 ..< 200 {
+        tbl.add({id: i, value: i.toString()});
+    }
+
+    assertEquality(110, tbl.length());
+    assertFalse(tbl.hasKey(55));
+    assertEquality("updated", tbl.get(50).value);
+    assertEquality(199, tbl.get(199).id);
+
+    int[] ids = from var row in tbl select row.id;
+    assertEquality([0, 10, 20, 30, 40, 50, 60, 70, 80, 90], ids.slice(0, 10));
+    assertEquality(100, ids[10]);
+    assertEquality(199, ids[109]);
+}
+
 function assertTrue(any|error actual) {
     assertEquality(true, actual);
 }